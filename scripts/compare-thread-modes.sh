@@ -0,0 +1,48 @@
+#!/usr/bin/env bash
+# Compare platform-thread and virtual-thread request handling under load
+# Usage: scripts/compare-thread-modes.sh [user-id] [duration-seconds]
+# Runs against the seeded in-memory H2 database (h2 profile). Virtual threads need Java 21+; on an
+# older JVM the virtual-threads profile only adds the database guard, and is reported as platform+guard.
+set -euo pipefail
+
+USER_ID=${1:-1}
+DURATION=${2:-60}
+PORT=8081
+JAR=target/task-management-system-1.0.0.jar
+PATHS="--path=/api/tasks/user/${USER_ID}/pending --path=/api/tasks/user/${USER_ID}/stats --path=/api/tasks/due-today"
+JAVA_MAJOR=$(java -XshowSettings:properties -version 2>&1 | awk -F' = ' '/java.specification.version/ {print $2}')
+
+# Rebuild the jar even if only the profile changed, so H2 is on its classpath
+rm -f "$JAR"
+mvn -q -Ph2 -DskipTests package
+# HttpLoadDriver is a test source
+mvn -q test-compile dependency:build-classpath -Dmdep.includeScope=test \
+    -Dmdep.outputFile=target/test-classpath.txt > /dev/null
+DRIVER_CP="target/test-classes:$(cat target/test-classpath.txt)"
+
+run_driver() {
+    java -cp "$DRIVER_CP" com.taskmanagement.loadtest.HttpLoadDriver \
+        --base-url="http://localhost:${PORT}" --clients="$1" --duration="$DURATION" $PATHS
+}
+
+for PROFILE in h2 h2,virtual-threads; do
+    MODE=platform
+    if [ "$PROFILE" = "h2,virtual-threads" ]; then
+        MODE=virtual-threads
+        [ "$JAVA_MAJOR" -lt 21 ] && MODE=platform+guard
+    fi
+
+    java -jar "$JAR" --spring.profiles.active=$PROFILE > "target/load-${MODE}.log" 2>&1 &
+    APP_PID=$!
+    until curl -sf "http://localhost:${PORT}/api/tasks/due-today" > /dev/null; do
+        kill -0 $APP_PID 2>/dev/null || { echo "application failed to start, see target/load-${MODE}.log"; exit 1; }
+        sleep 1
+    done
+
+    for CLIENTS in 1000 5000; do
+        echo "java=${JAVA_MAJOR} mode=${MODE} $(run_driver "$CLIENTS")"
+    done
+
+    kill "$APP_PID"
+    wait "$APP_PID" 2>/dev/null || true
+done
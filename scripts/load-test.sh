@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# End-to-end load test against a synthetic organisation (see OrganisationGenerator, LoadTestSuite)
+# Usage: scripts/load-test.sh [tasks] [duration-seconds] [clients] [baseline-report]
+#   e.g. scripts/load-test.sh 1000000 60 100 target/loadtest-baseline.json
+# Starts the application on in-memory H2 with the local SMTP sink, runs every scenario and writes
+# target/loadtest-report.json. Exits non-zero if a threshold (loadtest-thresholds.properties) or,
+# with a baseline report, the regression check fails. Copy a good report to use it as the baseline.
+set -uo pipefail
+
+TASKS=${1:-1000000}
+DURATION=${2:-60}
+CLIENTS=${3:-100}
+BASELINE=${4:-}
+USERS=5000
+PORT=8085
+BASE="http://localhost:${PORT}"
+REPORT=target/loadtest-report.json
+# The jobs endpoint is admin-only; a fresh password per run
+ADMIN_PASSWORD=$(head -c 18 /dev/urandom | base64)
+
+# The generator, SMTP sink and driver are test sources; run the application with them on the classpath
+mvn -q test-compile dependency:build-classpath -Dmdep.includeScope=test \
+    -Dmdep.outputFile=target/test-classpath.txt > /dev/null || exit 1
+CP="target/test-classes:target/classes:$(cat target/test-classpath.txt)"
+
+java -Xmx3g -cp "$CP" com.taskmanagement.TaskManagementApplication --spring.profiles.active=prod,loadtest --server.port=$PORT \
+    --taskmanagement.loadtest.users=$USERS --taskmanagement.loadtest.tasks="$TASKS" \
+    --taskmanagement.admin.password="$ADMIN_PASSWORD" > target/loadtest.log 2>&1 &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null' EXIT
+# Readiness waits for data generation and warm-up
+until curl -sf "$BASE/actuator/health/readiness" > /dev/null; do
+    kill -0 $APP_PID 2>/dev/null || { echo "application failed to start, see target/loadtest.log"; exit 1; }
+    sleep 2
+done
+
+ARGS=(--base-url="$BASE" --users=$USERS --tasks="$TASKS" --clients="$CLIENTS" --duration="$DURATION" --report="$REPORT"
+      --admin-password="$ADMIN_PASSWORD")
+[ -n "$BASELINE" ] && ARGS+=(--baseline="$BASELINE")
+java -cp "$CP" com.taskmanagement.loadtest.LoadTestSuite "${ARGS[@]}"
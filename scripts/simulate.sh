@@ -0,0 +1,34 @@
+#!/usr/bin/env bash
+# Replay the scheduled jobs over simulated days against the seeded H2 dataset (see SimulationRunner)
+# Usage: scripts/simulate.sh [days] [start-date] [min-interval-minutes]
+#   min-interval-minutes=1440 runs hourly jobs once per simulated day (much faster for long replays)
+# Prints one line per simulated day; the full report is written to target/simulation-report.json.
+set -uo pipefail
+
+DAYS=${1:-30}
+START=${2:-}
+MIN_INTERVAL=${3:-0}
+PORT=8083
+BASE="http://localhost:${PORT}"
+JAR=target/task-management-system-1.0.0.jar
+REPORT=target/simulation-report.json
+# The simulation endpoints are admin-only; a fresh password per run
+ADMIN_PASSWORD=$(head -c 18 /dev/urandom | base64)
+
+mvn -q -Ph2 -DskipTests package || exit 1
+
+java -jar "$JAR" --spring.profiles.active=h2,simulation --server.port=$PORT \
+    --taskmanagement.simulation.start="$START" \
+    --taskmanagement.simulation.min-interval-minutes="$MIN_INTERVAL" \
+    --taskmanagement.admin.password="$ADMIN_PASSWORD" > target/simulation.log 2>&1 &
+APP_PID=$!
+trap 'kill $APP_PID 2>/dev/null' EXIT
+until curl -sf "$BASE/actuator/health" > /dev/null; do
+    kill -0 $APP_PID 2>/dev/null || { echo "application failed to start, see target/simulation.log"; exit 1; }
+    sleep 1
+done
+
+curl -sf -u "admin:$ADMIN_PASSWORD" -X POST "$BASE/api/admin/simulation/run?days=${DAYS}" -o "$REPORT" || { echo "simulation failed"; exit 1; }
+
+jq -r '.daily[] | "\(.date)  jobs=\(.durationMs)ms  rows=\(.rows)  emails=\(.emails)"' "$REPORT"
+jq -r '"\(.days) days (\(.from) .. \(.to)) replayed in \(.wallClockMs) ms: \(.jobRuns) job runs, \(.rows) rows, \(.emails) emails, \(.failures) failures"' "$REPORT"
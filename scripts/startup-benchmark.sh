@@ -0,0 +1,71 @@
+#!/usr/bin/env bash
+# Time from JVM launch to the first successful request, for each startup mode
+# Usage: scripts/startup-benchmark.sh [runs] [-- extra application arguments]
+#
+# Modes:
+#   ddl-update  fat jar with Hibernate ddl-auto=update instead of Flyway (the previous default)
+#   jar         fat jar, Flyway migrations, no AOT
+#   aot         thin jar + target/lib with the Spring AOT initializers (-Dspring.aot.enabled=true)
+#   aot-cds     aot plus a class-data-sharing archive recorded by a training run
+#
+# Requires MySQL as configured in application.properties. MVN_ARGS overrides the build
+# (default -Pfast-startup). Beans behind @ConditionalOnProperty and @Profile are fixed when
+# the AOT artifact is built, so runtime switches such as taskmanagement.tracing.repository-spans
+# don't apply to the aot modes.
+set -uo pipefail
+
+RUNS=${1:-5}
+shift || true
+[ "${1:-}" = "--" ] && shift
+APP_ARGS=("$@")
+
+PORT=8083
+URL="http://localhost:${PORT}/api/tasks/due-today"
+FAT_JAR=target/task-management-system-1.0.0-exec.jar
+THIN_JAR=target/task-management-system-1.0.0.jar
+CDS_ARCHIVE=target/application.jsa
+
+mvn -q ${MVN_ARGS:--Pfast-startup} -DskipTests package || exit 1
+
+# Training run: refresh the context, exit, and archive every class loaded on the way
+rm -f "$CDS_ARCHIVE"
+java -XX:ArchiveClassesAtExit="$CDS_ARCHIVE" -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh \
+    -jar "$THIN_JAR" --server.port=$PORT "${APP_ARGS[@]}" > target/startup-cds-training.log 2>&1
+[ -f "$CDS_ARCHIVE" ] || { echo "CDS training run failed, see target/startup-cds-training.log"; exit 1; }
+
+command_for() {
+    case $1 in
+        ddl-update) echo "java -jar $FAT_JAR --spring.flyway.enabled=false --spring.jpa.hibernate.ddl-auto=update" ;;
+        jar)        echo "java -jar $FAT_JAR" ;;
+        aot)        echo "java -Dspring.aot.enabled=true -jar $THIN_JAR" ;;
+        aot-cds)    echo "java -XX:SharedArchiveFile=$CDS_ARCHIVE -Dspring.aot.enabled=true -jar $THIN_JAR" ;;
+    esac
+}
+
+# Prints the time until $URL answers 200 (e.g. "1840ms"), or "failed"
+time_to_first_request() {
+    local mode=$1 log=target/startup-$1.log start end pid
+    start=$(date +%s%N)
+    $(command_for "$mode") --server.port=$PORT "${APP_ARGS[@]}" > "$log" 2>&1 &
+    pid=$!
+    until curl -sf -o /dev/null "$URL"; do
+        kill -0 $pid 2>/dev/null || { echo failed; return; }
+        sleep 0.05
+    done
+    end=$(date +%s%N)
+    kill $pid
+    wait $pid 2>/dev/null
+    echo "$(( (end - start) / 1000000 ))ms"
+}
+
+for MODE in ddl-update jar aot aot-cds; do
+    TIMES=()
+    for _ in $(seq 1 "$RUNS"); do
+        TIMES+=("$(time_to_first_request "$MODE")")
+    done
+    SORTED=$(printf '%s\n' "${TIMES[@]}" | sort -n | tr '\n' ' ')
+    MEDIAN=$(printf '%s\n' "${TIMES[@]}" | sort -n | awk '{a[NR]=$1} END {print a[int((NR+1)/2)]}')
+    STARTED=$(grep -o 'Started TaskManagementApplication in [0-9.]* seconds' "target/startup-${MODE}.log" | awk '{print $4}')
+    printf 'mode=%-10s first-request-median=%s runs=[%s] spring-started=%ss\n' \
+        "$MODE" "$MEDIAN" "${SORTED% }" "${STARTED:--}"
+done
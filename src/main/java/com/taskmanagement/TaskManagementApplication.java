@@ -3,7 +3,6 @@ package com.taskmanagement;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main Application Class for Personal Task & Duty Management System
@@ -21,7 +20,6 @@ import org.springframework.scheduling.annotation.EnableScheduling;
  * @author Yanamala Sanjay
  */
 @SpringBootApplication
-@EnableScheduling  // Enable scheduled tasks (cron jobs)
 @EnableAsync  // Enable asynchronous email sending
 public class TaskManagementApplication {
 
@@ -0,0 +1,24 @@
+package com.taskmanagement.config;
+
+import org.springframework.boot.task.ThreadPoolTaskExecutorCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Async executor configuration
+ * Reminder and digest jobs can enqueue thousands of @Async emails in one run, far more than the
+ * queue holds. Running the overflow on the submitting thread slows the job down instead of
+ * rejecting the send and rolling the job back.
+ *
+ * @author Yanamala Sanjay
+ */
+@Configuration
+public class AsyncConfig {
+
+    @Bean
+    public ThreadPoolTaskExecutorCustomizer callerRunsWhenSaturated() {
+        return executor -> executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+
+/**
+ * Clock for business dates and times
+ * Due dates, overdue checks, reminders, template generation and digests all read "now" from this
+ * bean instead of LocalDate.now(), so the simulation profile can replace it with a VirtualClock
+ * (see SimulationConfig). Operational timestamps (export jobs, pipeline stats, recording file
+ * names) stay on the system clock.
+ *
+ * @author Yanamala Sanjay
+ */
+@Configuration
+public class ClockConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanagement.simulation.enabled", havingValue = "false", matchIfMissing = true)
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Wall-clock scheduling of @Scheduled jobs (cron jobs)
+ * Off in simulation mode, where SimulationRunner fires the same methods at virtual times instead.
+ *
+ * @author Yanamala Sanjay
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "taskmanagement.simulation.enabled", havingValue = "false", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -1,21 +1,30 @@
 package com.taskmanagement.config;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
 
 /**
  * Security Configuration
- * Simplified for demo purposes
+ * Simplified for demo purposes: the task API is open, /api/admin/** (profiling, traces, simulation)
+ * needs HTTP Basic as the admin user. Without taskmanagement.admin.password no admin user exists
+ * and every admin request is refused.
  *
  * @author Yanamala Sanjay
  */
 @Configuration
 @EnableWebSecurity
+@Slf4j
 public class SecurityConfig {
 
     @Bean
@@ -23,12 +32,30 @@ public class SecurityConfig {
         http
                 .csrf(csrf -> csrf.disable())
                 .authorizeHttpRequests(auth -> auth
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN")
                         .anyRequest().permitAll()
-                );
+                )
+                .httpBasic(Customizer.withDefaults());
 
         return http.build();
     }
 
+    @Bean
+    public UserDetailsService adminUsers(@Value("${taskmanagement.admin.username:admin}") String username,
+                                         @Value("${taskmanagement.admin.password:}") String password,
+                                         PasswordEncoder passwordEncoder) {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        if (password.isBlank()) {
+            log.info("No taskmanagement.admin.password set, admin endpoints are disabled");
+        } else {
+            users.createUser(User.withUsername(username)
+                    .password(passwordEncoder.encode(password))
+                    .roles("ADMIN")
+                    .build());
+        }
+        return users;
+    }
+
     @Bean
     public PasswordEncoder passwordEncoder() {
         return new BCryptPasswordEncoder();
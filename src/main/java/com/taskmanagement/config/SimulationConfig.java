@@ -0,0 +1,46 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.simulation.CountingMailSender;
+import com.taskmanagement.simulation.VirtualClock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncConfigurer;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.Executor;
+
+/**
+ * Simulation mode: virtual time for replaying months of scheduled jobs in minutes
+ * - The application Clock is a VirtualClock starting at taskmanagement.simulation.start (default today)
+ * - Wall-clock scheduling is off (see SchedulingConfig); SimulationRunner fires the jobs instead
+ * - @Async emails run on the calling thread, so they see the job's virtual time and count towards it
+ * - Emails are built but only counted, never sent
+ *
+ * Activate with: --spring.profiles.active=h2,simulation (seeded H2 dataset)
+ *
+ * @author Yanamala Sanjay
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskmanagement.simulation.enabled", havingValue = "true")
+public class SimulationConfig implements AsyncConfigurer {
+
+    @Bean
+    public VirtualClock clock(@Value("${taskmanagement.simulation.start:}") String start) {
+        LocalDate firstDay = start.isBlank() ? LocalDate.now() : LocalDate.parse(start);
+        return new VirtualClock(firstDay.atStartOfDay(), ZoneId.systemDefault());
+    }
+
+    @Bean
+    public CountingMailSender mailSender() {
+        return new CountingMailSender();
+    }
+
+    @Override
+    public Executor getAsyncExecutor() {
+        return new SyncTaskExecutor();
+    }
+}
@@ -0,0 +1,80 @@
+package com.taskmanagement.config;
+
+import com.taskmanagement.tracing.FileSpanExporter;
+import com.taskmanagement.tracing.InMemorySpanExporter;
+import com.taskmanagement.tracing.TracingJpaTransactionManager;
+import io.micrometer.common.KeyValue;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.observation.ObservationRegistryCustomizer;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.core.task.support.ContextPropagatingTaskDecorator;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Tracing configuration
+ * Demonstrates:
+ * - Spans for @Observed services, repositories and transaction commits
+ * - Trace context carried into @Async executors
+ * - Offline exporters (in memory, and JSON lines on disk when taskmanagement.tracing.file is set)
+ *
+ * Only a small share of requests is sampled by default, and repository calls get no span of
+ * their own; the tracing profile samples everything and adds them.
+ *
+ * @author Yanamala Sanjay
+ */
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    public ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+        return new ObservedAspect(observationRegistry);
+    }
+
+    /**
+     * Record the thread each span ran on, which makes async hand-offs visible in a trace
+     */
+    @Bean
+    public ObservationRegistryCustomizer<ObservationRegistry> threadNameObservationFilter() {
+        return registry -> registry.observationConfig().observationFilter(context ->
+                context.addHighCardinalityKeyValue(KeyValue.of("thread.name", Thread.currentThread().getName())));
+    }
+
+    /**
+     * Picked up by Spring Boot for the @Async executor
+     */
+    @Bean
+    public TaskDecorator contextPropagatingTaskDecorator() {
+        return new ContextPropagatingTaskDecorator();
+    }
+
+    @Bean
+    public JpaTransactionManager transactionManager(ObservationRegistry observationRegistry,
+                                                    ObjectProvider<TransactionManagerCustomizers> customizers) {
+        JpaTransactionManager transactionManager = new TracingJpaTransactionManager(observationRegistry);
+        customizers.ifAvailable(c -> c.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
+
+    @Bean
+    public InMemorySpanExporter inMemorySpanExporter(
+            @Value("${taskmanagement.tracing.buffer-size:1000}") int bufferSize) {
+        return new InMemorySpanExporter(bufferSize);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanagement.tracing.file")
+    public FileSpanExporter fileSpanExporter(@Value("${taskmanagement.tracing.file}") String file) throws IOException {
+        return new FileSpanExporter(Path.of(file));
+    }
+}
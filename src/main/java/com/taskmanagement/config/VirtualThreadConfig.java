@@ -0,0 +1,67 @@
+package com.taskmanagement.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Support for the virtual-threads profile
+ * Spring Boot switches Tomcat, @Async and @Scheduled to virtual threads when
+ * spring.threads.virtual.enabled=true on Java 21+. Blocking JDBC is then no longer limited by the
+ * number of request threads, so this configuration puts a semaphore in front of the DataSource
+ * sized to the Hikari pool.
+ *
+ * Activate with: --spring.profiles.active=virtual-threads
+ *
+ * @author Yanamala Sanjay
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskmanagement.db.concurrency-guard.enabled", havingValue = "true")
+@Slf4j
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConnectionLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int maxConcurrency = environment.getProperty(
+                        "taskmanagement.db.concurrency-guard.max-concurrency", Integer.class, poolSize);
+                long timeout = environment.getProperty(
+                        "taskmanagement.db.concurrency-guard.acquire-timeout-ms", Long.class, 30000L);
+
+                log.info("Limiting concurrent database access to {} connections (virtual threads: {})",
+                        maxConcurrency, environment.getProperty("spring.threads.virtual.enabled", "false"));
+                return new ConnectionLimitingDataSource(dataSource, maxConcurrency, timeout);
+            }
+        };
+    }
+
+    /**
+     * Expose how many callers are queued on the guard and how many permits are free
+     */
+    @Bean
+    public MeterBinder connectionGuardMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource guard) {
+                Gauge.builder("taskmanagement.db.guard.queued", guard, ConnectionLimitingDataSource::getQueueLength)
+                        .description("Callers waiting for a database permit")
+                        .register(registry);
+                Gauge.builder("taskmanagement.db.guard.available",
+                                guard, ConnectionLimitingDataSource::getAvailablePermits)
+                        .register(registry);
+            }
+        };
+    }
+}
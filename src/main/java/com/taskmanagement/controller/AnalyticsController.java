@@ -0,0 +1,121 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.BurnDownPoint;
+import com.taskmanagement.dto.CompletionTimeStats;
+import com.taskmanagement.dto.TaskTrendPoint;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.service.AnalyticsService;
+import com.taskmanagement.service.CompletionTimeSketchStore;
+import com.taskmanagement.service.DailyStatsRollup;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * REST Controller for completion-time and task-count analytics
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/analytics")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AnalyticsController {
+
+    private final AnalyticsService analyticsService;
+    private final CompletionTimeSketchStore sketchStore;
+    private final DailyStatsRollup dailyStatsRollup;
+
+    /**
+     * Get p50/p90/p99 time-to-complete
+     * GET /api/analytics/completion-times?from=2024-01-01&to=2024-03-31&department=Engineering&groupBy=week,category
+     */
+    @GetMapping("/completion-times")
+    public ResponseEntity<List<CompletionTimeStats>> getCompletionTimes(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) TaskPriority priority,
+            @RequestParam(required = false) List<String> groupBy) {
+        Set<String> dimensions = groupBy == null ? Set.of() : new LinkedHashSet<>(groupBy);
+        try {
+            return ResponseEntity.ok(analyticsService.getCompletionTimes(
+                    department, category, priority, from, to, dimensions));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Rebuild sketches from the tasks table (one-off backfill)
+     * POST /api/analytics/completion-times/rebuild
+     */
+    @PostMapping("/completion-times/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildCompletionTimes() {
+        try {
+            return ResponseEntity.ok(Map.of("completedTasksProcessed", sketchStore.rebuild()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+    }
+
+    /**
+     * Get created/completed/open/overdue tasks per period
+     * GET /api/analytics/trend?from=2024-01-01&to=2024-12-31&department=Engineering&period=week
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<List<TaskTrendPoint>> getTrend(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String category,
+            @RequestParam(defaultValue = "day") String period) {
+        try {
+            return ResponseEntity.ok(analyticsService.getTrend(department, userId, category, from, to, period));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Get remaining open tasks per day against an ideal line
+     * GET /api/analytics/burn-down?from=2024-01-01&to=2024-12-31&department=Engineering
+     */
+    @GetMapping("/burn-down")
+    public ResponseEntity<List<BurnDownPoint>> getBurnDown(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String category) {
+        try {
+            return ResponseEntity.ok(analyticsService.getBurnDown(department, userId, category, from, to));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * Rebuild daily task statistics from the tasks table (one-off backfill)
+     * POST /api/analytics/daily-stats/rebuild?from=2024-01-01
+     */
+    @PostMapping("/daily-stats/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildDailyStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from) {
+        try {
+            return ResponseEntity.ok(Map.of("bucketsWritten", dailyStatsRollup.rebuild(from)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.DepartmentSummary;
+import com.taskmanagement.service.DepartmentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for department views
+ * One call replaces /api/tasks/user/{userId}/stats for every member of a department.
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/departments")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DepartmentController {
+
+    private final DepartmentService departmentService;
+
+    /**
+     * Get a department rollup: totals, per-member breakdown and overdue hot spots
+     * GET /api/departments/{department}/summary
+     */
+    @GetMapping("/{department}/summary")
+    public ResponseEntity<DepartmentSummary> getSummary(@PathVariable String department) {
+        try {
+            return ResponseEntity.ok(departmentService.getSummary(department));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
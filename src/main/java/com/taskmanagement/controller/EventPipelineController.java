@@ -0,0 +1,32 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.EventConsumerStats;
+import com.taskmanagement.event.DomainEventPipeline;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller exposing domain event pipeline health
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class EventPipelineController {
+
+    private final DomainEventPipeline eventPipeline;
+
+    /**
+     * Get per-consumer lag and throughput
+     * GET /api/events/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<List<EventConsumerStats>> getStats() {
+        return ResponseEntity.ok(eventPipeline.getStats());
+    }
+}
@@ -0,0 +1,174 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.ExportJobInfo;
+import com.taskmanagement.dto.ExportRequest;
+import com.taskmanagement.service.ExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * REST Controller for asynchronous exports
+ * POST queues a job and returns 202 with its status URL; poll it until COMPLETED, then download
+ * the file. Downloads support single byte ranges, so an interrupted download can be resumed.
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/exports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ExportController {
+
+    // Tomcat sendfile: the connector copies the file to the socket itself, without passing it through the JVM heap
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final ExportService exportService;
+
+    /**
+     * Start an export
+     * POST /api/exports   {"department": "Engineering", "dataset": "TASKS", "format": "CSV"}
+     */
+    @PostMapping
+    public ResponseEntity<ExportJobInfo> startExport(@Valid @RequestBody ExportRequest request) {
+        try {
+            ExportJobInfo job = exportService.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/exports/" + job.getId()))
+                    .body(job);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "60")
+                    .build();
+        }
+    }
+
+    /**
+     * List exports, newest first
+     * GET /api/exports
+     */
+    @GetMapping
+    public ResponseEntity<List<ExportJobInfo>> getExports() {
+        return ResponseEntity.ok(exportService.getJobs());
+    }
+
+    /**
+     * Get export status
+     * GET /api/exports/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<ExportJobInfo> getExport(@PathVariable String id) {
+        try {
+            return ResponseEntity.ok(exportService.getJob(id));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Download a completed export (gzip-compressed CSV or NDJSON)
+     * GET /api/exports/{id}/file   (optional Range: bytes=start-end)
+     */
+    @GetMapping("/{id}/file")
+    public void downloadExport(@PathVariable String id,
+                               @RequestHeader(value = HttpHeaders.RANGE, required = false) String range,
+                               HttpServletRequest request, HttpServletResponse response) throws IOException {
+        ExportService.ExportFile file;
+        try {
+            file = exportService.getFile(id);
+        } catch (IllegalStateException e) {
+            response.sendError(HttpStatus.CONFLICT.value());
+            return;
+        } catch (Exception e) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+
+        long length = file.sizeBytes();
+        long start = 0;
+        long end = length - 1;
+        List<HttpRange> ranges = parseRanges(range);
+        if (ranges.size() == 1) {
+            start = ranges.get(0).getRangeStart(length);
+            end = ranges.get(0).getRangeEnd(length);
+            if (start >= length || start > end) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+        }
+        // Multiple ranges are answered with the whole file, which RFC 9110 allows
+
+        response.setContentType("application/gzip");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.downloadName() + "\"");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentLengthLong(end - start + 1);
+
+        // A body-buffering filter (e.g. ShallowEtagHeaderFilter) must see the bytes, so sendfile is skipped there
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))
+                && WebUtils.getNativeResponse(response, ContentCachingResponseWrapper.class) == null) {
+            request.setAttribute(SENDFILE_FILENAME, file.path().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);  // Exclusive
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(file.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position <= end) {
+                position += channel.transferTo(position, end + 1 - position, out);
+            }
+        }
+    }
+
+    /**
+     * Delete a finished export and its file
+     * DELETE /api/exports/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> deleteExport(@PathVariable String id) {
+        try {
+            exportService.delete(id);
+            return ResponseEntity.ok().build();
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Ranges of a Range header; a malformed header is ignored, as RFC 9110 asks
+     */
+    private static List<HttpRange> parseRanges(String range) {
+        if (range == null) {
+            return List.of();
+        }
+        try {
+            return HttpRange.parseRanges(range);
+        } catch (IllegalArgumentException e) {
+            return List.of();
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.taskmanagement.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.service.ImportService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * REST Controller for bulk imports of tasks and templates
+ * The request body (CSV with a header row, or NDJSON) is read as a stream; the response is an
+ * NDJSON report with one line per rejected row, written as rows are rejected, and a summary line.
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class ImportController {
+
+    private static final MediaType CSV = MediaType.parseMediaType("text/csv");
+    private static final MediaType NDJSON = MediaType.APPLICATION_NDJSON;
+
+    private final ImportService importService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Import tasks
+     * POST /api/import/tasks   (Content-Type: text/csv or application/x-ndjson)
+     */
+    @PostMapping("/tasks")
+    public void importTasks(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                            InputStream body, HttpServletResponse response) throws IOException {
+        ImportService.Format format = formatOf(contentType);
+        if (format == null) {
+            response.sendError(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+            return;
+        }
+        OutputStream report = startReport(response);
+        writeLine(report, importService.importTasks(body, format, error -> writeLine(report, error)));
+    }
+
+    /**
+     * Import task templates
+     * POST /api/import/templates   (Content-Type: text/csv or application/x-ndjson)
+     */
+    @PostMapping("/templates")
+    public void importTemplates(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                InputStream body, HttpServletResponse response) throws IOException {
+        ImportService.Format format = formatOf(contentType);
+        if (format == null) {
+            response.sendError(HttpStatus.UNSUPPORTED_MEDIA_TYPE.value());
+            return;
+        }
+        OutputStream report = startReport(response);
+        writeLine(report, importService.importTemplates(body, format, error -> writeLine(report, error)));
+    }
+
+    private ImportService.Format formatOf(MediaType contentType) {
+        if (CSV.isCompatibleWith(contentType)) {
+            return ImportService.Format.CSV;
+        }
+        if (NDJSON.isCompatibleWith(contentType)) {
+            return ImportService.Format.NDJSON;
+        }
+        return null;
+    }
+
+    private OutputStream startReport(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(NDJSON.toString());
+        return response.getOutputStream();
+    }
+
+    /**
+     * Write one report line and flush it, so clients see rejected rows while the import runs
+     */
+    private void writeLine(OutputStream report, Object line) {
+        try {
+            report.write(objectMapper.writeValueAsBytes(line));
+            report.write('\n');
+            report.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.RecordingInfo;
+import com.taskmanagement.service.ProfilingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * REST Controller for Java Flight Recorder recordings (taskmanagement.jfr.enabled=true, admin only)
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/admin/profiling/recordings")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "taskmanagement.jfr.enabled", havingValue = "true")
+public class ProfilingController {
+
+    private final ProfilingService profilingService;
+
+    /**
+     * Start a recording, optionally delayed (e.g. armed overnight for the 6 AM batch)
+     * POST /api/admin/profiling/recordings?profile=profile&delaySeconds=0&maxDurationSeconds=600
+     */
+    @PostMapping
+    public ResponseEntity<RecordingInfo> startRecording(
+            @RequestParam(defaultValue = "default") String profile,
+            @RequestParam(defaultValue = "0") long delaySeconds,
+            @RequestParam(defaultValue = "600") long maxDurationSeconds) {
+        if (delaySeconds < 0 || maxDurationSeconds < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        try {
+            RecordingInfo info = profilingService.start(profile,
+                    Duration.ofSeconds(delaySeconds), Duration.ofSeconds(maxDurationSeconds));
+            return ResponseEntity.status(HttpStatus.CREATED).body(info);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    /**
+     * List recordings started through this endpoint
+     * GET /api/admin/profiling/recordings
+     */
+    @GetMapping
+    public ResponseEntity<List<RecordingInfo>> getRecordings() {
+        return ResponseEntity.ok(profilingService.getRecordings());
+    }
+
+    /**
+     * Get recording state
+     * GET /api/admin/profiling/recordings/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<RecordingInfo> getRecording(@PathVariable long id) {
+        try {
+            return ResponseEntity.ok(profilingService.getRecordingInfo(id));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Stop a recording and write its file
+     * POST /api/admin/profiling/recordings/{id}/stop
+     */
+    @PostMapping("/{id}/stop")
+    public ResponseEntity<RecordingInfo> stopRecording(@PathVariable long id) {
+        try {
+            return ResponseEntity.ok(profilingService.stop(id));
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Download a stopped recording, open it in JDK Mission Control
+     * GET /api/admin/profiling/recordings/{id}/file
+     */
+    @GetMapping("/{id}/file")
+    public ResponseEntity<Resource> downloadRecording(@PathVariable long id) {
+        try {
+            Path file = profilingService.getRecordingFile(id);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                    .body(new FileSystemResource(file));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
+    /**
+     * Close a recording (the file is kept)
+     * DELETE /api/admin/profiling/recordings/{id}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> closeRecording(@PathVariable long id) {
+        try {
+            profilingService.close(id);
+            return ResponseEntity.ok().build();
+        } catch (Exception e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+}
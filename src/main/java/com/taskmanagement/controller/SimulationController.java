@@ -0,0 +1,48 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.SimulationReport;
+import com.taskmanagement.simulation.SimulationRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.Map;
+
+/**
+ * REST Controller for simulation mode (taskmanagement.simulation.enabled=true)
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/admin/simulation")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@ConditionalOnProperty(name = "taskmanagement.simulation.enabled", havingValue = "true")
+public class SimulationController {
+
+    private static final int MAX_DAYS = 3660;
+
+    private final SimulationRunner simulationRunner;
+
+    /**
+     * Current virtual time
+     * GET /api/admin/simulation/clock
+     */
+    @GetMapping("/clock")
+    public ResponseEntity<Map<String, Object>> getClock() {
+        return ResponseEntity.ok(Map.of("now", simulationRunner.now()));
+    }
+
+    /**
+     * Advance virtual time, running every scheduled job on the way
+     * POST /api/admin/simulation/run?days=30
+     */
+    @PostMapping("/run")
+    public ResponseEntity<SimulationReport> run(@RequestParam(defaultValue = "1") int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(simulationRunner.run(days));
+    }
+}
@@ -0,0 +1,38 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.SyncResponse;
+import com.taskmanagement.dto.TaskField;
+import com.taskmanagement.service.SyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for delta sync (offline and mobile clients)
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class SyncController {
+
+    private final SyncService syncService;
+
+    /**
+     * Get a user's tasks and templates changed or deleted since a token, plus the next token
+     * GET /api/sync?userId=1&since=12345.1700000000&fields=summary|full|taskId,title,...
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponse> sync(
+            @RequestParam Long userId,
+            @RequestParam(required = false) String since,
+            @RequestParam(required = false) String fields) {
+        try {
+            return ResponseEntity.ok(syncService.sync(userId, since, TaskField.parse(fields)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.taskmanagement.controller;
 
+import com.taskmanagement.dto.TaskField;
 import com.taskmanagement.dto.TaskRequest;
 import com.taskmanagement.dto.TaskResponse;
 import com.taskmanagement.model.TaskStatus;
@@ -12,6 +13,8 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * REST Controller for Task operations
@@ -25,6 +28,8 @@ import java.util.Map;
 @CrossOrigin(origins = "*")
 public class TaskController {
 
+    private static final int MAX_MULTI_GET_IDS = 500;
+
     private final TaskService taskService;
 
     /**
@@ -56,56 +61,71 @@ public class TaskController {
         }
     }
 
+    /**
+     * Get several tasks by ID, in the order given
+     * Unknown IDs come back as entries with only taskId and message "Task not found"
+     * GET /api/tasks?ids=1,2,3
+     */
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<TaskResponse>> getTasks(@RequestParam List<Long> ids) {
+        if (ids.isEmpty() || ids.size() > MAX_MULTI_GET_IDS) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(taskService.getTasks(ids));
+    }
+
     /**
      * Get all tasks for a user
-     * GET /api/tasks/user/{userId}
+     * GET /api/tasks/user/{userId}?fields=summary|full|taskId,title,...
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<TaskResponse>> getUserTasks(@PathVariable Long userId) {
-        List<TaskResponse> tasks = taskService.getUserTasks(userId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<Map<String, Object>>> getUserTasks(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String fields) {
+        return listResponse(fields, selected -> taskService.getUserTasks(userId, selected));
     }
 
     /**
      * Get pending tasks for a user (sorted by priority and due date)
-     * GET /api/tasks/user/{userId}/pending
+     * GET /api/tasks/user/{userId}/pending?fields=...
      */
     @GetMapping("/user/{userId}/pending")
-    public ResponseEntity<List<TaskResponse>> getUserPendingTasks(@PathVariable Long userId) {
-        List<TaskResponse> tasks = taskService.getUserPendingTasks(userId);
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<Map<String, Object>>> getUserPendingTasks(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String fields) {
+        return listResponse(fields, selected -> taskService.getUserPendingTasks(userId, selected));
     }
 
     /**
      * Get overdue tasks
-     * GET /api/tasks/overdue
+     * GET /api/tasks/overdue?fields=...
      */
     @GetMapping("/overdue")
-    public ResponseEntity<List<TaskResponse>> getOverdueTasks() {
-        List<TaskResponse> tasks = taskService.getOverdueTasks();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<Map<String, Object>>> getOverdueTasks(
+            @RequestParam(required = false) String fields) {
+        return listResponse(fields, taskService::getOverdueTasks);
     }
 
     /**
      * Get tasks due today
-     * GET /api/tasks/due-today
+     * GET /api/tasks/due-today?fields=...
      */
     @GetMapping("/due-today")
-    public ResponseEntity<List<TaskResponse>> getTasksDueToday() {
-        List<TaskResponse> tasks = taskService.getTasksDueToday();
-        return ResponseEntity.ok(tasks);
+    public ResponseEntity<List<Map<String, Object>>> getTasksDueToday(
+            @RequestParam(required = false) String fields) {
+        return listResponse(fields, taskService::getTasksDueToday);
     }
 
     /**
      * Get tasks by category
-     * GET /api/tasks/user/{userId}/category/{category}
+     * GET /api/tasks/user/{userId}/category/{category}?fields=...
      */
     @GetMapping("/user/{userId}/category/{category}")
-    public ResponseEntity<List<TaskResponse>> getTasksByCategory(
+    public ResponseEntity<List<Map<String, Object>>> getTasksByCategory(
             @PathVariable Long userId,
-            @PathVariable String category) {
-        List<TaskResponse> tasks = taskService.getTasksByCategory(userId, category);
-        return ResponseEntity.ok(tasks);
+            @PathVariable String category,
+            @RequestParam(required = false) String fields) {
+        return listResponse(fields, selected -> taskService.getTasksByCategory(userId, category, selected));
     }
 
     /**
@@ -161,4 +181,19 @@ public class TaskController {
         Map<String, Object> stats = taskService.getUserTaskStats(userId);
         return ResponseEntity.ok(stats);
     }
+
+    /**
+     * Resolve the fields parameter and run a list query projected to those fields
+     * Unknown field names are rejected with 400
+     */
+    private ResponseEntity<List<Map<String, Object>>> listResponse(
+            String fields, Function<Set<TaskField>, List<Map<String, Object>>> query) {
+        Set<TaskField> selected;
+        try {
+            selected = TaskField.parse(fields);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(query.apply(selected));
+    }
 }
@@ -0,0 +1,59 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.StatusTransitionResponse;
+import com.taskmanagement.dto.TransitionCount;
+import com.taskmanagement.service.TaskHistoryService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for task status history
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/history")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class TaskHistoryController {
+
+    private final TaskHistoryService historyService;
+
+    /**
+     * Get status timeline of a task
+     * GET /api/history/tasks/{taskId}
+     */
+    @GetMapping("/tasks/{taskId}")
+    public ResponseEntity<List<StatusTransitionResponse>> getTaskTimeline(@PathVariable Long taskId) {
+        return ResponseEntity.ok(historyService.getTaskTimeline(taskId));
+    }
+
+    /**
+     * Get transition counts for a user over a date range
+     * GET /api/history/users/{userId}/transitions?from=2024-01-01&to=2024-01-31
+     */
+    @GetMapping("/users/{userId}/transitions")
+    public ResponseEntity<List<TransitionCount>> getUserTransitions(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(historyService.getUserTransitionCounts(userId, from, to));
+    }
+
+    /**
+     * Get transition counts for a category over a date range
+     * GET /api/history/categories/{category}/transitions?from=2024-01-01&to=2024-01-31
+     */
+    @GetMapping("/categories/{category}/transitions")
+    public ResponseEntity<List<TransitionCount>> getCategoryTransitions(
+            @PathVariable String category,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(historyService.getCategoryTransitionCounts(category, from, to));
+    }
+}
@@ -0,0 +1,48 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.dto.SpanView;
+import com.taskmanagement.dto.TraceSummary;
+import com.taskmanagement.tracing.InMemorySpanExporter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST Controller for browsing recently recorded traces
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/admin/traces")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class TraceController {
+
+    private final InMemorySpanExporter spanExporter;
+
+    /**
+     * List recent traces, newest first
+     * GET /api/admin/traces?limit=20&name=post
+     */
+    @GetMapping
+    public ResponseEntity<List<TraceSummary>> getRecentTraces(
+            @RequestParam(defaultValue = "20") int limit,
+            @RequestParam(required = false) String name) {
+        return ResponseEntity.ok(spanExporter.recentTraces(limit, name));
+    }
+
+    /**
+     * Get all spans of a trace as a depth-first tree
+     * GET /api/admin/traces/{traceId}
+     */
+    @GetMapping("/{traceId}")
+    public ResponseEntity<List<SpanView>> getTrace(@PathVariable String traceId) {
+        List<SpanView> spans = spanExporter.getTrace(traceId);
+        if (spans.isEmpty()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(spans);
+    }
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one day of a burn-down chart
+ * Added and completed are running totals since the first day of the range
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BurnDownPoint {
+
+    private LocalDate date;
+    private long remainingTasks;
+    private double idealRemainingTasks;  // Straight line from the first day's remaining tasks to zero on the last day
+    private long addedTasks;
+    private long completedTasks;
+}
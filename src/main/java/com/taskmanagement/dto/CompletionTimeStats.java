@@ -0,0 +1,33 @@
+package com.taskmanagement.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.taskmanagement.model.TaskPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for completion-time percentiles of one rollup group
+ * Dimensions that were not grouped on are omitted from the JSON
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CompletionTimeStats {
+
+    private LocalDate periodStart;
+    private Long userId;
+    private String category;
+    private TaskPriority priority;
+    private long completedTasks;
+    private double p50Hours;
+    private double p90Hours;
+    private double p99Hours;
+    private double meanHours;
+    private double maxHours;
+}
@@ -0,0 +1,64 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * DTO for a department rollup
+ * Totals, a breakdown per member and the overdue hot spots, from one grouped query
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepartmentSummary {
+
+    private String department;
+    private LocalDate date;  // Overdue and due-today counts are as of this day
+    private int memberCount;
+    private long totalTasks;
+    private long completedTasks;
+    private long pendingTasks;
+    private long inProgressTasks;
+    private long overdueTasks;
+    private long dueTodayTasks;
+    private Double completionRate;  // Completed / total, null without tasks
+    private List<Member> members;  // Most overdue first, then by name
+    private List<HotSpot> overdueHotSpots;  // Member and category pairs with the most overdue tasks
+    private LocalDateTime generatedAt;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Member {
+        private Long userId;
+        private String name;
+        private String email;
+        private long totalTasks;
+        private long completedTasks;
+        private long pendingTasks;
+        private long inProgressTasks;
+        private long overdueTasks;
+        private long dueTodayTasks;
+        private LocalDate oldestOverdueDate;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HotSpot {
+        private Long userId;
+        private String name;
+        private String category;  // Null for tasks without a category
+        private long overdueTasks;
+        private LocalDate oldestOverdueDate;
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO describing the state of one event pipeline consumer
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventConsumerStats {
+
+    private String consumer;
+    private int bufferCapacity;
+    private int lag;                 // Events buffered but not yet handled
+    private int maxLag;              // Highest lag observed since startup
+    private long published;
+    private long processed;
+    private long batches;
+    private long failedBatches;
+    private long dropped;            // Events dropped because the buffer stayed full for the offer timeout
+    private double eventsPerSecond;  // Average throughput since startup
+    private double averageBatchSize;
+    private LocalDateTime lastProcessedAt;
+}
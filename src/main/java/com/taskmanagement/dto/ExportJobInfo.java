@@ -0,0 +1,31 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO describing an export job
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportJobInfo {
+
+    private String id;
+    private String department;
+    private String dataset;         // TASKS or STATUS_HISTORY
+    private String format;          // CSV or NDJSON, gzip-compressed
+    private String status;          // QUEUED, RUNNING, COMPLETED, FAILED
+    private Instant createdAt;
+    private Instant startedAt;
+    private Instant completedAt;
+    private long rows;              // Rows written so far
+    private Long sizeBytes;         // Compressed file size, once completed
+    private String downloadUrl;     // Set once completed
+    private String error;
+}
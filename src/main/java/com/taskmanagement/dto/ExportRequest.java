@@ -0,0 +1,27 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.service.ExportService;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for starting an export job
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ExportRequest {
+
+    @NotBlank(message = "Department is required")
+    private String department;          // Rows of users in this department
+
+    @Builder.Default
+    private ExportService.Dataset dataset = ExportService.Dataset.TASKS;
+
+    @Builder.Default
+    private ExportService.Format format = ExportService.Format.CSV;
+}
@@ -0,0 +1,17 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for one rejected row of a bulk import
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowError {
+
+    private long row;       // 1-based data row (CSV header and blank lines not counted)
+    private String error;
+}
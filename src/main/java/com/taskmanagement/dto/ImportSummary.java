@@ -0,0 +1,24 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO summarizing a bulk import, written as the last line of the import report
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportSummary {
+
+    private String type;            // "tasks" or "templates"
+    private long rows;
+    private long imported;
+    private long failed;
+    private long batches;           // Committed JDBC batches
+    private long durationMs;
+    private double rowsPerSecond;
+}
@@ -0,0 +1,28 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO describing a Java Flight Recorder recording
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RecordingInfo {
+
+    private long id;
+    private String name;
+    private String profile;          // JFR configuration, "default" or "profile"
+    private String state;            // NEW, DELAYED, RUNNING, STOPPED, CLOSED
+    private Instant startedAt;
+    private Instant stoppedAt;
+    private Long maxDurationSeconds; // Recording stops by itself after this long
+    private String file;             // Where the recording is written when it stops
+    private Long sizeBytes;
+}
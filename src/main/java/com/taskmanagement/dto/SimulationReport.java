@@ -0,0 +1,55 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * DTO for a simulation run: scheduled job activity per simulated day
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationReport {
+
+    private LocalDate from;
+    private LocalDate to;               // Last simulated day
+    private int days;
+    private long jobRuns;
+    private long rows;
+    private long emails;
+    private long failures;
+    private long wallClockMs;           // Real time the replay took
+    private List<Day> daily;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Day {
+        private LocalDate date;
+        private long durationMs;        // Real time spent in this day's job runs
+        private long rows;
+        private long emails;
+        private List<Job> jobs;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Job {
+        private String job;             // Bean class and method, e.g. TaskSchedulerService.generateDailyTasks
+        private int runs;
+        private long durationMs;
+        private long rows;              // Rows touched, as reported to JobMetrics
+        private long emails;            // Emails built and handed to the mail sender
+        private long statements;        // SQL statements prepared by Hibernate
+        private int failures;
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * DTO for one exported span
+ */
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpanView {
+
+    private String traceId;
+    private String spanId;
+    private String parentSpanId;     // Null for the root span
+    private String name;
+    private String kind;             // SERVER, CLIENT, INTERNAL, ...
+    private String thread;
+    private Instant startedAt;
+    private long durationMicros;
+    private int depth;               // Nesting level within the trace, set when a whole trace is returned
+    private boolean error;
+    private Map<String, String> attributes;
+}
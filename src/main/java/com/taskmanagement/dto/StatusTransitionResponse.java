@@ -0,0 +1,25 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.event.ChangeSource;
+import com.taskmanagement.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for one entry of a task's status timeline
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusTransitionResponse {
+
+    private TaskStatus fromStatus;
+    private TaskStatus toStatus;
+    private ChangeSource source;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,29 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.model.TaskTemplate;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DTO for a delta sync response
+ * With full=false the lists hold only what changed since the token passed in; with full=true they
+ * hold everything the user has and the client replaces its local copy.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncResponse {
+
+    private String token;  // Pass as since on the next sync
+    private boolean full;
+    private List<Map<String, Object>> tasks;  // Same fields as GET /api/tasks/user/{userId}
+    private List<TaskTemplate> templates;
+    private List<Long> deletedTaskIds;
+    private List<Long> deletedTemplateIds;
+}
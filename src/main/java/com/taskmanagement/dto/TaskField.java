@@ -0,0 +1,81 @@
+package com.taskmanagement.dto;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Selectable fields of task list responses
+ * JSON names match the TaskResponse properties so clients can switch views without remapping
+ *
+ * Usage: ?fields=summary (default), ?fields=full, or ?fields=taskId,title,assignedToName
+ */
+public enum TaskField {
+    TASK_ID("taskId"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    STATUS("status"),
+    PRIORITY("priority"),
+    DUE_DATE("dueDate"),
+    DAYS_UNTIL_DEADLINE("daysUntilDeadline"),
+    IS_OVERDUE("isOverdue"),
+    ASSIGNED_TO_NAME("assignedToName"),
+    ASSIGNED_TO_EMAIL("assignedToEmail"),
+    CREATED_AT("createdAt"),
+    COMPLETED_AT("completedAt"),
+    IS_RECURRING("isRecurring"),
+    RECURRENCE_TYPE("recurrenceType"),
+    CATEGORY("category"),
+    UPDATED_AT("updatedAt");
+
+    public static final Set<TaskField> SUMMARY =
+            Collections.unmodifiableSet(EnumSet.of(TASK_ID, TITLE, STATUS, PRIORITY, DUE_DATE));
+
+    public static final Set<TaskField> FULL =
+            Collections.unmodifiableSet(EnumSet.allOf(TaskField.class));
+
+    private static final Map<String, TaskField> BY_JSON_NAME = Arrays.stream(values())
+            .collect(Collectors.toMap(TaskField::getJsonName, Function.identity()));
+
+    private final String jsonName;
+
+    TaskField(String jsonName) {
+        this.jsonName = jsonName;
+    }
+
+    public String getJsonName() {
+        return jsonName;
+    }
+
+    /**
+     * Parse a fields parameter; "summary" and "full" may be combined with individual fields
+     *
+     * @throws IllegalArgumentException for unknown field names
+     */
+    public static Set<TaskField> parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return SUMMARY;
+        }
+
+        EnumSet<TaskField> selected = EnumSet.noneOf(TaskField.class);
+        for (String name : fields.split(",")) {
+            String trimmed = name.trim();
+            if (trimmed.equals("summary")) {
+                selected.addAll(SUMMARY);
+            } else if (trimmed.equals("full")) {
+                selected.addAll(FULL);
+            } else if (!trimmed.isEmpty()) {
+                TaskField field = BY_JSON_NAME.get(trimmed);
+                if (field == null) {
+                    throw new IllegalArgumentException("Unknown field: " + trimmed);
+                }
+                selected.add(field);
+            }
+        }
+        return selected.isEmpty() ? SUMMARY : selected;
+    }
+}
@@ -2,8 +2,9 @@ package com.taskmanagement.dto;
 
 import com.taskmanagement.model.RecurrenceType;
 import com.taskmanagement.model.TaskPriority;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,8 +19,11 @@ import java.time.LocalDate;
 @AllArgsConstructor
 public class TaskRequest {
 
-    @NotNull(message = "User ID is required")
-    private Long userId;
+    private Long userId;  // Required unless autoAssign is set
+
+    private Boolean autoAssign = false;  // Pick the least-loaded user of the department
+
+    private String department;  // Department to auto-assign within
 
     @NotBlank(message = "Title is required")
     private String title;
@@ -35,4 +39,10 @@ public class TaskRequest {
     private RecurrenceType recurrenceType = RecurrenceType.NONE;
 
     private String category;
+
+    @JsonIgnore
+    @AssertTrue(message = "User ID is required, or autoAssign with a department")
+    public boolean isAssigneeSpecified() {
+        return Boolean.TRUE.equals(autoAssign) ? department != null && !department.isBlank() : userId != null;
+    }
 }
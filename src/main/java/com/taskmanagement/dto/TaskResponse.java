@@ -32,8 +32,11 @@ public class TaskResponse {
     private String assignedToEmail;
     private LocalDateTime createdAt;
     private LocalDateTime completedAt;
+    private LocalDateTime updatedAt;
     private Boolean isRecurring;
     private RecurrenceType recurrenceType;
     private String category;
+    private Long templateId;
+    private String templateTitle;
     private String message;
 }
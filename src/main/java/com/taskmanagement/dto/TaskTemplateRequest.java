@@ -2,6 +2,8 @@ package com.taskmanagement.dto;
 
 import com.taskmanagement.model.RecurrenceType;
 import com.taskmanagement.model.TaskPriority;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -18,8 +20,11 @@ import java.time.LocalTime;
 @AllArgsConstructor
 public class TaskTemplateRequest {
 
-    @NotNull(message = "User ID is required")
-    private Long userId;
+    private Long userId;  // Required unless autoAssign is set
+
+    private Boolean autoAssign = false;  // Give each generated task to the least-loaded user of the department
+
+    private String department;  // Department to auto-assign within
 
     @NotBlank(message = "Title is required")
     private String title;
@@ -42,4 +47,10 @@ public class TaskTemplateRequest {
     private Integer daysToComplete = 1;  // Days to complete the task
 
     private String category;
+
+    @JsonIgnore
+    @AssertTrue(message = "User ID is required, or autoAssign with a department")
+    public boolean isAssigneeSpecified() {
+        return Boolean.TRUE.equals(autoAssign) ? department != null && !department.isBlank() : userId != null;
+    }
 }
@@ -0,0 +1,25 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * DTO for one day, week or month of the task trend
+ * Created and completed are totals for the period; open and overdue are counts at its end
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskTrendPoint {
+
+    private LocalDate periodStart;
+    private long createdTasks;
+    private long completedTasks;
+    private long openTasks;
+    private long overdueTasks;
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * DTO summarizing a recorded trace
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TraceSummary {
+
+    private String traceId;
+    private String rootName;         // Name of the root span, e.g. "http post /api/tasks"
+    private Instant startedAt;
+    private long durationMicros;     // Root span duration, or the full extent if the root is missing
+    private int spanCount;
+    private boolean error;
+}
@@ -0,0 +1,20 @@
+package com.taskmanagement.dto;
+
+import com.taskmanagement.model.TaskStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * DTO for the number of transitions between two statuses
+ * Built directly by the aggregate queries in TaskStatusHistoryRepository
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransitionCount {
+
+    private TaskStatus fromStatus;
+    private TaskStatus toStatus;
+    private Long count;
+}
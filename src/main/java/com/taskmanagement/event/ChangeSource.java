@@ -0,0 +1,11 @@
+package com.taskmanagement.event;
+
+/**
+ * Where a lifecycle change originated
+ * Lets consumers react differently to user actions and batch jobs
+ */
+public enum ChangeSource {
+    API,            // REST request
+    OVERDUE_SWEEP,  // Hourly overdue check
+    GENERATION      // Recurring task generation
+}
@@ -0,0 +1,12 @@
+package com.taskmanagement.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * Marker for task lifecycle events published through the {@link DomainEventPipeline}
+ * Events are immutable snapshots so consumers never touch detached entities
+ */
+public interface DomainEvent {
+
+    LocalDateTime getOccurredAt();
+}
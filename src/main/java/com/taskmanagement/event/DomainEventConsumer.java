@@ -0,0 +1,28 @@
+package com.taskmanagement.event;
+
+import java.util.List;
+
+/**
+ * Subscriber of the {@link DomainEventPipeline}
+ * Each consumer gets its own ring buffer and worker thread, and receives events in batches
+ * in the order they were committed.
+ */
+public interface DomainEventConsumer {
+
+    /**
+     * Stable name used for the worker thread and in pipeline statistics
+     */
+    String getName();
+
+    /**
+     * Filter applied on the publishing side so unrelated events never occupy buffer slots
+     */
+    default boolean supports(DomainEvent event) {
+        return true;
+    }
+
+    /**
+     * Handle a batch of events (never empty)
+     */
+    void onEvents(List<DomainEvent> events);
+}
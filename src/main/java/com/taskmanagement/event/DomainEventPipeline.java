@@ -0,0 +1,313 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.dto.EventConsumerStats;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.context.ContextSnapshot;
+import io.micrometer.context.ContextSnapshotFactory;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * In-process pipeline delivering domain events to subscribers
+ * Demonstrates:
+ * - Publishing only after the surrounding transaction commits
+ * - One bounded ring buffer and worker thread per consumer
+ * - Batching consumers that drain whatever accumulated since the last batch
+ *
+ * When a consumer's buffer is full the publisher waits up to offer-timeout-ms for space, which
+ * applies back-pressure; if the consumer is still behind the event is dropped, counted and logged.
+ * Consumers never run on the publishing thread, where afterCommit would leave them joining a
+ * transaction that has already committed.
+ * Each event carries a snapshot of the publisher's trace context, which consumers can restore
+ * with restoreContext so their work is attributed to the originating request, and the time it
+ * was dispatched (dispatchedAt), which orders it against reads made after the commit.
+ *
+ * @author Yanamala Sanjay
+ */
+@Component
+@Slf4j
+public class DomainEventPipeline implements MeterBinder {
+
+    private static final Object PENDING_EVENTS_KEY = new Object();
+    private static final ContextSnapshotFactory SNAPSHOTS = ContextSnapshotFactory.builder().build();
+    private static final ThreadLocal<Map<DomainEvent, Envelope>> HANDLING = new ThreadLocal<>();
+
+    private final List<DomainEventConsumer> consumers;
+    private final int bufferSize;
+    private final int maxBatchSize;
+    private final long offerTimeoutMillis;
+    private final List<Channel> channels = new ArrayList<>();
+
+    public DomainEventPipeline(List<DomainEventConsumer> consumers,
+                               @Value("${taskmanagement.events.buffer-size:1024}") int bufferSize,
+                               @Value("${taskmanagement.events.max-batch-size:64}") int maxBatchSize,
+                               @Value("${taskmanagement.events.offer-timeout-ms:500}") long offerTimeoutMillis) {
+        this.consumers = consumers;
+        this.bufferSize = bufferSize;
+        this.maxBatchSize = maxBatchSize;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        consumers.forEach(consumer -> channels.add(new Channel(consumer)));
+    }
+
+    @PostConstruct
+    public void start() {
+        channels.forEach(channel -> channel.worker.start());
+        log.info("Domain event pipeline started with {} consumers", channels.size());
+    }
+
+    @PreDestroy
+    public void stop() {
+        channels.forEach(Channel::shutdown);
+    }
+
+    /**
+     * Publish an event
+     * Inside a transaction the event is held back until commit and discarded on rollback
+     */
+    public void publish(DomainEvent event) {
+        // The publisher's trace context travels with the event to the consumer threads
+        Envelope envelope = new Envelope(event, SNAPSHOTS.captureAll(), 0);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            dispatch(envelope);
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Envelope> pending = (List<Envelope>) TransactionSynchronizationManager.getResource(PENDING_EVENTS_KEY);
+        if (pending == null) {
+            List<Envelope> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(PENDING_EVENTS_KEY, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    events.forEach(DomainEventPipeline.this::dispatch);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_EVENTS_KEY);
+                }
+            });
+            pending = events;
+        }
+        pending.add(envelope);
+    }
+
+    /**
+     * Restore the trace context the event was published under
+     * Only meaningful while a consumer is handling the event; otherwise a no-op scope.
+     */
+    public static ContextSnapshot.Scope restoreContext(DomainEvent event) {
+        Envelope envelope = handling(event);
+        return envelope != null ? envelope.context().setThreadLocals() : () -> { };
+    }
+
+    /**
+     * System.nanoTime() at which the event was handed to consumers, i.e. just after its transaction committed
+     * Only known while a consumer is handling the event; otherwise the current time.
+     */
+    public static long dispatchedAt(DomainEvent event) {
+        Envelope envelope = handling(event);
+        return envelope != null ? envelope.dispatchedAt() : System.nanoTime();
+    }
+
+    private static Envelope handling(DomainEvent event) {
+        Map<DomainEvent, Envelope> envelopes = HANDLING.get();
+        return envelopes != null ? envelopes.get(event) : null;
+    }
+
+    /**
+     * Per-consumer lag and throughput
+     */
+    public List<EventConsumerStats> getStats() {
+        return channels.stream()
+                .map(Channel::stats)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Export per-consumer lag and throughput as meters tagged with the consumer name
+     */
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (Channel channel : channels) {
+            Tags tags = Tags.of("consumer", channel.consumer.getName());
+            Gauge.builder("taskmanagement.events.lag", channel.buffer, BlockingQueue::size)
+                    .description("Events buffered but not yet handled")
+                    .tags(tags)
+                    .register(registry);
+            Gauge.builder("taskmanagement.events.buffer.capacity", () -> bufferSize)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("taskmanagement.events.published", channel.published, AtomicLong::get)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("taskmanagement.events.processed", channel.processed, AtomicLong::get)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("taskmanagement.events.failed.batches", channel.failedBatches, AtomicLong::get)
+                    .tags(tags)
+                    .register(registry);
+            FunctionCounter.builder("taskmanagement.events.dropped", channel.dropped, AtomicLong::get)
+                    .description("Events dropped because the buffer stayed full for the offer timeout")
+                    .tags(tags)
+                    .register(registry);
+        }
+    }
+
+    private void dispatch(Envelope published) {
+        Envelope envelope = new Envelope(published.event(), published.context(), System.nanoTime());
+        for (Channel channel : channels) {
+            if (channel.consumer.supports(envelope.event())) {
+                channel.offer(envelope);
+            }
+        }
+    }
+
+    /**
+     * Ring buffer, worker thread and counters for one consumer
+     */
+    private class Channel {
+
+        private final DomainEventConsumer consumer;
+        private final BlockingQueue<Envelope> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final Thread worker;
+        private final long startedAt = System.nanoTime();
+        private final AtomicLong published = new AtomicLong();
+        private final AtomicLong processed = new AtomicLong();
+        private final AtomicLong batches = new AtomicLong();
+        private final AtomicLong failedBatches = new AtomicLong();
+        private final AtomicLong dropped = new AtomicLong();
+        private final AtomicInteger maxLag = new AtomicInteger();
+        private volatile LocalDateTime lastProcessedAt;
+        private volatile boolean running = true;
+
+        Channel(DomainEventConsumer consumer) {
+            this.consumer = consumer;
+            this.worker = new Thread(this::run, "event-" + consumer.getName());
+            this.worker.setDaemon(true);
+        }
+
+        void offer(Envelope envelope) {
+            published.incrementAndGet();
+            boolean queued;
+            try {
+                queued = buffer.offer(envelope) || buffer.offer(envelope, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                queued = false;
+            }
+            if (queued) {
+                maxLag.accumulateAndGet(buffer.size(), Math::max);
+            } else {
+                dropped.incrementAndGet();
+                log.warn("Event buffer full for consumer {} after {} ms, dropped {}",
+                        consumer.getName(), offerTimeoutMillis, envelope.event());
+            }
+        }
+
+        private void run() {
+            List<Envelope> batch = new ArrayList<>(maxBatchSize);
+            while (running || !buffer.isEmpty()) {
+                try {
+                    Envelope first = buffer.poll(1, TimeUnit.SECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                    buffer.drainTo(batch, maxBatchSize - 1);
+                    handle(batch);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                } finally {
+                    batch.clear();
+                }
+            }
+        }
+
+        private void handle(List<Envelope> envelopes) {
+            List<DomainEvent> events = new ArrayList<>(envelopes.size());
+            Map<DomainEvent, Envelope> handling = new IdentityHashMap<>();
+            for (Envelope envelope : envelopes) {
+                events.add(envelope.event());
+                handling.put(envelope.event(), envelope);
+            }
+
+            Map<DomainEvent, Envelope> outer = HANDLING.get();
+            HANDLING.set(handling);
+            try {
+                consumer.onEvents(Collections.unmodifiableList(events));
+                processed.addAndGet(events.size());
+                batches.incrementAndGet();
+            } catch (Exception e) {
+                failedBatches.incrementAndGet();
+                log.error("Consumer {} failed to handle {} events", consumer.getName(), events.size(), e);
+            } finally {
+                if (outer != null) {
+                    HANDLING.set(outer);
+                } else {
+                    HANDLING.remove();
+                }
+            }
+            lastProcessedAt = LocalDateTime.now();
+        }
+
+        void shutdown() {
+            running = false;
+            try {
+                worker.join(TimeUnit.SECONDS.toMillis(5));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!buffer.isEmpty()) {
+                log.warn("Consumer {} stopped with {} unprocessed events", consumer.getName(), buffer.size());
+            }
+        }
+
+        EventConsumerStats stats() {
+            long done = processed.get();
+            long batchCount = batches.get();
+            double elapsedSeconds = Math.max((System.nanoTime() - startedAt) / 1e9, 1e-3);
+            return EventConsumerStats.builder()
+                    .consumer(consumer.getName())
+                    .bufferCapacity(bufferSize)
+                    .lag(buffer.size())
+                    .maxLag(maxLag.get())
+                    .published(published.get())
+                    .processed(done)
+                    .batches(batchCount)
+                    .failedBatches(failedBatches.get())
+                    .dropped(dropped.get())
+                    .eventsPerSecond(done / elapsedSeconds)
+                    .averageBatchSize(batchCount == 0 ? 0 : (double) done / batchCount)
+                    .lastProcessedAt(lastProcessedAt)
+                    .build();
+        }
+    }
+
+    private record Envelope(DomainEvent event, ContextSnapshot context, long dispatchedAt) {
+    }
+}
@@ -0,0 +1,73 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.Task;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.service.EmailService;
+import io.micrometer.context.ContextSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Sends task notifications for events raised by user actions
+ * Tasks of a batch are loaded together with their assignee in a single query
+ *
+ * @author Yanamala Sanjay
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EmailNotificationConsumer implements DomainEventConsumer {
+
+    private final TaskRepository taskRepository;
+    private final EmailService emailService;
+
+    @Override
+    public String getName() {
+        return "email";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TaskCreated
+                || (event instanceof TaskStatusChanged changed && changed.getSource() == ChangeSource.API);
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        List<Long> taskIds = events.stream()
+                .map(event -> event instanceof TaskCreated created
+                        ? created.getTaskId()
+                        : ((TaskStatusChanged) event).getTaskId())
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<Long, Task> tasks = taskRepository.findAllWithAssigneeByIdIn(taskIds).stream()
+                .collect(Collectors.toMap(Task::getId, Function.identity()));
+
+        for (DomainEvent event : events) {
+            // Hand off under the publishing request's trace so the email span joins it
+            ContextSnapshot.Scope scope = DomainEventPipeline.restoreContext(event);
+            try {
+                if (event instanceof TaskCreated created) {
+                    Task task = tasks.get(created.getTaskId());
+                    if (task != null) {
+                        emailService.sendTaskCreationNotification(task);
+                    }
+                } else if (event instanceof TaskStatusChanged changed) {
+                    Task task = tasks.get(changed.getTaskId());
+                    if (task != null) {
+                        emailService.sendTaskStatusUpdate(task, changed.getNewStatus());
+                    }
+                }
+            } finally {
+                scope.close();
+            }
+        }
+    }
+}
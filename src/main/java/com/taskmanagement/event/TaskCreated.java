@@ -0,0 +1,25 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.TaskPriority;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Published after a task has been created through the API
+ */
+@Value
+@Builder
+public class TaskCreated implements DomainEvent {
+
+    Long taskId;
+    Long userId;
+    TaskPriority priority;
+    String category;
+    LocalDate dueDate;
+    LocalDateTime createdAt;
+    boolean autoAssigned;  // Load was reserved when the assignee was picked; this event settles it
+    LocalDateTime occurredAt;
+}
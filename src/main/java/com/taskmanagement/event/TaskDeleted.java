@@ -0,0 +1,24 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published after a task has been deleted
+ * Carries the last known status so consumers can release open work
+ */
+@Value
+@Builder
+public class TaskDeleted implements DomainEvent {
+
+    Long taskId;
+    Long userId;
+    TaskStatus status;
+    TaskPriority priority;
+    String category;
+    LocalDateTime occurredAt;
+}
@@ -0,0 +1,27 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDateTime;
+
+/**
+ * Published after a task moved from one status to another
+ */
+@Value
+@Builder
+public class TaskStatusChanged implements DomainEvent {
+
+    Long taskId;
+    Long userId;
+    TaskStatus oldStatus;
+    TaskStatus newStatus;
+    TaskPriority priority;
+    String category;
+    LocalDateTime createdAt;  // Task creation time, used for cycle-time calculations
+    boolean recompletion;     // Completed again after being reopened; completedAt keeps the first completion
+    ChangeSource source;
+    LocalDateTime occurredAt;
+}
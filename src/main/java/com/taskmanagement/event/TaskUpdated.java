@@ -0,0 +1,27 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Published after a task's title, description, priority, due date or category was edited
+ * Status changes are published separately as {@link TaskStatusChanged}
+ */
+@Value
+@Builder
+public class TaskUpdated implements DomainEvent {
+
+    Long taskId;
+    Long userId;
+    TaskStatus status;
+    TaskPriority oldPriority;
+    TaskPriority priority;
+    LocalDate dueDate;
+    String category;
+    LocalDateTime occurredAt;
+}
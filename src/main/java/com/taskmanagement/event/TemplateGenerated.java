@@ -0,0 +1,25 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.model.TaskPriority;
+import lombok.Builder;
+import lombok.Value;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Published after the scheduler generated a task from a recurring template
+ */
+@Value
+@Builder
+public class TemplateGenerated implements DomainEvent {
+
+    Long templateId;
+    Long taskId;
+    Long userId;
+    TaskPriority priority;
+    String category;
+    LocalDate dueDate;
+    boolean autoAssigned;  // Load was reserved when the assignee was picked; this event settles it
+    LocalDateTime occurredAt;
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * JFR event for building an email body
+ *
+ * @author Yanamala Sanjay
+ */
+@Name("com.taskmanagement.EmailRender")
+@Label("Email Render")
+@Description("Building the text of a notification, reminder or digest email")
+@Category({"Task Management", "Email"})
+@StackTrace(false)
+public class EmailRenderEvent extends Event {
+
+    @Label("Email Type")
+    String type;
+
+    @Label("User ID")
+    long userId;
+
+    @Label("Body Length")
+    @DataAmount(DataAmount.BYTES)
+    long bodyLength;
+
+    public EmailRenderEvent(String type, long userId) {
+        this.type = type;
+        this.userId = userId;
+        begin();
+    }
+
+    public void end(String body) {
+        if (shouldCommit()) {
+            this.bodyLength = body.getBytes(StandardCharsets.UTF_8).length;
+            commit();
+        }
+    }
+}
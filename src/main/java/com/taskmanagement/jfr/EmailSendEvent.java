@@ -0,0 +1,43 @@
+package com.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one blocking SMTP send
+ *
+ * @author Yanamala Sanjay
+ */
+@Name("com.taskmanagement.EmailSend")
+@Label("Email Send")
+@Description("Time the sending thread spent blocked on the SMTP server")
+@Category({"Task Management", "Email"})
+@StackTrace(false)
+public class EmailSendEvent extends Event {
+
+    @Label("Email Type")
+    String type;
+
+    @Label("User ID")
+    long userId;
+
+    @Label("Succeeded")
+    boolean succeeded;
+
+    public EmailSendEvent(String type, long userId) {
+        this.type = type;
+        this.userId = userId;
+        begin();
+    }
+
+    public void end(boolean succeeded) {
+        if (shouldCommit()) {
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a create, update, status change or delete through TaskService
+ *
+ * @author Yanamala Sanjay
+ */
+@Name("com.taskmanagement.TaskMutation")
+@Label("Task Mutation")
+@Description("Task create, update, status change or delete, excluding the transaction commit")
+@Category({"Task Management", "Tasks"})
+@StackTrace(false)
+public class TaskMutationEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Task ID")
+    long taskId;
+
+    @Label("User ID")
+    long userId;
+
+    public TaskMutationEvent(String operation) {
+        this.operation = operation;
+        begin();
+    }
+
+    public void end(long taskId, long userId) {
+        if (shouldCommit()) {
+            this.taskId = taskId;
+            this.userId = userId;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.taskmanagement.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for generating one task from a recurring template
+ *
+ * @author Yanamala Sanjay
+ */
+@Name("com.taskmanagement.TemplateGeneration")
+@Label("Template Generation")
+@Description("Creating a task from a recurring template in the generation jobs")
+@Category({"Task Management", "Scheduler"})
+@StackTrace(false)
+public class TemplateGenerationEvent extends Event {
+
+    @Label("Template ID")
+    long templateId;
+
+    @Label("User ID")
+    long userId;
+
+    @Label("Recurrence")
+    String recurrence;
+
+    @Label("Task ID")
+    long taskId;
+
+    public TemplateGenerationEvent(long templateId, String recurrence) {
+        this.templateId = templateId;
+        this.recurrence = recurrence;
+        begin();
+    }
+
+    public void end(long taskId, long userId) {
+        if (shouldCommit()) {
+            this.taskId = taskId;
+            this.userId = userId;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.taskmanagement.logging;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Rate-limited logging for per-item messages
+ * Demonstrates:
+ * - Keeping the first N detail lines per activity and interval, dropping the rest
+ * - Replacing thousands of lines per batch with one summary line (count, failures, durations)
+ *
+ * Callers record every item and log their own detail line only when record() returns true.
+ * Items are added inside the map's compute and windows are taken out with remove, so every
+ * item lands in exactly one summary.
+ *
+ * @author Yanamala Sanjay
+ */
+@Component
+@Slf4j
+public class ActivityLog {
+
+    private final int detailLinesPerInterval;
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ActivityLog(@Value("${taskmanagement.logging.detail-lines-per-interval:100}") int detailLinesPerInterval) {
+        this.detailLinesPerInterval = detailLinesPerInterval;
+    }
+
+    /**
+     * Count one item of an activity
+     *
+     * @return true if the caller should write its detail line for this item
+     */
+    public boolean record(String activity, boolean succeeded, long durationNanos) {
+        long[] seen = new long[1];
+        windows.compute(activity, (key, window) -> {
+            Window current = window != null ? window : new Window();
+            seen[0] = current.add(succeeded, durationNanos);
+            return current;
+        });
+        return seen[0] <= detailLinesPerInterval;
+    }
+
+    /**
+     * One summary line per activity seen since the last summary
+     */
+    @Scheduled(fixedDelayString = "${taskmanagement.logging.summary-interval-ms:60000}")
+    public void logSummary() {
+        for (String activity : List.copyOf(windows.keySet())) {
+            Window window = windows.remove(activity);
+            long count = window == null ? 0 : window.count.get();
+            if (count == 0) {
+                continue;
+            }
+
+            long suppressed = Math.max(0, count - detailLinesPerInterval);
+            log.info("{}: {} items ({} failed), avg {} ms, max {} ms, {} detail lines suppressed",
+                    activity, count, window.failures.sum(),
+                    window.totalNanos.sum() / count / 1_000_000, window.maxNanos.get() / 1_000_000,
+                    suppressed);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        logSummary();
+    }
+
+    private static class Window {
+        private final AtomicLong count = new AtomicLong();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        long add(boolean succeeded, long durationNanos) {
+            if (!succeeded) {
+                failures.increment();
+            }
+            totalNanos.add(durationNanos);
+            maxNanos.accumulateAndGet(durationNanos, Math::max);
+            return count.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.taskmanagement.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Metrics for scheduled jobs
+ * Records per job:
+ * - taskmanagement.job.duration (timer, tagged with outcome)
+ * - taskmanagement.job.rows (counter of rows touched)
+ * - taskmanagement.job.last.rows and taskmanagement.job.last.success (gauges, for SLO alerts)
+ * Each run ends with one summary log line.
+ *
+ * @author Yanamala Sanjay
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class JobMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicLong> lastRows = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> lastSuccess = new ConcurrentHashMap<>();
+
+    /**
+     * Time a job run; the body returns the number of rows it touched
+     */
+    public int record(String job, IntSupplier body) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        long started = System.nanoTime();
+        String outcome = "failure";
+        try {
+            int rows = body.getAsInt();
+            outcome = "success";
+            log.info("Job {} finished: {} rows in {} ms", job, rows, (System.nanoTime() - started) / 1_000_000);
+
+            Counter.builder("taskmanagement.job.rows")
+                    .tag("job", job)
+                    .register(meterRegistry)
+                    .increment(rows);
+            gauge("taskmanagement.job.last.rows", job, lastRows).set(rows);
+            gauge("taskmanagement.job.last.success", job, lastSuccess).set(System.currentTimeMillis() / 1000);
+            return rows;
+        } finally {
+            sample.stop(Timer.builder("taskmanagement.job.duration")
+                    .description("Duration of scheduled job runs")
+                    .tag("job", job)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private AtomicLong gauge(String name, String job, Map<String, AtomicLong> values) {
+        return values.computeIfAbsent(job, key -> {
+            AtomicLong value = new AtomicLong();
+            Gauge.builder(name, value, AtomicLong::get)
+                    .tag("job", key)
+                    .register(meterRegistry);
+            return value;
+        });
+    }
+}
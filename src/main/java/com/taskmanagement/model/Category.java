@@ -0,0 +1,28 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Category dictionary entry
+ * Tasks and templates store the integer ID; names are resolved through CategoryDictionary.
+ * Entries are append-only, so a cached mapping never goes stale.
+ *
+ * @author Yanamala Sanjay
+ */
+@Entity
+@Table(name = "categories", uniqueConstraints = @UniqueConstraint(name = "uk_category_name", columnNames = "name"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Category {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(nullable = false, length = 100)
+    private String name;  // e.g., "Material Data Update", "Daily Reporting", "Documentation"
+}
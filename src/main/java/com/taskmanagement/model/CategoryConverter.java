@@ -0,0 +1,30 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.repository.CategoryDictionary;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Maps a category name to its dictionary ID
+ * A Spring bean (Hibernate resolves converters through the application context), so the
+ * dictionary can be injected. Writing an unseen name adds it to the dictionary.
+ */
+@Component
+@Converter
+@RequiredArgsConstructor
+public class CategoryConverter implements AttributeConverter<String, Integer> {
+
+    private final CategoryDictionary categoryDictionary;
+
+    @Override
+    public Integer convertToDatabaseColumn(String name) {
+        return name != null ? categoryDictionary.idOf(name) : null;
+    }
+
+    @Override
+    public String convertToEntityAttribute(Integer id) {
+        return id != null ? categoryDictionary.nameOf(id) : null;
+    }
+}
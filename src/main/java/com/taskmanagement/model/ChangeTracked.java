@@ -0,0 +1,14 @@
+package com.taskmanagement.model;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity stamped with a modification time and change number on every insert and update
+ * (see ChangeTrackingListener); sync clients fetch rows by change number
+ */
+public interface ChangeTracked {
+
+    void setUpdatedAt(LocalDateTime updatedAt);
+
+    void setChangeSeq(Long changeSeq);
+}
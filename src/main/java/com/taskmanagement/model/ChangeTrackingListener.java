@@ -0,0 +1,31 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.service.ChangeSequence;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+
+/**
+ * Stamps updatedAt and the next change number on ChangeTracked entities
+ * A Spring bean (Hibernate resolves entity listeners through the application context), so the
+ * sequence and clock can be injected. Only runs when Hibernate writes the row, so unchanged
+ * entities keep their number. Plain JDBC inserts (bulk import) stamp their rows themselves.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChangeTrackingListener {
+
+    private final ChangeSequence changeSequence;
+    private final Clock clock;
+
+    @PrePersist
+    @PreUpdate
+    public void stamp(ChangeTracked entity) {
+        entity.setUpdatedAt(LocalDateTime.now(clock));
+        entity.setChangeSeq(changeSequence.next());
+    }
+}
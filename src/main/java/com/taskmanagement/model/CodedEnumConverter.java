@@ -0,0 +1,49 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.AttributeConverter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.ToIntFunction;
+
+/**
+ * Stores an enum as a one-byte code instead of its name
+ * Demonstrates:
+ * - Explicit, stable codes (renaming or reordering constants doesn't touch stored rows)
+ * - TINYINT columns and indexes instead of VARCHAR(50)
+ *
+ * @author Yanamala Sanjay
+ */
+public abstract class CodedEnumConverter<E extends Enum<E>> implements AttributeConverter<E, Byte> {
+
+    private final Class<E> type;
+    private final ToIntFunction<E> codeOf;
+    private final Map<Byte, E> byCode = new HashMap<>();
+
+    protected CodedEnumConverter(Class<E> type, ToIntFunction<E> codeOf) {
+        this.type = type;
+        this.codeOf = codeOf;
+        for (E constant : type.getEnumConstants()) {
+            if (byCode.put((byte) codeOf.applyAsInt(constant), constant) != null) {
+                throw new IllegalStateException("Duplicate code " + codeOf.applyAsInt(constant) + " in " + type.getSimpleName());
+            }
+        }
+    }
+
+    @Override
+    public Byte convertToDatabaseColumn(E attribute) {
+        return attribute != null ? (byte) codeOf.applyAsInt(attribute) : null;
+    }
+
+    @Override
+    public E convertToEntityAttribute(Byte code) {
+        if (code == null) {
+            return null;
+        }
+        E constant = byCode.get(code);
+        if (constant == null) {
+            throw new IllegalArgumentException("Unknown " + type.getSimpleName() + " code: " + code);
+        }
+        return constant;
+    }
+}
@@ -0,0 +1,51 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Persisted completion-time sketch for one (user, category, priority, day) bucket
+ * The histogram column holds a compressed HdrHistogram of minutes from creation to completion
+ *
+ * @author Yanamala Sanjay
+ */
+@Entity
+@Table(name = "completion_time_sketches", uniqueConstraints = @UniqueConstraint(
+        name = "uk_sketch_bucket", columnNames = {"bucket_date", "user_id", "category", "priority"}))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompletionTimeSketch {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String category = "";  // Empty string for uncategorised tasks so the unique key stays effective
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaskPriority priority;
+
+    @Column(name = "bucket_date", nullable = false)
+    private LocalDate bucketDate;  // Day the tasks were completed
+
+    @Column(name = "sample_count", nullable = false)
+    private Long sampleCount;
+
+    @Lob
+    @Column(nullable = false, length = 65535)
+    private byte[] histogram;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
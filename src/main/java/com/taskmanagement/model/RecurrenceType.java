@@ -3,10 +3,21 @@ package com.taskmanagement.model;
 /**
  * Enum for recurring task types
  * Demonstrates recurring task engine implementation
+ * Stored as its code (see RecurrenceTypeConverter); never renumber or reuse codes
  */
 public enum RecurrenceType {
-    NONE,      // One-time task
-    DAILY,     // Repeats every day
-    WEEKLY,    // Repeats every week
-    MONTHLY    // Repeats every month
+    NONE(0),      // One-time task
+    DAILY(1),     // Repeats every day
+    WEEKLY(2),    // Repeats every week
+    MONTHLY(3);   // Repeats every month
+
+    private final int code;
+
+    RecurrenceType(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
 }
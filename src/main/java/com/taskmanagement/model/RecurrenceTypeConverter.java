@@ -0,0 +1,14 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Maps RecurrenceType to its code column
+ */
+@Converter
+public class RecurrenceTypeConverter extends CodedEnumConverter<RecurrenceType> {
+
+    public RecurrenceTypeConverter() {
+        super(RecurrenceType.class, RecurrenceType::getCode);
+    }
+}
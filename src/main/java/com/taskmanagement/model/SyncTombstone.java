@@ -0,0 +1,52 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Record of a deleted task or template, so sync clients learn about the deletion
+ * Kept for the tombstone retention period; clients that last synced before that start over
+ *
+ * @author Yanamala Sanjay
+ */
+@Entity
+@Table(name = "sync_tombstones",
+        indexes = {
+                @Index(name = "idx_tombstones_user_change", columnList = "user_id, change_seq"),
+                @Index(name = "idx_tombstones_deleted", columnList = "deleted_at")
+        })
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncTombstone {
+
+    public enum EntityType {
+        TASK, TEMPLATE
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;  // Assignee at the time of deletion
+
+    @Column(name = "change_seq", nullable = false)
+    private Long changeSeq;
+
+    @Column(name = "deleted_at", nullable = false)
+    private LocalDateTime deletedAt;
+}
@@ -3,7 +3,9 @@ package com.taskmanagement.model;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -15,15 +17,19 @@ import java.time.LocalDateTime;
  * - Priority-based organization
  * - Deadline tracking
  * - Recurring task support
+ * - Compact columns: enums as one-byte codes, category as a dictionary ID
+ * - Large text in a lazily loaded side table (TaskDetails)
+ * - Change number and modification time for delta sync (ChangeTracked)
  *
  * @author Yanamala Sanjay
  */
 @Entity
 @Table(name = "tasks")
+@EntityListeners(ChangeTrackingListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Task {
+public class Task implements ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -36,15 +42,19 @@ public class Task {
     @Column(nullable = false)
     private String title;
 
-    @Column(length = 1000)
-    private String description;
+    // Only the single-task GET and email rendering fetch this; see getDescription()
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "details_id")
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private TaskDetails details;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Convert(converter = TaskStatusConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
     private TaskStatus status = TaskStatus.TODO;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
     private TaskPriority priority = TaskPriority.MEDIUM;
 
     @Column(name = "due_date")
@@ -59,8 +69,8 @@ public class Task {
     @Column(name = "is_recurring")
     private Boolean isRecurring = false;
 
-    @Enumerated(EnumType.STRING)
-    @Column(name = "recurrence_type")
+    @Convert(converter = RecurrenceTypeConverter.class)
+    @Column(name = "recurrence_type", columnDefinition = "TINYINT")
     private RecurrenceType recurrenceType = RecurrenceType.NONE;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -70,26 +80,56 @@ public class Task {
     @Column(name = "reminder_sent")
     private Boolean reminderSent = false;
 
-    private String category;  // e.g., "Material Data Update", "Daily Reporting", "Documentation"
+    @Convert(converter = CategoryConverter.class)
+    @Column(name = "category_id")
+    private String category;  // e.g., "Material Data Update"; stored as an ID into the categories dictionary
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // Set on every write; 0 for rows written before change tracking or by bulk loaders
+    @Column(name = "change_seq", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long changeSeq = 0L;
+
+    /**
+     * Description from the details row (loads it if it isn't fetched yet)
+     */
+    public String getDescription() {
+        return details != null ? details.getDescription() : null;
+    }
+
+    /**
+     * Set the description, creating the details row on first use
+     */
+    public void setDescription(String description) {
+        if (details == null) {
+            if (description == null) {
+                return;
+            }
+            details = new TaskDetails();
+        }
+        details.setDescription(description);
+    }
 
     /**
      * Check if task is overdue
+     * Dates are passed in (LocalDate.now(clock)) so simulated time applies to entities too
      */
-    public boolean isOverdue() {
+    public boolean isOverdue(LocalDate today) {
         if (dueDate == null || status == TaskStatus.COMPLETED) {
             return false;
         }
-        return LocalDate.now().isAfter(dueDate);
+        return today.isAfter(dueDate);
     }
 
     /**
      * Get days until deadline
      */
-    public long getDaysUntilDeadline() {
+    public long getDaysUntilDeadline(LocalDate today) {
         if (dueDate == null) {
             return Long.MAX_VALUE;
         }
-        return java.time.temporal.ChronoUnit.DAYS.between(LocalDate.now(), dueDate);
+        return java.time.temporal.ChronoUnit.DAYS.between(today, dueDate);
     }
 
     /**
@@ -97,12 +137,12 @@ public class Task {
      * Send reminder 1 day before deadline for non-critical tasks
      * Send reminder 2 days before for critical tasks
      */
-    public boolean shouldSendReminder() {
+    public boolean shouldSendReminder(LocalDate today) {
         if (reminderSent || status == TaskStatus.COMPLETED || dueDate == null) {
             return false;
         }
 
-        long daysUntil = getDaysUntilDeadline();
+        long daysUntil = getDaysUntilDeadline(today);
 
         return (priority == TaskPriority.CRITICAL && daysUntil <= 2) ||
                (priority != TaskPriority.CRITICAL && daysUntil <= 1);
@@ -0,0 +1,50 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Task counters for one (user, category, day) bucket
+ * Flow counters (created, completed) count what happened that day; stock counters (open, overdue)
+ * are taken at the end of the day. Written by DailyStatsRollup with plain JDBC.
+ *
+ * @author Yanamala Sanjay
+ */
+@Entity
+@Table(name = "task_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_stats_bucket", columnNames = {"stat_date", "user_id", "category"}),
+        indexes = @Index(name = "idx_daily_stats_user", columnList = "user_id, stat_date"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private String category = "";  // Empty string for uncategorised tasks so the unique key stays effective
+
+    @Column(name = "created_count", nullable = false)
+    private Integer createdCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private Integer completedCount;
+
+    @Column(name = "open_count", nullable = false)
+    private Integer openCount;
+
+    @Column(name = "overdue_count", nullable = false)
+    private Integer overdueCount;
+}
@@ -0,0 +1,28 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Large text of a task, kept out of the tasks table
+ * Loaded lazily from Task, so list queries and scheduler scans read narrow rows.
+ * Longer-form fields (notes, rich text) belong here too.
+ *
+ * @author Yanamala Sanjay
+ */
+@Entity
+@Table(name = "task_details")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskDetails {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(length = 1000)
+    private String description;
+}
@@ -3,10 +3,22 @@ package com.taskmanagement.model;
 /**
  * Enum for task priority levels
  * Used for priority-based alerts
+ * Stored as its code (see TaskPriorityConverter); codes rise with urgency so ORDER BY priority DESC
+ * puts CRITICAL first. Never renumber or reuse them.
  */
 public enum TaskPriority {
-    LOW,
-    MEDIUM,
-    HIGH,
-    CRITICAL
+    LOW(0),
+    MEDIUM(1),
+    HIGH(2),
+    CRITICAL(3);
+
+    private final int code;
+
+    TaskPriority(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
 }
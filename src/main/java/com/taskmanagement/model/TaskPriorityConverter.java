@@ -0,0 +1,14 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Maps TaskPriority to its code column
+ */
+@Converter
+public class TaskPriorityConverter extends CodedEnumConverter<TaskPriority> {
+
+    public TaskPriorityConverter() {
+        super(TaskPriority.class, TaskPriority::getCode);
+    }
+}
@@ -2,10 +2,21 @@ package com.taskmanagement.model;
 
 /**
  * Enum representing task status
+ * Stored as its code (see TaskStatusConverter); codes are persisted, so never renumber or reuse them
  */
 public enum TaskStatus {
-    TODO,         // Task not started
-    IN_PROGRESS,  // Task in progress
-    COMPLETED,    // Task completed
-    OVERDUE       // Task passed deadline
+    TODO(0),         // Task not started
+    IN_PROGRESS(1),  // Task in progress
+    COMPLETED(2),    // Task completed
+    OVERDUE(3);      // Task passed deadline
+
+    private final int code;
+
+    TaskStatus(int code) {
+        this.code = code;
+    }
+
+    public int getCode() {
+        return code;
+    }
 }
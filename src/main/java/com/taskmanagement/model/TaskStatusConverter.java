@@ -0,0 +1,14 @@
+package com.taskmanagement.model;
+
+import jakarta.persistence.Converter;
+
+/**
+ * Maps TaskStatus to its code column
+ */
+@Converter
+public class TaskStatusConverter extends CodedEnumConverter<TaskStatus> {
+
+    public TaskStatusConverter() {
+        super(TaskStatus.class, TaskStatus::getCode);
+    }
+}
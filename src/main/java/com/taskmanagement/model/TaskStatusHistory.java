@@ -0,0 +1,54 @@
+package com.taskmanagement.model;
+
+import com.taskmanagement.event.ChangeSource;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of a task moving between statuses
+ * Rows are never updated and outlive the task they describe, so task_id is not a foreign key
+ *
+ * @author Yanamala Sanjay
+ */
+@Entity
+@Table(name = "task_status_history", indexes = {
+        @Index(name = "idx_history_task", columnList = "task_id, changed_at"),
+        @Index(name = "idx_history_user", columnList = "user_id, changed_at"),
+        @Index(name = "idx_history_category", columnList = "category, changed_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusHistory {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "task_id", nullable = false)
+    private Long taskId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status")
+    private TaskStatus fromStatus;  // Null for the initial transition when a task is created
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false)
+    private TaskStatus toStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ChangeSource source;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+}
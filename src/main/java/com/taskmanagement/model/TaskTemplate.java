@@ -18,10 +18,11 @@ import java.time.LocalTime;
  */
 @Entity
 @Table(name = "task_templates")
+@EntityListeners(ChangeTrackingListener.class)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class TaskTemplate {
+public class TaskTemplate implements ChangeTracked {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -37,12 +38,12 @@ public class TaskTemplate {
     @Column(length = 1000)
     private String description;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Convert(converter = TaskPriorityConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
     private TaskPriority priority = TaskPriority.MEDIUM;
 
-    @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Convert(converter = RecurrenceTypeConverter.class)
+    @Column(nullable = false, columnDefinition = "TINYINT")
     private RecurrenceType recurrenceType;
 
     /**
@@ -79,11 +80,27 @@ public class TaskTemplate {
     @Column(name = "days_to_complete")
     private Integer daysToComplete = 1;
 
-    private String category;
+    @Convert(converter = CategoryConverter.class)
+    @Column(name = "category_id")
+    private String category;  // Stored as an ID into the categories dictionary
 
     @Column(name = "is_active")
     private Boolean isActive = true;  // Can be disabled without deletion
 
+    /**
+     * When set, each generated task goes to the least-loaded user of this department
+     * instead of assignedTo
+     */
+    @Column(name = "auto_assign_department")
+    private String autoAssignDepartment;
+
     @Column(name = "last_generated")
     private java.time.LocalDateTime lastGenerated;  // Track when last task was created
+
+    @Column(name = "updated_at")
+    private java.time.LocalDateTime updatedAt;
+
+    // Set on every write (generation updates lastGenerated, so that counts too)
+    @Column(name = "change_seq", nullable = false, columnDefinition = "BIGINT DEFAULT 0")
+    private Long changeSeq = 0L;
 }
@@ -0,0 +1,180 @@
+package com.taskmanagement.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory name <-> ID mapping for the categories dictionary
+ * Demonstrates:
+ * - Dictionary encoding: tasks and templates store a 4-byte ID instead of the repeated name
+ * - Read-through cache; the table is append-only, so cached entries never need invalidating
+ *
+ * The whole table is loaded at startup. Misses run on the caller's connection (JdbcTemplate joins
+ * its transaction), so a lookup inside a request never needs a second pooled connection. A new
+ * category therefore commits or rolls back with the task that introduced it, and entries found
+ * inside a transaction are only cached once it commits. No lock is held around inserts; concurrent
+ * inserts of the same name are settled by the unique key, and the loser re-reads with a locking read,
+ * which sees the committed row despite the caller's snapshot. Names that don't exist are remembered
+ * for a minute so repeated lookups stay cheap.
+ * Plain JDBC rather than JPA, because the JPA converter depends on this class.
+ *
+ * @author Yanamala Sanjay
+ */
+@Repository
+@Slf4j
+public class CategoryDictionary {
+
+    private static final long UNKNOWN_NAME_TTL_NANOS = 60_000_000_000L;
+    private static final int MAX_UNKNOWN_NAMES = 10_000;
+
+    private static final String SELECT_BY_NAME_SQL = "SELECT id, name FROM categories WHERE name = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, Integer> idsByName = new ConcurrentHashMap<>();
+    private final Map<Integer, String> namesById = new ConcurrentHashMap<>();
+    private final Map<String, Long> unknownNames = new ConcurrentHashMap<>();  // name -> expiry (nanoTime)
+
+    public CategoryDictionary(DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        jdbcTemplate.query("SELECT id, name FROM categories", rs -> {
+            cache(rs.getInt(1), rs.getString(2));
+        });
+        log.info("Loaded {} categories", idsByName.size());
+    }
+
+    /**
+     * ID for a category name, adding the name to the dictionary if it is new
+     */
+    public Integer idOf(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return id;
+        }
+
+        id = selectId(name);
+        if (id == null) {
+            try {
+                id = insert(name);
+                log.info("New category: {} ({})", name, id);
+            } catch (DuplicateKeyException e) {
+                // Another request or instance inserted the same name first
+                id = select(SELECT_BY_NAME_SQL + " FOR UPDATE", name);
+                if (id == null) {
+                    throw e;
+                }
+            }
+        }
+        // Also cache the name as written, in case the column collation matched a differently-cased entry
+        Integer found = id;
+        afterCommit(() -> idsByName.put(name, found));
+        return id;
+    }
+
+    /**
+     * ID for a category name, without creating it (lookups for unknown names match nothing)
+     */
+    public Optional<Integer> find(String name) {
+        Integer id = idsByName.get(name);
+        if (id != null) {
+            return Optional.of(id);
+        }
+
+        Long unknownUntil = unknownNames.get(name);
+        if (unknownUntil != null && unknownUntil - System.nanoTime() > 0) {
+            return Optional.empty();
+        }
+
+        id = selectId(name);
+        if (id == null) {
+            if (unknownNames.size() >= MAX_UNKNOWN_NAMES) {
+                unknownNames.clear();
+            }
+            unknownNames.put(name, System.nanoTime() + UNKNOWN_NAME_TTL_NANOS);
+        }
+        return Optional.ofNullable(id);
+    }
+
+    public String nameOf(Integer id) {
+        String name = namesById.get(id);
+        if (name != null) {
+            return name;
+        }
+        List<String> names = jdbcTemplate.query("SELECT id, name FROM categories WHERE id = ?", (rs, rowNum) -> {
+            remember(rs.getInt(1), rs.getString(2));
+            return rs.getString(2);
+        }, id);
+        if (names.isEmpty()) {
+            throw new IllegalStateException("Unknown category id: " + id);
+        }
+        return names.get(0);
+    }
+
+    private Integer selectId(String name) {
+        return select(SELECT_BY_NAME_SQL, name);
+    }
+
+    private Integer insert(String name) {
+        KeyHolder keys = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    "INSERT INTO categories (name) VALUES (?)", Statement.RETURN_GENERATED_KEYS);
+            statement.setString(1, name);
+            return statement;
+        }, keys);
+        int id = keys.getKey().intValue();
+        remember(id, name);
+        return id;
+    }
+
+    private Integer select(String sql, String name) {
+        List<Integer> ids = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            remember(rs.getInt(1), rs.getString(2));
+            return rs.getInt(1);
+        }, name);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    private void remember(int id, String name) {
+        afterCommit(() -> cache(id, name));
+    }
+
+    // A row read or written inside a transaction may still roll back (or be this transaction's own insert)
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private void cache(int id, String name) {
+        idsByName.put(name, id);
+        namesById.put(id, name);
+        unknownNames.remove(name);
+    }
+}
@@ -0,0 +1,22 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.CompletionTimeSketch;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for CompletionTimeSketch entity
+ * Writes go through batched upserts in CompletionTimeSketchStore
+ */
+@Repository
+public interface CompletionTimeSketchRepository extends JpaRepository<CompletionTimeSketch, Long> {
+
+    // Find sketches completed on or after a day (startup load)
+    List<CompletionTimeSketch> findByBucketDateGreaterThanEqual(LocalDate start);
+
+    // Find sketches for a closed day range (queries older than the in-memory window)
+    List<CompletionTimeSketch> findByBucketDateBetween(LocalDate start, LocalDate end);
+}
@@ -0,0 +1,25 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.SyncTombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for SyncTombstone entity
+ */
+@Repository
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, Long> {
+
+    // Deletions for a user within a change range (sync)
+    List<SyncTombstone> findByUserIdAndChangeSeqGreaterThanAndChangeSeqLessThanEqual(Long userId, Long since, Long upTo);
+
+    // Drop tombstones past the retention period
+    @Modifying
+    @Query("DELETE FROM SyncTombstone s WHERE s.deletedAt < :cutoff")
+    int deleteOlderThan(LocalDateTime cutoff);
+}
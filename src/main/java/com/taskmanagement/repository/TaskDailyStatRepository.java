@@ -0,0 +1,32 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.model.TaskDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository for TaskDailyStat entity
+ * Writes go through DailyStatsRollup; reads sum buckets per day in the database
+ */
+@Repository
+public interface TaskDailyStatRepository extends JpaRepository<TaskDailyStat, Long> {
+
+    // Last day rolled up (where the next incremental run resumes)
+    @Query("SELECT MAX(s.statDate) FROM TaskDailyStat s")
+    LocalDate findLatestStatDate();
+
+    // Created, completed, open and overdue per day over a date range (one row per day with buckets);
+    // null filters match everything
+    @Query("SELECT s.statDate, SUM(s.createdCount), SUM(s.completedCount), SUM(s.openCount), SUM(s.overdueCount) " +
+            "FROM TaskDailyStat s JOIN User u ON u.id = s.userId " +
+            "WHERE s.statDate BETWEEN :from AND :to " +
+            "AND (:department IS NULL OR u.department = :department) " +
+            "AND (:userId IS NULL OR s.userId = :userId) " +
+            "AND (:category IS NULL OR s.category = :category) " +
+            "GROUP BY s.statDate ORDER BY s.statDate")
+    List<Object[]> sumByDay(LocalDate from, LocalDate to, String department, Long userId, String category);
+}
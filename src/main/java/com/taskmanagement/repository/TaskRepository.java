@@ -3,12 +3,17 @@ package com.taskmanagement.repository;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.TaskPriority;
 import com.taskmanagement.model.TaskStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for Task entity
@@ -17,6 +22,15 @@ import java.util.List;
 @Repository
 public interface TaskRepository extends JpaRepository<Task, Long> {
 
+    // Find task by ID with its assignee and template; the details row stays lazy (status changes, deletes)
+    @Override
+    @EntityGraph(attributePaths = {"assignedTo", "template"})
+    Optional<Task> findById(Long id);
+
+    // Find task by ID with its details as well (single-task GET, full update)
+    @EntityGraph(attributePaths = {"assignedTo", "details", "template"})
+    Optional<Task> findWithDetailsById(Long id);
+
     // Find tasks by user
     List<Task> findByAssignedToId(Long userId);
 
@@ -29,35 +43,107 @@ public interface TaskRepository extends JpaRepository<Task, Long> {
     // Find tasks by priority
     List<Task> findByPriority(TaskPriority priority);
 
+    // Status values are bound as parameters rather than JPQL literals, so they go through the
+    // column's code converter and compare as integers. "Today" is a parameter rather than
+    // CURRENT_DATE so it follows the application Clock (and simulated time).
+
     // Find overdue tasks
-    @Query("SELECT t FROM Task t WHERE t.dueDate < CURRENT_DATE AND t.status != 'COMPLETED'")
-    List<Task> findOverdueTasks();
+    @Query("SELECT t FROM Task t WHERE t.dueDate < :today AND t.status != :completed")
+    List<Task> findOverdueTasks(LocalDate today, TaskStatus completed);
+
+    default List<Task> findOverdueTasks(LocalDate today) {
+        return findOverdueTasks(today, TaskStatus.COMPLETED);
+    }
 
     // Find tasks due today
-    @Query("SELECT t FROM Task t WHERE t.dueDate = CURRENT_DATE AND t.status != 'COMPLETED'")
-    List<Task> findTasksDueToday();
+    @Query("SELECT t FROM Task t WHERE t.dueDate = :today AND t.status != :completed")
+    List<Task> findTasksDueToday(LocalDate today, TaskStatus completed);
+
+    default List<Task> findTasksDueToday(LocalDate today) {
+        return findTasksDueToday(today, TaskStatus.COMPLETED);
+    }
 
     // Find tasks needing reminders
-    @Query("SELECT t FROM Task t WHERE t.reminderSent = false AND t.status != 'COMPLETED' AND t.dueDate IS NOT NULL")
-    List<Task> findTasksNeedingReminders();
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo " +
+            "WHERE t.reminderSent = false AND t.status != :completed AND t.dueDate IS NOT NULL")
+    List<Task> findTasksNeedingReminders(TaskStatus completed);
+
+    default List<Task> findTasksNeedingReminders() {
+        return findTasksNeedingReminders(TaskStatus.COMPLETED);
+    }
 
     // Find user's tasks due between dates
     List<Task> findByAssignedToIdAndDueDateBetween(Long userId, LocalDate start, LocalDate end);
 
     // Find user's pending tasks ordered by priority and due date
-    @Query("SELECT t FROM Task t WHERE t.assignedTo.id = :userId AND t.status != 'COMPLETED' ORDER BY t.priority DESC, t.dueDate ASC")
-    List<Task> findUserPendingTasksOrdered(Long userId);
+    @Query("SELECT t FROM Task t WHERE t.assignedTo.id = :userId AND t.status != :completed ORDER BY t.priority DESC, t.dueDate ASC")
+    List<Task> findUserPendingTasksOrdered(Long userId, TaskStatus completed);
+
+    default List<Task> findUserPendingTasksOrdered(Long userId) {
+        return findUserPendingTasksOrdered(userId, TaskStatus.COMPLETED);
+    }
 
     // Count tasks by status for a user
     @Query("SELECT COUNT(t) FROM Task t WHERE t.assignedTo.id = :userId AND t.status = :status")
     Long countByUserAndStatus(Long userId, TaskStatus status);
 
+    // Total, completed and overdue task counts for a user in one pass
+    @Query("SELECT COUNT(t), " +
+            "COALESCE(SUM(CASE WHEN t.status = :completed THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.status != :completed AND t.dueDate < :today THEN 1 ELSE 0 END), 0) " +
+            "FROM Task t WHERE t.assignedTo.id = :userId")
+    List<Object[]> summarizeByUser(Long userId, LocalDate today, TaskStatus completed);
+
+    default List<Object[]> summarizeByUser(Long userId, LocalDate today) {
+        return summarizeByUser(userId, today, TaskStatus.COMPLETED);
+    }
+
+    // Task counts per member and category of a department in one pass (department rollup);
+    // members without tasks give one row with a null category and zero counts
+    @Query("SELECT u.id, u.name, u.email, t.category, COUNT(t), " +
+            "COALESCE(SUM(CASE WHEN t.status = :completed THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.status = :inProgress THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.status != :completed AND t.dueDate < :today THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN t.status != :completed AND t.dueDate = :today THEN 1 ELSE 0 END), 0), " +
+            "MIN(CASE WHEN t.status != :completed AND t.dueDate < :today THEN t.dueDate END) " +
+            "FROM User u LEFT JOIN Task t ON t.assignedTo = u " +
+            "WHERE u.department = :department " +
+            "GROUP BY u.id, u.name, u.email, t.category")
+    List<Object[]> summarizeDepartment(String department, LocalDate today, TaskStatus completed, TaskStatus inProgress);
+
+    default List<Object[]> summarizeDepartment(String department, LocalDate today) {
+        return summarizeDepartment(department, today, TaskStatus.COMPLETED, TaskStatus.IN_PROGRESS);
+    }
+
     // Find recurring tasks
     List<Task> findByIsRecurringTrue();
 
-    // Find tasks by category
-    List<Task> findByCategory(String category);
-
-    // Find tasks by user and category
-    List<Task> findByAssignedToIdAndCategory(Long userId, String category);
+    // Count open tasks per user and priority within a department (assignment load)
+    @Query("SELECT t.assignedTo.id, t.priority, COUNT(t) FROM Task t " +
+            "WHERE t.assignedTo.department = :department AND t.status != :completed " +
+            "GROUP BY t.assignedTo.id, t.priority")
+    List<Object[]> countOpenTasksByUserAndPriority(String department, TaskStatus completed);
+
+    default List<Object[]> countOpenTasksByUserAndPriority(String department) {
+        return countOpenTasksByUserAndPriority(department, TaskStatus.COMPLETED);
+    }
+
+    // Unlink tasks from a template about to be deleted, stamped like any other change so sync sees it
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Task t SET t.template = NULL, t.updatedAt = :updatedAt, t.changeSeq = :changeSeq " +
+            "WHERE t.template.id = :templateId")
+    int detachFromTemplate(Long templateId, LocalDateTime updatedAt, long changeSeq);
+
+    // Users in an ID range with tasks created since a point in time (warm-up)
+    @Query("SELECT DISTINCT t.assignedTo.id FROM Task t " +
+            "WHERE t.assignedTo.id BETWEEN :fromId AND :toId AND t.createdAt >= :since")
+    List<Long> findActiveUserIdsBetween(Long fromId, Long toId, LocalDateTime since);
+
+    // Find tasks by IDs with their assignee and details loaded in the same query (email rendering)
+    @Query("SELECT t FROM Task t JOIN FETCH t.assignedTo LEFT JOIN FETCH t.details WHERE t.id IN :ids")
+    List<Task> findAllWithAssigneeByIdIn(Collection<Long> ids);
+
+    // Find tasks by IDs with their details; assignees and templates are batch-loaded separately (multi-get)
+    @Query("SELECT t FROM Task t LEFT JOIN FETCH t.details WHERE t.id IN :ids")
+    List<Task> findAllWithDetailsByIdIn(Collection<Long> ids);
 }
@@ -0,0 +1,33 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.dto.TransitionCount;
+import com.taskmanagement.model.TaskStatusHistory;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository for TaskStatusHistory entity
+ * Rows are written in JDBC batches by StatusHistoryWriter; this interface is read-only in practice
+ */
+@Repository
+public interface TaskStatusHistoryRepository extends JpaRepository<TaskStatusHistory, Long> {
+
+    // Timeline of one task (served by idx_history_task)
+    List<TaskStatusHistory> findByTaskIdOrderByChangedAtAscIdAsc(Long taskId);
+
+    // Transition counts for a user within [start, end) (served by idx_history_user)
+    @Query("SELECT new com.taskmanagement.dto.TransitionCount(h.fromStatus, h.toStatus, COUNT(h)) " +
+            "FROM TaskStatusHistory h WHERE h.userId = :userId AND h.changedAt >= :start AND h.changedAt < :end " +
+            "GROUP BY h.fromStatus, h.toStatus")
+    List<TransitionCount> countTransitionsByUser(Long userId, LocalDateTime start, LocalDateTime end);
+
+    // Transition counts for a category within [start, end) (served by idx_history_category)
+    @Query("SELECT new com.taskmanagement.dto.TransitionCount(h.fromStatus, h.toStatus, COUNT(h)) " +
+            "FROM TaskStatusHistory h WHERE h.category = :category AND h.changedAt >= :start AND h.changedAt < :end " +
+            "GROUP BY h.fromStatus, h.toStatus")
+    List<TransitionCount> countTransitionsByCategory(String category, LocalDateTime start, LocalDateTime end);
+}
@@ -2,10 +2,12 @@ package com.taskmanagement.repository;
 
 import com.taskmanagement.model.RecurrenceType;
 import com.taskmanagement.model.TaskTemplate;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository for TaskTemplate entity
@@ -13,15 +15,27 @@ import java.util.List;
 @Repository
 public interface TaskTemplateRepository extends JpaRepository<TaskTemplate, Long> {
 
+    // Templates are serialized with their assignee, so it is fetched in the same query
+    @Override
+    @EntityGraph(attributePaths = "assignedTo")
+    Optional<TaskTemplate> findById(Long id);
+
     // Find templates by user
+    @EntityGraph(attributePaths = "assignedTo")
     List<TaskTemplate> findByAssignedToId(Long userId);
 
+    // Find a user's templates changed within a change range (sync)
+    @EntityGraph(attributePaths = "assignedTo")
+    List<TaskTemplate> findByAssignedToIdAndChangeSeqGreaterThanAndChangeSeqLessThanEqual(Long userId, Long since, Long upTo);
+
     // Find active templates
+    @EntityGraph(attributePaths = "assignedTo")
     List<TaskTemplate> findByIsActiveTrue();
 
     // Find templates by recurrence type
     List<TaskTemplate> findByRecurrenceType(RecurrenceType recurrenceType);
 
     // Find active templates by recurrence type
+    @EntityGraph(attributePaths = "assignedTo")
     List<TaskTemplate> findByIsActiveTrueAndRecurrenceType(RecurrenceType recurrenceType);
 }
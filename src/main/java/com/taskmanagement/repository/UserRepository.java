@@ -2,6 +2,7 @@ package com.taskmanagement.repository;
 
 import com.taskmanagement.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -24,4 +25,18 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     // Find users by department
     List<User> findByDepartment(String department);
+
+    // Find users with a designation (e.g. department managers) and email digest enabled
+    List<User> findByDesignationIgnoreCaseAndEmailDigestEnabledTrue(String designation);
+
+    // Lowest and highest user ID (warm-up splits this range across threads)
+    @Query("SELECT MIN(u.id), MAX(u.id) FROM User u")
+    List<Object[]> findIdRange();
+
+    // Find users in an ID range
+    List<User> findByIdBetween(Long fromId, Long toId);
+
+    // Distinct departments with at least one user
+    @Query("SELECT DISTINCT u.department FROM User u WHERE u.department IS NOT NULL")
+    List<String> findDepartments();
 }
@@ -1,28 +1,49 @@
 package com.taskmanagement.scheduler;
 
+import com.taskmanagement.dto.DepartmentSummary;
+import com.taskmanagement.metrics.JobMetrics;
 import com.taskmanagement.model.User;
 import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.DepartmentService;
 import com.taskmanagement.service.EmailService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 /**
- * Service for sending daily email digests
+ * Service for sending daily email digests, and weekly department digests to managers
  * Demonstrates email digest system implementation
  *
  * @author Yanamala Sanjay
  */
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class DigestSchedulerService {
 
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final DepartmentService departmentService;
+    private final JobMetrics jobMetrics;
+    private final String managerDesignation;
+
+    public DigestSchedulerService(UserRepository userRepository,
+                                  EmailService emailService,
+                                  DepartmentService departmentService,
+                                  JobMetrics jobMetrics,
+                                  @Value("${taskmanagement.digest.manager-designation:Manager}") String managerDesignation) {
+        this.userRepository = userRepository;
+        this.emailService = emailService;
+        this.departmentService = departmentService;
+        this.jobMetrics = jobMetrics;
+        this.managerDesignation = managerDesignation;
+    }
 
     /**
      * Send daily task digest emails
@@ -30,21 +51,60 @@ public class DigestSchedulerService {
      */
     @Scheduled(cron = "0 0 8 * * ?")
     public void sendDailyDigests() {
-        log.info("Running daily digest job...");
+        jobMetrics.record("send-daily-digests", () -> {
+            log.info("Running daily digest job...");
+
+            List<User> users = userRepository.findByEmailDigestEnabledTrue();
+
+            int digestsSent = 0;
+
+            for (User user : users) {
+                try {
+                    emailService.sendDailyTaskDigest(user);
+                    digestsSent++;
+                } catch (Exception e) {
+                    log.error("Failed to send digest to user: {}", user.getEmail(), e);
+                }
+            }
+
+            log.info("Daily digest job completed. Sent {} digests", digestsSent);
+            return digestsSent;
+        });
+    }
+
+    /**
+     * Send each department's managers the department rollup
+     * Runs every Monday at 8:00 AM
+     */
+    @Scheduled(cron = "0 0 8 * * MON")
+    public void sendManagerDigests() {
+        jobMetrics.record("send-manager-digests", () -> {
+            log.info("Running manager digest job...");
 
-        List<User> users = userRepository.findByEmailDigestEnabledTrue();
+            Map<String, List<User>> managersByDepartment = userRepository
+                    .findByDesignationIgnoreCaseAndEmailDigestEnabledTrue(managerDesignation).stream()
+                    .filter(user -> Objects.nonNull(user.getDepartment()))
+                    .collect(Collectors.groupingBy(User::getDepartment, TreeMap::new, Collectors.toList()));
 
-        int digestsSent = 0;
+            int digestsSent = 0;
 
-        for (User user : users) {
-            try {
-                emailService.sendDailyTaskDigest(user);
-                digestsSent++;
-            } catch (Exception e) {
-                log.error("Failed to send digest to user: {}", user.getEmail(), e);
+            for (Map.Entry<String, List<User>> department : managersByDepartment.entrySet()) {
+                DepartmentSummary summary;
+                try {
+                    summary = departmentService.getSummary(department.getKey());
+                } catch (Exception e) {
+                    log.error("Failed to summarize department: {}", department.getKey(), e);
+                    continue;
+                }
+                for (User manager : department.getValue()) {
+                    emailService.sendManagerDigest(manager, summary);
+                    digestsSent++;
+                }
             }
-        }
 
-        log.info("Daily digest job completed. Sent {} digests", digestsSent);
+            log.info("Manager digest job completed. Sent {} digests for {} departments",
+                    digestsSent, managersByDepartment.size());
+            return digestsSent;
+        });
     }
 }
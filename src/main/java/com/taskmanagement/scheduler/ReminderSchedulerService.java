@@ -1,5 +1,6 @@
 package com.taskmanagement.scheduler;
 
+import com.taskmanagement.metrics.JobMetrics;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.service.EmailService;
@@ -9,6 +10,8 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -24,6 +27,8 @@ public class ReminderSchedulerService {
 
     private final TaskRepository taskRepository;
     private final EmailService emailService;
+    private final JobMetrics jobMetrics;
+    private final Clock clock;
 
     /**
      * Send task reminders
@@ -32,21 +37,25 @@ public class ReminderSchedulerService {
     @Scheduled(fixedRate = 7200000) // Every 2 hours
     @Transactional
     public void sendTaskReminders() {
-        log.info("Running task reminder check...");
+        jobMetrics.record("send-task-reminders", () -> {
+            log.info("Running task reminder check...");
 
-        List<Task> tasks = taskRepository.findTasksNeedingReminders();
+            List<Task> tasks = taskRepository.findTasksNeedingReminders();
 
-        int remindersSent = 0;
+            LocalDate today = LocalDate.now(clock);
+            int remindersSent = 0;
 
-        for (Task task : tasks) {
-            if (task.shouldSendReminder()) {
-                emailService.sendTaskReminder(task);
-                task.setReminderSent(true);
-                taskRepository.save(task);
-                remindersSent++;
+            for (Task task : tasks) {
+                if (task.shouldSendReminder(today)) {
+                    emailService.sendTaskReminder(task);
+                    task.setReminderSent(true);
+                    taskRepository.save(task);
+                    remindersSent++;
+                }
             }
-        }
 
-        log.info("Reminder check completed. Sent {} reminders", remindersSent);
+            log.info("Reminder check completed. Sent {} reminders", remindersSent);
+            return remindersSent;
+        });
     }
 }
@@ -1,14 +1,26 @@
 package com.taskmanagement.scheduler;
 
+import com.taskmanagement.event.ChangeSource;
+import com.taskmanagement.event.DomainEventPipeline;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.event.TemplateGenerated;
+import com.taskmanagement.jfr.TemplateGenerationEvent;
+import com.taskmanagement.logging.ActivityLog;
+import com.taskmanagement.metrics.JobMetrics;
 import com.taskmanagement.model.*;
 import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.TaskTemplateRepository;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.service.AssignmentService;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.DayOfWeek;
@@ -33,6 +45,13 @@ public class TaskSchedulerService {
 
     private final TaskTemplateRepository templateRepository;
     private final TaskRepository taskRepository;
+    private final DomainEventPipeline eventPipeline;
+    private final UserRepository userRepository;
+    private final AssignmentService assignmentService;
+    private final JobMetrics jobMetrics;
+    private final ObservationRegistry observationRegistry;
+    private final ActivityLog activityLog;
+    private final Clock clock;  // Virtual in simulation mode (see SimulationRunner)
 
     /**
      * Generate daily recurring tasks
@@ -42,22 +61,27 @@ public class TaskSchedulerService {
     @Scheduled(cron = "0 0 6 * * ?")
     @Transactional
     public void generateDailyTasks() {
-        log.info("Running daily task generation job...");
-
-        List<TaskTemplate> dailyTemplates = templateRepository
-                .findByIsActiveTrueAndRecurrenceType(RecurrenceType.DAILY);
+        jobMetrics.record("generate-daily-tasks", () -> {
+            log.info("Running daily task generation job...");
+
+            List<TaskTemplate> dailyTemplates = templateRepository
+                    .findByIsActiveTrueAndRecurrenceType(RecurrenceType.DAILY);
+
+            int generated = 0;
+            for (TaskTemplate template : dailyTemplates) {
+                // Check if task already generated today
+                if (wasGeneratedToday(template)) {
+                    log.debug("Task already generated today for template: {}", template.getId());
+                    continue;
+                }
 
-        for (TaskTemplate template : dailyTemplates) {
-            // Check if task already generated today
-            if (wasGeneratedToday(template)) {
-                log.debug("Task already generated today for template: {}", template.getId());
-                continue;
+                generateTaskFromTemplate(template);
+                generated++;
             }
 
-            generateTaskFromTemplate(template);
-        }
-
-        log.info("Daily task generation completed. Generated {} tasks", dailyTemplates.size());
+            log.info("Daily task generation completed. Generated {} tasks", generated);
+            return generated;
+        });
     }
 
     /**
@@ -67,23 +91,28 @@ public class TaskSchedulerService {
     @Scheduled(cron = "0 0 6 * * ?")
     @Transactional
     public void generateWeeklyTasks() {
-        log.info("Running weekly task generation job...");
-
-        List<TaskTemplate> weeklyTemplates = templateRepository
-                .findByIsActiveTrueAndRecurrenceType(RecurrenceType.WEEKLY);
-
-        int todayDayOfWeek = LocalDate.now().getDayOfWeek().getValue(); // 1=Monday, 7=Sunday
-
-        for (TaskTemplate template : weeklyTemplates) {
-            // Check if today matches the scheduled day of week
-            if (template.getDayOfWeek() != null && template.getDayOfWeek() == todayDayOfWeek) {
-                if (!wasGeneratedToday(template)) {
-                    generateTaskFromTemplate(template);
+        jobMetrics.record("generate-weekly-tasks", () -> {
+            log.info("Running weekly task generation job...");
+
+            List<TaskTemplate> weeklyTemplates = templateRepository
+                    .findByIsActiveTrueAndRecurrenceType(RecurrenceType.WEEKLY);
+
+            int todayDayOfWeek = LocalDate.now(clock).getDayOfWeek().getValue(); // 1=Monday, 7=Sunday
+
+            int generated = 0;
+            for (TaskTemplate template : weeklyTemplates) {
+                // Check if today matches the scheduled day of week
+                if (template.getDayOfWeek() != null && template.getDayOfWeek() == todayDayOfWeek) {
+                    if (!wasGeneratedToday(template)) {
+                        generateTaskFromTemplate(template);
+                        generated++;
+                    }
                 }
             }
-        }
 
-        log.info("Weekly task generation completed.");
+            log.info("Weekly task generation completed. Generated {} tasks", generated);
+            return generated;
+        });
     }
 
     /**
@@ -93,23 +122,28 @@ public class TaskSchedulerService {
     @Scheduled(cron = "0 0 6 * * ?")
     @Transactional
     public void generateMonthlyTasks() {
-        log.info("Running monthly task generation job...");
-
-        List<TaskTemplate> monthlyTemplates = templateRepository
-                .findByIsActiveTrueAndRecurrenceType(RecurrenceType.MONTHLY);
-
-        int todayDayOfMonth = LocalDate.now().getDayOfMonth();
-
-        for (TaskTemplate template : monthlyTemplates) {
-            // Check if today matches the scheduled day of month
-            if (template.getDayOfMonth() != null && template.getDayOfMonth() == todayDayOfMonth) {
-                if (!wasGeneratedToday(template)) {
-                    generateTaskFromTemplate(template);
+        jobMetrics.record("generate-monthly-tasks", () -> {
+            log.info("Running monthly task generation job...");
+
+            List<TaskTemplate> monthlyTemplates = templateRepository
+                    .findByIsActiveTrueAndRecurrenceType(RecurrenceType.MONTHLY);
+
+            int todayDayOfMonth = LocalDate.now(clock).getDayOfMonth();
+
+            int generated = 0;
+            for (TaskTemplate template : monthlyTemplates) {
+                // Check if today matches the scheduled day of month
+                if (template.getDayOfMonth() != null && template.getDayOfMonth() == todayDayOfMonth) {
+                    if (!wasGeneratedToday(template)) {
+                        generateTaskFromTemplate(template);
+                        generated++;
+                    }
                 }
             }
-        }
 
-        log.info("Monthly task generation completed.");
+            log.info("Monthly task generation completed. Generated {} tasks", generated);
+            return generated;
+        });
     }
 
     /**
@@ -119,19 +153,40 @@ public class TaskSchedulerService {
     @Scheduled(fixedRate = 3600000) // Every hour in milliseconds
     @Transactional
     public void updateOverdueTasks() {
-        log.info("Checking for overdue tasks...");
-
-        List<Task> overdueTasks = taskRepository.findOverdueTasks();
-
-        for (Task task : overdueTasks) {
-            if (task.getStatus() != TaskStatus.OVERDUE && task.getStatus() != TaskStatus.COMPLETED) {
-                task.setStatus(TaskStatus.OVERDUE);
-                taskRepository.save(task);
-                log.warn("Task marked as overdue: {} (Due: {})", task.getTitle(), task.getDueDate());
+        jobMetrics.record("update-overdue-tasks", () -> {
+            log.info("Checking for overdue tasks...");
+
+            List<Task> overdueTasks = taskRepository.findOverdueTasks(LocalDate.now(clock));
+
+            int updated = 0;
+            for (Task task : overdueTasks) {
+                if (task.getStatus() != TaskStatus.OVERDUE && task.getStatus() != TaskStatus.COMPLETED) {
+                    long started = System.nanoTime();
+                    TaskStatus oldStatus = task.getStatus();
+                    task.setStatus(TaskStatus.OVERDUE);
+                    taskRepository.save(task);
+
+                    eventPipeline.publish(TaskStatusChanged.builder()
+                            .taskId(task.getId())
+                            .userId(task.getAssignedTo().getId())
+                            .oldStatus(oldStatus)
+                            .newStatus(TaskStatus.OVERDUE)
+                            .priority(task.getPriority())
+                            .category(task.getCategory())
+                            .createdAt(task.getCreatedAt())
+                            .source(ChangeSource.OVERDUE_SWEEP)
+                            .occurredAt(LocalDateTime.now(clock))
+                            .build());
+                    if (activityLog.record("overdue-sweep", true, System.nanoTime() - started)) {
+                        log.warn("Task marked as overdue: {} (Due: {})", task.getTitle(), task.getDueDate());
+                    }
+                    updated++;
+                }
             }
-        }
 
-        log.info("Overdue check completed. Found {} overdue tasks", overdueTasks.size());
+            log.info("Overdue check completed. Found {} overdue tasks", overdueTasks.size());
+            return updated;
+        });
     }
 
     /**
@@ -143,42 +198,73 @@ public class TaskSchedulerService {
         }
 
         LocalDate lastGenDate = template.getLastGenerated().toLocalDate();
-        LocalDate today = LocalDate.now();
+        LocalDate today = LocalDate.now(clock);
 
         return lastGenDate.equals(today);
     }
 
     /**
      * Generate a task from a template
-     * Core logic for recurring task creation
+     * Core logic for recurring task creation, traced as one child span per template
      */
     private void generateTaskFromTemplate(TaskTemplate template) {
-        log.info("Generating task from template: {} for user: {}",
+        Observation.createNotStarted("taskmanagement.template.generate", observationRegistry)
+                .contextualName("generate " + template.getRecurrenceType().name().toLowerCase() + " task")
+                .lowCardinalityKeyValue("recurrence", template.getRecurrenceType().name())
+                .highCardinalityKeyValue("template.id", String.valueOf(template.getId()))
+                .highCardinalityKeyValue("user.id", String.valueOf(template.getAssignedTo().getId()))
+                .observe(() -> createTaskFromTemplate(template));
+    }
+
+    private void createTaskFromTemplate(TaskTemplate template) {
+        long started = System.nanoTime();
+        TemplateGenerationEvent jfrEvent = new TemplateGenerationEvent(template.getId(), template.getRecurrenceType().name());
+        log.debug("Generating task from template: {} for user: {}",
                 template.getTitle(), template.getAssignedTo().getEmail());
 
+        boolean autoAssigned = template.getAutoAssignDepartment() != null;
+        User assignee = autoAssigned
+                ? userRepository.getReferenceById(assignmentService.assignLeastLoaded(
+                        template.getAutoAssignDepartment(), template.getPriority()))
+                : template.getAssignedTo();
+
         Task task = new Task();
-        task.setAssignedTo(template.getAssignedTo());
+        task.setAssignedTo(assignee);
         task.setTitle(template.getTitle());
         task.setDescription(template.getDescription());
         task.setPriority(template.getPriority());
         task.setStatus(TaskStatus.TODO);
-        task.setCreatedAt(LocalDateTime.now());
+        task.setCreatedAt(LocalDateTime.now(clock));
         task.setIsRecurring(true);
         task.setRecurrenceType(template.getRecurrenceType());
         task.setTemplate(template);
         task.setCategory(template.getCategory());
 
         // Calculate due date based on template's daysToComplete
-        LocalDate dueDate = LocalDate.now().plusDays(template.getDaysToComplete());
+        LocalDate dueDate = LocalDate.now(clock).plusDays(template.getDaysToComplete());
         task.setDueDate(dueDate);
 
         taskRepository.save(task);
 
         // Update template's last generated timestamp
-        template.setLastGenerated(LocalDateTime.now());
+        template.setLastGenerated(LocalDateTime.now(clock));
         templateRepository.save(template);
 
-        log.info("Task generated successfully: {} (Due: {})", task.getTitle(), task.getDueDate());
+        eventPipeline.publish(TemplateGenerated.builder()
+                .templateId(template.getId())
+                .taskId(task.getId())
+                .userId(assignee.getId())
+                .priority(task.getPriority())
+                .category(task.getCategory())
+                .dueDate(task.getDueDate())
+                .autoAssigned(autoAssigned)
+                .occurredAt(LocalDateTime.now(clock))
+                .build());
+
+        jfrEvent.end(task.getId(), assignee.getId());
+        if (activityLog.record("template-generation", true, System.nanoTime() - started)) {
+            log.info("Task generated successfully: {} (Due: {})", task.getTitle(), task.getDueDate());
+        }
     }
 }
 
@@ -0,0 +1,223 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.BurnDownPoint;
+import com.taskmanagement.dto.CompletionTimeStats;
+import com.taskmanagement.dto.TaskTrendPoint;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.TaskDailyStatRepository;
+import com.taskmanagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.PackedHistogram;
+import org.springframework.stereotype.Service;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Service for completion-time and task-count analytics
+ * Rolls up per-day sketches into department, category, priority and period views, and reads
+ * trend and burn-down series from the task_daily_stats buckets
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@RequiredArgsConstructor
+public class AnalyticsService {
+
+    private static final Set<String> GROUP_DIMENSIONS = Set.of("day", "week", "month", "user", "category", "priority");
+    private static final Set<String> PERIODS = Set.of("day", "week", "month");
+    private static final int MAX_RANGE_DAYS = 1100;  // A little over three years of daily points
+    private static final long[] NO_TASKS = new long[4];
+
+    private final CompletionTimeSketchStore sketchStore;
+    private final UserRepository userRepository;
+    private final TaskDailyStatRepository dailyStatRepository;
+
+    @Value
+    private static class GroupKey {
+        LocalDate periodStart;
+        Long userId;
+        String category;
+        TaskPriority priority;
+    }
+
+    /**
+     * Completion-time percentiles for tasks completed between two dates (inclusive)
+     *
+     * @param department optional department filter
+     * @param category   optional category filter
+     * @param priority   optional priority filter
+     * @param groupBy    any of day/week/month, user, category, priority; empty for a single total
+     */
+    public List<CompletionTimeStats> getCompletionTimes(String department, String category, TaskPriority priority,
+                                                        LocalDate from, LocalDate to, Set<String> groupBy) {
+        for (String dimension : groupBy) {
+            if (!GROUP_DIMENSIONS.contains(dimension)) {
+                throw new IllegalArgumentException("Unknown groupBy dimension: " + dimension);
+            }
+        }
+        checkRange(from, to);
+
+        Set<Long> departmentUsers = department == null ? null
+                : userRepository.findByDepartment(department).stream()
+                        .map(User::getId)
+                        .collect(Collectors.toSet());
+
+        Map<GroupKey, PackedHistogram> groups = new LinkedHashMap<>();
+        sketchStore.forEachBucket(from, to, (day, key, histogram) -> {
+            if (departmentUsers != null && !departmentUsers.contains(key.getUserId())) {
+                return;
+            }
+            if (category != null && !category.equals(key.getCategory())) {
+                return;
+            }
+            if (priority != null && priority != key.getPriority()) {
+                return;
+            }
+
+            GroupKey groupKey = new GroupKey(
+                    periodStart(day, groupBy),
+                    groupBy.contains("user") ? key.getUserId() : null,
+                    groupBy.contains("category") ? key.getCategory() : null,
+                    groupBy.contains("priority") ? key.getPriority() : null);
+            groups.computeIfAbsent(groupKey, k -> CompletionTimeSketchStore.newHistogram()).add(histogram);
+        });
+
+        return groups.entrySet().stream()
+                .map(entry -> toStats(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparing(CompletionTimeStats::getPeriodStart,
+                        Comparator.nullsFirst(Comparator.naturalOrder())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Created, completed, open and overdue tasks per day, week or month between two dates (inclusive)
+     *
+     * @param department optional department filter
+     * @param userId     optional assignee filter
+     * @param category   optional category filter ("" for uncategorised tasks)
+     * @param period     day, week or month
+     */
+    public List<TaskTrendPoint> getTrend(String department, Long userId, String category,
+                                         LocalDate from, LocalDate to, String period) {
+        if (!PERIODS.contains(period)) {
+            throw new IllegalArgumentException("Unknown period: " + period);
+        }
+        Map<LocalDate, long[]> days = sumByDay(department, userId, category, from, to);
+
+        Map<LocalDate, TaskTrendPoint> points = new LinkedHashMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            long[] counts = days.getOrDefault(day, NO_TASKS);
+            TaskTrendPoint point = points.computeIfAbsent(periodStart(day, Set.of(period)),
+                    start -> TaskTrendPoint.builder().periodStart(start).build());
+            point.setCreatedTasks(point.getCreatedTasks() + counts[0]);
+            point.setCompletedTasks(point.getCompletedTasks() + counts[1]);
+            // Days are visited in order, so the period ends up with its last day's counts
+            point.setOpenTasks(counts[2]);
+            point.setOverdueTasks(counts[3]);
+        }
+        return new ArrayList<>(points.values());
+    }
+
+    /**
+     * Remaining open tasks per day between two dates (inclusive), with the tasks added and
+     * completed since the first day
+     *
+     * @param department optional department filter
+     * @param userId     optional assignee filter
+     * @param category   optional category filter ("" for uncategorised tasks)
+     */
+    public List<BurnDownPoint> getBurnDown(String department, Long userId, String category,
+                                           LocalDate from, LocalDate to) {
+        Map<LocalDate, long[]> days = sumByDay(department, userId, category, from, to);
+
+        long start = days.getOrDefault(from, NO_TASKS)[2];
+        long span = ChronoUnit.DAYS.between(from, to);
+        long added = 0;
+        long completed = 0;
+        List<BurnDownPoint> points = new ArrayList<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            long[] counts = days.getOrDefault(day, NO_TASKS);
+            added += counts[0];
+            completed += counts[1];
+            long elapsed = ChronoUnit.DAYS.between(from, day);
+            double ideal = span == 0 ? 0 : start * (double) (span - elapsed) / span;
+            points.add(BurnDownPoint.builder()
+                    .date(day)
+                    .remainingTasks(counts[2])
+                    .idealRemainingTasks(Math.round(ideal * 10) / 10.0)
+                    .addedTasks(added)
+                    .completedTasks(completed)
+                    .build());
+        }
+        return points;
+    }
+
+    private static void checkRange(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from is after to");
+        }
+        if (ChronoUnit.DAYS.between(from, to) >= MAX_RANGE_DAYS) {
+            throw new IllegalArgumentException("Range is longer than " + MAX_RANGE_DAYS + " days");
+        }
+    }
+
+    /**
+     * Created, completed, open and overdue counts per day that has buckets
+     */
+    private Map<LocalDate, long[]> sumByDay(String department, Long userId, String category,
+                                            LocalDate from, LocalDate to) {
+        checkRange(from, to);
+
+        Map<LocalDate, long[]> days = new HashMap<>();
+        for (Object[] row : dailyStatRepository.sumByDay(from, to, department, userId, category)) {
+            days.put((LocalDate) row[0], new long[]{((Number) row[1]).longValue(), ((Number) row[2]).longValue(),
+                    ((Number) row[3]).longValue(), ((Number) row[4]).longValue()});
+        }
+        return days;
+    }
+
+    private LocalDate periodStart(LocalDate day, Set<String> groupBy) {
+        if (groupBy.contains("day")) {
+            return day;
+        }
+        if (groupBy.contains("week")) {
+            return day.with(DayOfWeek.MONDAY);
+        }
+        if (groupBy.contains("month")) {
+            return day.withDayOfMonth(1);
+        }
+        return null;
+    }
+
+    private CompletionTimeStats toStats(GroupKey key, AbstractHistogram histogram) {
+        return CompletionTimeStats.builder()
+                .periodStart(key.getPeriodStart())
+                .userId(key.getUserId())
+                .category(key.getCategory())
+                .priority(key.getPriority())
+                .completedTasks(histogram.getTotalCount())
+                .p50Hours(toHours(histogram.getValueAtPercentile(50)))
+                .p90Hours(toHours(histogram.getValueAtPercentile(90)))
+                .p99Hours(toHours(histogram.getValueAtPercentile(99)))
+                .meanHours(toHours(histogram.getMean()))
+                .maxHours(toHours(histogram.getMaxValue()))
+                .build();
+    }
+
+    private double toHours(double minutes) {
+        return Math.round(minutes / 60.0 * 100) / 100.0;
+    }
+}
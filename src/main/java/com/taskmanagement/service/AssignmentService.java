@@ -0,0 +1,258 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.DomainEvent;
+import com.taskmanagement.event.DomainEventConsumer;
+import com.taskmanagement.event.DomainEventPipeline;
+import com.taskmanagement.event.TaskCreated;
+import com.taskmanagement.event.TaskDeleted;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.event.TaskUpdated;
+import com.taskmanagement.event.TemplateGenerated;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Load-aware automatic assignment within a department
+ * Demonstrates:
+ * - In-memory min-heap of open, priority-weighted work per user
+ * - O(log n) picks without a database round trip per request
+ * - Incremental updates from the domain event pipeline
+ *
+ * A department's heap is built lazily from one grouped query and rebuilt hourly
+ * to absorb drift (new users, department moves). The query runs outside the map, so other
+ * departments are never blocked by it. Events are ordered against the query by the time the
+ * pipeline dispatched them, just after their commit: events dispatched before the query started
+ * are already counted, later ones are applied (held back and replayed while the heap loads).
+ * Auto-assigned work is reserved on the heap when the assignee is picked and settled by the
+ * committed TaskCreated/TemplateGenerated event; a reservation lost to a rebuild is simply
+ * missing, and the event charges the rebuilt heap instead.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AssignmentService implements DomainEventConsumer {
+
+    private static final Map<TaskPriority, Integer> PRIORITY_WEIGHTS = Map.of(
+            TaskPriority.LOW, 1,
+            TaskPriority.MEDIUM, 2,
+            TaskPriority.HIGH, 3,
+            TaskPriority.CRITICAL, 5
+    );
+
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+
+    private final Map<String, DepartmentHeap> departmentHeaps = new ConcurrentHashMap<>();
+    private final Map<Long, String> userDepartments = new ConcurrentHashMap<>();
+
+    /**
+     * Pick the least-loaded user of a department and reserve the new task's load for them
+     * The reservation is released if the surrounding transaction rolls back
+     */
+    public Long assignLeastLoaded(String department, TaskPriority priority) {
+        UserLoadHeap heap = heapFor(department);
+        long weight = weightOf(priority);
+        long userId;
+
+        synchronized (heap) {
+            if (heap.isEmpty()) {
+                throw new RuntimeException("No users found in department: " + department);
+            }
+            userId = heap.peekUserId();
+            heap.reserve(userId, weight);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        // Released on the heap it was reserved on, which a rebuild may have replaced
+                        synchronized (heap) {
+                            heap.release(userId, weight);
+                        }
+                    }
+                }
+            });
+        }
+
+        log.debug("Auto-assigned {} task in {} to user {}", priority, department, userId);
+        return userId;
+    }
+
+    /**
+     * Peek the least-loaded user of a department without charging any work
+     */
+    public Long findLeastLoaded(String department) {
+        UserLoadHeap heap = heapFor(department);
+        synchronized (heap) {
+            if (heap.isEmpty()) {
+                throw new RuntimeException("No users found in department: " + department);
+            }
+            return heap.peekUserId();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return "assignment-load";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TaskCreated
+                || event instanceof TemplateGenerated
+                || event instanceof TaskStatusChanged
+                || (event instanceof TaskUpdated updated && updated.getOldPriority() != updated.getPriority())
+                || event instanceof TaskDeleted;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            long dispatchedAt = DomainEventPipeline.dispatchedAt(event);
+            if (event instanceof TaskCreated created) {
+                adjust(created.getUserId(), weightOf(created.getPriority()), created.isAutoAssigned(), dispatchedAt);
+            } else if (event instanceof TemplateGenerated generated) {
+                adjust(generated.getUserId(), weightOf(generated.getPriority()), generated.isAutoAssigned(),
+                        dispatchedAt);
+            } else if (event instanceof TaskStatusChanged changed) {
+                boolean wasOpen = changed.getOldStatus() != TaskStatus.COMPLETED;
+                boolean isOpen = changed.getNewStatus() != TaskStatus.COMPLETED;
+                if (wasOpen != isOpen) {
+                    long weight = weightOf(changed.getPriority());
+                    adjust(changed.getUserId(), isOpen ? weight : -weight, false, dispatchedAt);
+                }
+            } else if (event instanceof TaskUpdated updated && updated.getStatus() != TaskStatus.COMPLETED) {
+                adjust(updated.getUserId(), weightOf(updated.getPriority()) - weightOf(updated.getOldPriority()),
+                        false, dispatchedAt);
+            } else if (event instanceof TaskDeleted deleted && deleted.getStatus() != TaskStatus.COMPLETED) {
+                adjust(deleted.getUserId(), -weightOf(deleted.getPriority()), false, dispatchedAt);
+            }
+        }
+    }
+
+    /**
+     * Drop all heaps so they are rebuilt from the database on next use
+     */
+    @Scheduled(fixedRate = 3600000) // Every hour
+    public void resetLoads() {
+        departmentHeaps.clear();
+        userDepartments.clear();
+    }
+
+    private void adjust(Long userId, long delta, boolean reserved, long dispatchedAt) {
+        if (userId == null || delta == 0) {
+            return;
+        }
+        String department = userDepartments.get(userId);
+        DepartmentHeap entry = department != null ? departmentHeaps.get(department) : null;
+        if (entry == null || entry.defer(userId, delta, dispatchedAt) || entry.isFailed()) {
+            return;  // Department not loaded yet (its heap will start from the database state) or still loading
+        }
+        UserLoadHeap heap = entry.join();
+        if (entry.counted(dispatchedAt)) {
+            return;  // Committed before the count query started, so already part of it
+        }
+        synchronized (heap) {
+            if (!reserved || !heap.settle(userId, delta)) {
+                heap.adjust(userId, delta);
+            }
+        }
+    }
+
+    private UserLoadHeap heapFor(String department) {
+        DepartmentHeap entry = departmentHeaps.compute(department,
+                (d, current) -> current == null || current.isFailed() ? new DepartmentHeap() : current);
+        if (entry.claim()) {
+            entry.load(() -> loadHeap(department, entry));
+        }
+        return entry.join();
+    }
+
+    private UserLoadHeap loadHeap(String department, DepartmentHeap entry) {
+        UserLoadHeap heap = new UserLoadHeap();
+        for (User user : userRepository.findByDepartment(department)) {
+            heap.add(user.getId(), 0);
+            userDepartments.put(user.getId(), department);
+        }
+
+        entry.countStarting();
+        for (Object[] row : taskRepository.countOpenTasksByUserAndPriority(department)) {
+            Long userId = (Long) row[0];
+            long weight = weightOf((TaskPriority) row[1]) * (Long) row[2];
+            heap.adjust(userId, weight);
+        }
+
+        log.info("Loaded assignment heap for department {} with {} users", department, heap.size());
+        return heap;
+    }
+
+    private long weightOf(TaskPriority priority) {
+        return PRIORITY_WEIGHTS.getOrDefault(priority, PRIORITY_WEIGHTS.get(TaskPriority.MEDIUM));
+    }
+
+    /**
+     * One department's heap, loaded once by the first caller that claims it
+     * Load changes that arrive while it loads are held back and replayed when it completes.
+     */
+    private static class DepartmentHeap extends SingleFlight<UserLoadHeap> {
+        private List<long[]> deferred = new ArrayList<>();  // {userId, delta, dispatchedAt}; null once loaded
+        private volatile long countStartedAt;
+
+        /**
+         * Hold back a load change while the heap is loading; false once it can be applied directly
+         */
+        synchronized boolean defer(long userId, long delta, long dispatchedAt) {
+            if (deferred == null) {
+                return false;
+            }
+            deferred.add(new long[]{userId, delta, dispatchedAt});
+            return true;
+        }
+
+        void countStarting() {
+            countStartedAt = System.nanoTime();
+        }
+
+        /**
+         * True if an event dispatched at this time was already committed when the count query started
+         */
+        boolean counted(long dispatchedAt) {
+            return dispatchedAt - countStartedAt < 0;
+        }
+
+        @Override
+        synchronized void complete(UserLoadHeap heap) {
+            for (long[] change : deferred) {
+                if (!counted(change[2])) {
+                    heap.adjust(change[0], change[1]);
+                }
+            }
+            deferred = null;
+            super.complete(heap);
+        }
+
+        @Override
+        synchronized void fail(RuntimeException e) {
+            deferred = null;
+            super.fail(e);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.taskmanagement.service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Per-call loader that resolves collected keys with chunked IN queries
+ * Demonstrates:
+ * - Replacing one SELECT per ID with one query per chunk of IDs
+ * - Deduplication: a key requested several times in one call is loaded once
+ *
+ * Create one loader per call and entity type, add() every key the call will need (including
+ * keys discovered from already loaded rows), then get() them. get() resolves pending keys first,
+ * so keys added after the last resolve() are still loaded in a batch. Not thread-safe.
+ *
+ * @author Yanamala Sanjay
+ */
+public class BatchLoader<K, V> {
+
+    private final Function<Collection<K>, ? extends Collection<V>> query;
+    private final Function<V, K> keyOf;
+    private final int chunkSize;
+
+    private final Set<K> pending = new LinkedHashSet<>();
+    private final Set<K> resolved = new HashSet<>();
+    private final Map<K, V> loaded = new HashMap<>();
+    private int queries;
+
+    /**
+     * @param query     loads the rows for a chunk of keys (rows for unknown keys are simply absent)
+     * @param keyOf     key of a loaded row
+     * @param chunkSize maximum keys per query
+     */
+    public BatchLoader(Function<Collection<K>, ? extends Collection<V>> query, Function<V, K> keyOf, int chunkSize) {
+        this.query = query;
+        this.keyOf = keyOf;
+        this.chunkSize = chunkSize;
+    }
+
+    public void add(K key) {
+        if (key != null && !resolved.contains(key)) {
+            pending.add(key);
+        }
+    }
+
+    public void addAll(Collection<K> keys) {
+        keys.forEach(this::add);
+    }
+
+    /**
+     * Load every pending key, chunkSize keys per query
+     */
+    public void resolve() {
+        List<K> keys = new ArrayList<>(pending);
+        pending.clear();
+        for (int from = 0; from < keys.size(); from += chunkSize) {
+            List<K> chunk = keys.subList(from, Math.min(from + chunkSize, keys.size()));
+            for (V row : query.apply(chunk)) {
+                loaded.put(keyOf.apply(row), row);
+            }
+            resolved.addAll(chunk);
+            queries++;
+        }
+    }
+
+    /**
+     * Row for a key, or empty if no row exists
+     */
+    public Optional<V> get(K key) {
+        add(key);
+        if (!pending.isEmpty()) {
+            resolve();
+        }
+        return Optional.ofNullable(loaded.get(key));
+    }
+
+    /**
+     * Number of queries issued so far
+     */
+    public int getQueries() {
+        return queries;
+    }
+}
@@ -0,0 +1,347 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.DomainEvent;
+import com.taskmanagement.event.DomainEventConsumer;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.model.CompletionTimeSketch;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.CompletionTimeSketchRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.AbstractHistogram;
+import org.HdrHistogram.PackedHistogram;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+import java.util.zip.DataFormatException;
+
+/**
+ * Keeps mergeable completion-time sketches per (user, category, priority, day)
+ * Demonstrates:
+ * - Incremental analytics fed by TaskStatusChanged events instead of table scans
+ * - HdrHistogram sketches that can be merged into any rollup
+ * - Dirty tracking with periodic batched upserts
+ *
+ * Recent days (the retention window) are held in memory; older days are decoded from
+ * the completion_time_sketches table only when a query asks for them. Each task counts once,
+ * at its first completion: completing a reopened task again is ignored, as in rebuild().
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@Slf4j
+public class CompletionTimeSketchStore implements DomainEventConsumer {
+
+    static final long MAX_TRACKABLE_MINUTES = Duration.ofDays(366).toMinutes();
+    static final int SIGNIFICANT_DIGITS = 2;
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO completion_time_sketches (user_id, category, priority, bucket_date, sample_count, histogram, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE sample_count = VALUES(sample_count), histogram = VALUES(histogram), updated_at = VALUES(updated_at)";
+
+    private final CompletionTimeSketchRepository sketchRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final Clock clock;
+    private final int retentionDays;
+    private final int rebuildFetchSize;
+
+    private volatile NavigableMap<LocalDate, Map<BucketKey, PackedHistogram>> buckets = new ConcurrentSkipListMap<>();
+    private final Set<BucketRef> dirty = ConcurrentHashMap.newKeySet();
+
+    // Guards the swap at the end of rebuild(); events seen while rebuilding are replayed into the new buckets
+    private final Object rebuildLock = new Object();
+    private List<TaskStatusChanged> seenDuringRebuild;
+
+    public CompletionTimeSketchStore(CompletionTimeSketchRepository sketchRepository,
+                                     JdbcTemplate jdbcTemplate,
+                                     EntityManager entityManager,
+                                     Clock clock,
+                                     @Value("${taskmanagement.analytics.retention-days:400}") int retentionDays,
+                                     @Value("${taskmanagement.analytics.rebuild-fetch-size:1000}") int rebuildFetchSize) {
+        this.sketchRepository = sketchRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.clock = clock;
+        this.retentionDays = retentionDays;
+        this.rebuildFetchSize = rebuildFetchSize;
+    }
+
+    /**
+     * Bucket identity within one day
+     */
+    @lombok.Value
+    public static class BucketKey {
+        Long userId;
+        String category;
+        TaskPriority priority;
+    }
+
+    @lombok.Value
+    private static class BucketRef {
+        LocalDate day;
+        BucketKey key;
+    }
+
+    /**
+     * Callback receiving each bucket of a scanned day range
+     */
+    @FunctionalInterface
+    public interface BucketVisitor {
+        void visit(LocalDate day, BucketKey key, AbstractHistogram histogram);
+    }
+
+    @PostConstruct
+    public void loadRecentBuckets() {
+        List<CompletionTimeSketch> rows = sketchRepository.findByBucketDateGreaterThanEqual(retentionStart());
+        for (CompletionTimeSketch row : rows) {
+            bucketsFor(buckets, row.getBucketDate()).put(toKey(row), decode(row.getHistogram()));
+        }
+        log.info("Loaded {} completion-time sketches", rows.size());
+    }
+
+    @Override
+    public String getName() {
+        return "completion-analytics";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TaskStatusChanged changed
+                && changed.getNewStatus() == TaskStatus.COMPLETED
+                && !changed.isRecompletion()
+                && changed.getCreatedAt() != null;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        for (DomainEvent event : events) {
+            TaskStatusChanged changed = (TaskStatusChanged) event;
+            synchronized (rebuildLock) {
+                if (seenDuringRebuild != null) {
+                    seenDuringRebuild.add(changed);
+                }
+                record(buckets, changed.getUserId(), changed.getCategory(), changed.getPriority(),
+                        changed.getCreatedAt(), changed.getOccurredAt());
+            }
+        }
+    }
+
+    /**
+     * Visit every bucket whose day lies in [from, to]
+     * Cost is proportional to the number of buckets, never to the number of tasks
+     */
+    public void forEachBucket(LocalDate from, LocalDate to, BucketVisitor visitor) {
+        LocalDate retentionStart = retentionStart();
+
+        if (from.isBefore(retentionStart)) {
+            LocalDate archiveEnd = to.isBefore(retentionStart) ? to : retentionStart.minusDays(1);
+            for (CompletionTimeSketch row : sketchRepository.findByBucketDateBetween(from, archiveEnd)) {
+                visitor.visit(row.getBucketDate(), toKey(row), decode(row.getHistogram()));
+            }
+        }
+
+        LocalDate memoryFrom = from.isBefore(retentionStart) ? retentionStart : from;
+        if (memoryFrom.isAfter(to)) {
+            return;
+        }
+        buckets.subMap(memoryFrom, true, to, true).forEach((day, dayBuckets) ->
+                dayBuckets.forEach((key, histogram) -> {
+                    synchronized (histogram) {
+                        visitor.visit(day, key, histogram);
+                    }
+                }));
+    }
+
+    /**
+     * Rebuild all sketches from the tasks table
+     * One-off backfill for tasks completed before analytics existed. Completed tasks are streamed
+     * through a cursor into fresh buckets, which replace the live ones in one step; completions
+     * that arrive while the scan runs are replayed on top if the scan started before them.
+     */
+    @Transactional
+    public int rebuild() {
+        log.info("Rebuilding completion-time sketches from tasks table...");
+        LocalDateTime scanStart = LocalDateTime.now(clock);
+        synchronized (rebuildLock) {
+            if (seenDuringRebuild != null) {
+                throw new IllegalStateException("Completion-time sketches are already being rebuilt");
+            }
+            seenDuringRebuild = new ArrayList<>();
+        }
+
+        NavigableMap<LocalDate, Map<BucketKey, PackedHistogram>> rebuilt = new ConcurrentSkipListMap<>();
+        int tasks = 0;
+        try (Stream<Tuple> rows = entityManager.createQuery(
+                        "SELECT t.assignedTo.id AS userId, t.category AS category, t.priority AS priority, " +
+                        "t.createdAt AS createdAt, t.completedAt AS completedAt FROM Task t " +
+                        "WHERE t.createdAt IS NOT NULL AND t.completedAt IS NOT NULL AND t.completedAt < :scanStart",
+                        Tuple.class)
+                .setParameter("scanStart", scanStart)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, rebuildFetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            for (Iterator<Tuple> it = rows.iterator(); it.hasNext(); tasks++) {
+                Tuple row = it.next();
+                record(rebuilt, row.get("userId", Long.class), row.get("category", String.class),
+                        row.get("priority", TaskPriority.class), row.get("createdAt", LocalDateTime.class),
+                        row.get("completedAt", LocalDateTime.class));
+            }
+        } catch (RuntimeException e) {
+            synchronized (rebuildLock) {
+                seenDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        synchronized (this) {
+            synchronized (rebuildLock) {
+                for (TaskStatusChanged changed : seenDuringRebuild) {
+                    if (!changed.getOccurredAt().isBefore(scanStart)) {
+                        record(rebuilt, changed.getUserId(), changed.getCategory(), changed.getPriority(),
+                                changed.getCreatedAt(), changed.getOccurredAt());
+                    }
+                }
+                seenDuringRebuild = null;
+                buckets = rebuilt;
+                dirty.clear();
+                rebuilt.forEach((day, dayBuckets) -> dayBuckets.keySet().forEach(key -> dirty.add(new BucketRef(day, key))));
+            }
+            jdbcTemplate.update("DELETE FROM completion_time_sketches");
+            flush();
+            buckets.headMap(retentionStart(), false).clear();
+        }
+
+        log.info("Rebuilt completion-time sketches from {} completed tasks", tasks);
+        return tasks;
+    }
+
+    /**
+     * Upsert every bucket that changed since the last flush
+     */
+    @Scheduled(fixedDelayString = "${taskmanagement.analytics.flush-interval-ms:60000}")
+    public synchronized void flush() {
+        if (dirty.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> rows = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (BucketRef ref : List.copyOf(dirty)) {
+            dirty.remove(ref);
+            Map<BucketKey, PackedHistogram> dayBuckets = buckets.get(ref.getDay());
+            PackedHistogram histogram = dayBuckets == null ? null : dayBuckets.get(ref.getKey());
+            if (histogram == null) {
+                continue;
+            }
+            long count;
+            byte[] encoded;
+            synchronized (histogram) {
+                count = histogram.getTotalCount();
+                encoded = encode(histogram);
+            }
+            rows.add(new Object[]{ref.getKey().getUserId(), nullToEmpty(ref.getKey().getCategory()),
+                    ref.getKey().getPriority().name(), ref.getDay(), count, encoded, now});
+        }
+
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            log.debug("Flushed {} completion-time sketches", rows.size());
+        } catch (Exception e) {
+            log.error("Failed to flush {} completion-time sketches, will retry", rows.size(), e);
+            rows.forEach(row -> dirty.add(new BucketRef((LocalDate) row[3],
+                    new BucketKey((Long) row[0], emptyToNull((String) row[1]), TaskPriority.valueOf((String) row[2])))));
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Drop days that fell out of the retention window from memory (they stay in the table)
+     */
+    @Scheduled(cron = "0 30 0 * * ?")
+    public void evictExpiredDays() {
+        flush();
+        buckets.headMap(retentionStart(), false).clear();
+    }
+
+    private void record(NavigableMap<LocalDate, Map<BucketKey, PackedHistogram>> target,
+                        Long userId, String category, TaskPriority priority,
+                        LocalDateTime createdAt, LocalDateTime completedAt) {
+        long minutes = Math.min(Math.max(Duration.between(createdAt, completedAt).toMinutes(), 0), MAX_TRACKABLE_MINUTES);
+        LocalDate day = completedAt.toLocalDate();
+        BucketKey key = new BucketKey(userId, category, priority);
+
+        PackedHistogram histogram = bucketsFor(target, day).computeIfAbsent(key, k -> newHistogram());
+        synchronized (histogram) {
+            histogram.recordValue(minutes);
+        }
+        dirty.add(new BucketRef(day, key));
+    }
+
+    private static Map<BucketKey, PackedHistogram> bucketsFor(
+            NavigableMap<LocalDate, Map<BucketKey, PackedHistogram>> target, LocalDate day) {
+        return target.computeIfAbsent(day, d -> new ConcurrentHashMap<>());
+    }
+
+    private LocalDate retentionStart() {
+        return LocalDate.now(clock).minusDays(retentionDays);
+    }
+
+    static PackedHistogram newHistogram() {
+        return new PackedHistogram(MAX_TRACKABLE_MINUTES, SIGNIFICANT_DIGITS);
+    }
+
+    private static byte[] encode(PackedHistogram histogram) {
+        ByteBuffer buffer = ByteBuffer.allocate(histogram.getNeededByteBufferCapacity());
+        int length = histogram.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+
+    private static PackedHistogram decode(byte[] bytes) {
+        try {
+            return PackedHistogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(bytes), MAX_TRACKABLE_MINUTES);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt completion-time sketch", e);
+        }
+    }
+
+    private static BucketKey toKey(CompletionTimeSketch row) {
+        return new BucketKey(row.getUserId(), emptyToNull(row.getCategory()), row.getPriority());
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+}
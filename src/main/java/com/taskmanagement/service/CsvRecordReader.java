@@ -0,0 +1,89 @@
+package com.taskmanagement.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming CSV reader (RFC 4180), one record at a time
+ * Fields are comma-separated; a double-quoted field may contain commas, line breaks and ""
+ * for a literal quote. Blank lines are skipped. Only the current record is held in memory.
+ * Not thread-safe.
+ */
+class CsvRecordReader {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private int lookahead = NONE;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Next record, or null at end of input
+     *
+     * @throws IllegalArgumentException if a quoted field is still open at end of input
+     */
+    List<String> next() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean started = false;
+        boolean quoted = false;
+
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c != '"') {
+                    field.append((char) c);
+                } else if ((c = read()) == '"') {
+                    field.append('"');
+                } else {
+                    quoted = false;
+                    lookahead = c;
+                }
+                continue;
+            }
+
+            if (c == '\n') {
+                if (started) {
+                    break;
+                }
+                continue;  // Blank line
+            }
+            if (c == '\r') {
+                continue;
+            }
+
+            started = true;
+            if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        if (!started) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (lookahead != NONE) {
+            int c = lookahead;
+            lookahead = NONE;
+            return c;
+        }
+        return reader.read();
+    }
+}
@@ -0,0 +1,290 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.metrics.JobMetrics;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.repository.CategoryDictionary;
+import com.taskmanagement.repository.TaskDailyStatRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Rolls tasks up into per-day, per-user, per-category counters (task_daily_stats)
+ * Demonstrates:
+ * - Precomputed time buckets, so trend and burn-down ranges read a row per day instead of the tasks table
+ * - Incremental runs that only read open and recently completed tasks (status, completed_at index)
+ * - Open and overdue intervals kept as +1/-1 changes and summed once per bucket
+ *
+ * Each run recomputes the days from the last day it rolled up through today and replaces their rows.
+ * Hourly runs keep today's buckets current; the first run after midnight closes yesterday. Closed
+ * days are not revisited, so later deletes and due-date changes only show from the day they happen.
+ * History from before the table existed is filled by rebuild(), which reads the tasks table once.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@Slf4j
+public class DailyStatsRollup {
+
+    // Every task that was open or completed on a day of the window
+    private static final String TASKS_SQL =
+            "SELECT user_id, category_id, status, created_at, completed_at, due_date FROM tasks " +
+            "WHERE created_at < ? AND (status <> ? OR completed_at >= ?)";
+
+    private static final String DELETE_SQL = "DELETE FROM task_daily_stats WHERE stat_date BETWEEN ? AND ?";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_daily_stats (stat_date, user_id, category, created_count, completed_count, " +
+            "open_count, overdue_count) VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TaskDailyStatRepository statRepository;
+    private final CategoryDictionary categoryDictionary;
+    private final JobMetrics jobMetrics;
+    private final Clock clock;
+    private final int maxCatchUpDays;
+    private final int rebuildDays;
+    private final int batchSize;
+
+    // First day of the next run (the last day rolled up, which may still have changed)
+    private volatile LocalDate resumeFrom;
+
+    public DailyStatsRollup(JdbcTemplate jdbcTemplate,
+                            TaskDailyStatRepository statRepository,
+                            CategoryDictionary categoryDictionary,
+                            JobMetrics jobMetrics,
+                            Clock clock,
+                            @Value("${taskmanagement.daily-stats.max-catch-up-days:31}") int maxCatchUpDays,
+                            @Value("${taskmanagement.daily-stats.rebuild-days:366}") int rebuildDays,
+                            @Value("${taskmanagement.daily-stats.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.statRepository = statRepository;
+        this.categoryDictionary = categoryDictionary;
+        this.jobMetrics = jobMetrics;
+        this.clock = clock;
+        this.maxCatchUpDays = maxCatchUpDays;
+        this.rebuildDays = rebuildDays;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Roll up the days since the last run
+     * Runs at ten past every hour
+     */
+    @Scheduled(cron = "${taskmanagement.daily-stats.cron:0 10 * * * ?}")
+    @Transactional
+    public void rollUp() {
+        jobMetrics.record("roll-up-daily-stats", () -> {
+            LocalDate today = LocalDate.now(clock);
+            LocalDate from = resumeFrom;
+            if (from == null) {
+                LocalDate latest = statRepository.findLatestStatDate();
+                from = latest != null ? latest : today;
+            }
+            if (from.isAfter(today)) {
+                from = today;
+            }
+            LocalDate earliest = today.minusDays(maxCatchUpDays);
+            if (from.isBefore(earliest)) {
+                log.warn("Daily task statistics missed {} to {}; rebuild to fill them", from, earliest.minusDays(1));
+                from = earliest;
+            }
+
+            int rows = roll(from, today, false);
+            resumeFrom = today;
+            return rows;
+        });
+    }
+
+    /**
+     * Recompute every day from a start date through today from the tasks table
+     * One-off backfill for history from before the rollup existed
+     *
+     * @param from first day to rebuild; null for rebuild-days back
+     * @return buckets written
+     */
+    @Transactional
+    public int rebuild(LocalDate from) {
+        LocalDate today = LocalDate.now(clock);
+        LocalDate start = from != null ? from : today.minusDays(rebuildDays - 1L);
+        if (start.isAfter(today)) {
+            throw new IllegalArgumentException("Rebuild start is in the future: " + start);
+        }
+
+        log.info("Rebuilding daily task statistics from {}...", start);
+        int rows = roll(start, today, true);
+        resumeFrom = today;
+        log.info("Rebuilt daily task statistics from {}: {} buckets", start, rows);
+        return rows;
+    }
+
+    /**
+     * Replace the buckets of [from, to] with counts computed from the tasks table
+     *
+     * @param byUser read tasks ordered by user and write each user's buckets as soon as they are
+     *               complete (long ranges); otherwise all buckets are held until the read ends
+     */
+    private int roll(LocalDate from, LocalDate to, boolean byUser) {
+        jdbcTemplate.update(DELETE_SQL, Date.valueOf(from), Date.valueOf(to));
+
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        int[] written = {0};
+        Consumer<Object[]> writer = row -> {
+            batch.add(row);
+            if (batch.size() == batchSize) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                written[0] += batch.size();
+                batch.clear();
+            }
+        };
+
+        Buckets buckets = new Buckets(from, to);
+        long[] currentUser = {-1};
+        jdbcTemplate.query(cursor(byUser ? TASKS_SQL + " ORDER BY user_id" : TASKS_SQL, from, to), (ResultSet rs) -> {
+            long userId = rs.getLong("user_id");
+            if (byUser && userId != currentUser[0]) {
+                buckets.drainTo(writer);
+                currentUser[0] = userId;
+            }
+
+            int categoryId = rs.getInt("category_id");
+            String category = rs.wasNull() ? "" : categoryDictionary.nameOf(categoryId);
+            LocalDate created = rs.getTimestamp("created_at").toLocalDateTime().toLocalDate();
+            LocalDate completed = null;
+            if (rs.getInt("status") == TaskStatus.COMPLETED.getCode()) {
+                // Tasks completed before completion times were recorded count as completed when created
+                Timestamp completedAt = rs.getTimestamp("completed_at");
+                completed = completedAt != null ? completedAt.toLocalDateTime().toLocalDate() : created;
+            }
+            Date dueDate = rs.getDate("due_date");
+
+            buckets.add(userId, category, created, completed, dueDate != null ? dueDate.toLocalDate() : null);
+        });
+        buckets.drainTo(writer);
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+            written[0] += batch.size();
+        }
+        log.debug("Rolled up daily task statistics for {} to {}: {} buckets", from, to, written[0]);
+        return written[0];
+    }
+
+    /**
+     * Forward-only read fetching batchSize rows per round trip
+     */
+    private PreparedStatementCreator cursor(String sql, LocalDate from, LocalDate to) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(batchSize);
+            statement.setTimestamp(1, Timestamp.valueOf(to.plusDays(1).atStartOfDay()));
+            statement.setInt(2, TaskStatus.COMPLETED.getCode());
+            statement.setTimestamp(3, Timestamp.valueOf(from.atStartOfDay()));
+            return statement;
+        };
+    }
+
+    private record BucketKey(long userId, String category) {
+    }
+
+    /**
+     * Counters of each (user, category) for every day of a window
+     * Created and completed are counted on their day. A task is open from the day it was created
+     * up to the day before it was completed, and overdue from the day after its due date within
+     * that; both intervals are stored as +1 on their first day and -1 after their last.
+     */
+    static class Buckets {
+
+        private static final int CREATED = 0;
+        private static final int COMPLETED = 1;
+        private static final int OPEN = 2;
+        private static final int OVERDUE = 3;
+
+        private final LocalDate from;
+        private final int days;
+        private final Map<BucketKey, int[][]> counters = new HashMap<>();
+
+        Buckets(LocalDate from, LocalDate to) {
+            this.from = from;
+            this.days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        }
+
+        void add(long userId, String category, LocalDate created, LocalDate completed, LocalDate dueDate) {
+            int[][] counts = counters.computeIfAbsent(new BucketKey(userId, category), key -> new int[days + 1][4]);
+
+            long createdDay = offset(created);
+            if (createdDay >= 0 && createdDay < days) {
+                counts[(int) createdDay][CREATED]++;
+            }
+            long completedDay = days;
+            if (completed != null) {
+                completedDay = offset(completed);
+                if (completedDay >= 0 && completedDay < days) {
+                    counts[(int) completedDay][COMPLETED]++;
+                }
+            }
+
+            int openFrom = clamp(createdDay);
+            int openTo = clamp(completedDay);
+            mark(counts, OPEN, openFrom, openTo);
+            if (dueDate != null) {
+                mark(counts, OVERDUE, Math.max(openFrom, clamp(offset(dueDate) + 1)), openTo);
+            }
+        }
+
+        /**
+         * Hand every non-empty bucket to the sink as an INSERT_SQL row and forget them
+         */
+        void drainTo(Consumer<Object[]> sink) {
+            counters.forEach((key, counts) -> {
+                int open = 0;
+                int overdue = 0;
+                for (int i = 0; i < days; i++) {
+                    open += counts[i][OPEN];
+                    overdue += counts[i][OVERDUE];
+                    if (open > 0 || counts[i][CREATED] > 0 || counts[i][COMPLETED] > 0) {
+                        sink.accept(new Object[]{Date.valueOf(from.plusDays(i)), key.userId(), key.category(),
+                                counts[i][CREATED], counts[i][COMPLETED], open, overdue});
+                    }
+                }
+            });
+            counters.clear();
+        }
+
+        private static void mark(int[][] counts, int counter, int start, int end) {
+            if (start < end) {
+                counts[start][counter]++;
+                counts[end][counter]--;
+            }
+        }
+
+        private long offset(LocalDate day) {
+            return ChronoUnit.DAYS.between(from, day);
+        }
+
+        /**
+         * Day offset limited to [0, days]: before the window is its first day, after it is its end
+         */
+        private int clamp(long offset) {
+            return (int) Math.max(0, Math.min(days, offset));
+        }
+    }
+}
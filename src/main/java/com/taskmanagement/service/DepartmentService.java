@@ -0,0 +1,219 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.DepartmentSummary;
+import com.taskmanagement.event.DomainEvent;
+import com.taskmanagement.event.DomainEventConsumer;
+import com.taskmanagement.event.TaskCreated;
+import com.taskmanagement.event.TaskDeleted;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.event.TaskUpdated;
+import com.taskmanagement.event.TemplateGenerated;
+import com.taskmanagement.repository.TaskRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Department rollups for leads and the weekly manager digest
+ * Demonstrates:
+ * - One grouped query over a department's members and their tasks instead of /stats per member
+ * - Per-department cache, dropped when a member's task changes (domain event pipeline)
+ *
+ * A summary is cached until a task of one of its members is created, edited, moved, deleted or
+ * generated, until the day changes, or at most max-age-ms (new members and department moves are
+ * not events). Concurrent requests for an expired summary share one load. Invalidation arrives
+ * after the writing transaction commits, so a lead reading straight after a change may briefly
+ * see the previous summary.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@Slf4j
+public class DepartmentService implements DomainEventConsumer {
+
+    private final TaskRepository taskRepository;
+    private final Clock clock;
+    private final long maxAgeNanos;
+    private final int hotSpots;
+
+    private final Map<String, Entry> summaries = new ConcurrentHashMap<>();
+    // Department of every member of a loaded summary, to map events to summaries
+    private final Map<Long, String> memberDepartments = new ConcurrentHashMap<>();
+
+    public DepartmentService(TaskRepository taskRepository,
+                             Clock clock,
+                             @Value("${taskmanagement.departments.summary-max-age-ms:300000}") long maxAgeMs,
+                             @Value("${taskmanagement.departments.hot-spots:10}") int hotSpots) {
+        this.taskRepository = taskRepository;
+        this.clock = clock;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+        this.hotSpots = hotSpots;
+    }
+
+    /**
+     * Rollup of a department, from the cache or one shared load
+     *
+     * @throws RuntimeException if the department has no members
+     */
+    public DepartmentSummary getSummary(String department) {
+        LocalDate today = LocalDate.now(clock);
+        Entry entry = summaries.compute(department,
+                (key, current) -> current == null || current.isExpired(today, maxAgeNanos) ? new Entry(today) : current);
+        if (entry.claim()) {
+            entry.load(() -> load(department, today));
+        }
+        return entry.join();
+    }
+
+    /**
+     * Drop every cached summary (writes that bypass the event pipeline, e.g. bulk import)
+     */
+    public void invalidate() {
+        summaries.clear();
+    }
+
+    @Override
+    public String getName() {
+        return "department-summaries";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TaskCreated
+                || event instanceof TaskUpdated
+                || event instanceof TaskStatusChanged
+                || event instanceof TaskDeleted
+                || event instanceof TemplateGenerated;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        Set<String> departments = new HashSet<>();
+        for (DomainEvent event : events) {
+            String department = memberDepartments.get(userIdOf(event));
+            if (department != null) {
+                departments.add(department);
+            }
+        }
+        departments.forEach(summaries::remove);
+        if (!departments.isEmpty()) {
+            log.debug("Department summaries invalidated by {} events: {}", events.size(), departments);
+        }
+    }
+
+    private static Long userIdOf(DomainEvent event) {
+        if (event instanceof TaskCreated created) {
+            return created.getUserId();
+        } else if (event instanceof TaskUpdated updated) {
+            return updated.getUserId();
+        } else if (event instanceof TaskStatusChanged changed) {
+            return changed.getUserId();
+        } else if (event instanceof TaskDeleted deleted) {
+            return deleted.getUserId();
+        }
+        return ((TemplateGenerated) event).getUserId();
+    }
+
+    private DepartmentSummary load(String department, LocalDate today) {
+        List<Object[]> rows = taskRepository.summarizeDepartment(department, today);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Department not found: " + department);
+        }
+
+        // Rows are per member and category: members are their sums, hot spots the rows themselves
+        Map<Long, DepartmentSummary.Member> members = new LinkedHashMap<>();
+        List<DepartmentSummary.HotSpot> cells = new ArrayList<>();
+        for (Object[] row : rows) {
+            Long userId = (Long) row[0];
+            long total = ((Number) row[4]).longValue();
+            long completed = ((Number) row[5]).longValue();
+            long inProgress = ((Number) row[6]).longValue();
+            long overdue = ((Number) row[7]).longValue();
+            long dueToday = ((Number) row[8]).longValue();
+            LocalDate oldestOverdue = (LocalDate) row[9];
+
+            DepartmentSummary.Member member = members.computeIfAbsent(userId, id -> DepartmentSummary.Member.builder()
+                    .userId(id)
+                    .name((String) row[1])
+                    .email((String) row[2])
+                    .build());
+            member.setTotalTasks(member.getTotalTasks() + total);
+            member.setCompletedTasks(member.getCompletedTasks() + completed);
+            member.setPendingTasks(member.getPendingTasks() + total - completed);
+            member.setInProgressTasks(member.getInProgressTasks() + inProgress);
+            member.setOverdueTasks(member.getOverdueTasks() + overdue);
+            member.setDueTodayTasks(member.getDueTodayTasks() + dueToday);
+            if (oldestOverdue != null && (member.getOldestOverdueDate() == null
+                    || oldestOverdue.isBefore(member.getOldestOverdueDate()))) {
+                member.setOldestOverdueDate(oldestOverdue);
+            }
+
+            if (overdue > 0) {
+                cells.add(DepartmentSummary.HotSpot.builder()
+                        .userId(userId)
+                        .name((String) row[1])
+                        .category((String) row[3])
+                        .overdueTasks(overdue)
+                        .oldestOverdueDate(oldestOverdue)
+                        .build());
+            }
+        }
+
+        List<DepartmentSummary.Member> sorted = new ArrayList<>(members.values());
+        sorted.sort(Comparator.comparingLong(DepartmentSummary.Member::getOverdueTasks).reversed()
+                .thenComparing(DepartmentSummary.Member::getName));
+        cells.sort(Comparator.comparingLong(DepartmentSummary.HotSpot::getOverdueTasks).reversed()
+                .thenComparing(DepartmentSummary.HotSpot::getOldestOverdueDate));
+
+        long total = sorted.stream().mapToLong(DepartmentSummary.Member::getTotalTasks).sum();
+        long completed = sorted.stream().mapToLong(DepartmentSummary.Member::getCompletedTasks).sum();
+        members.keySet().forEach(userId -> memberDepartments.put(userId, department));
+
+        return DepartmentSummary.builder()
+                .department(department)
+                .date(today)
+                .memberCount(sorted.size())
+                .totalTasks(total)
+                .completedTasks(completed)
+                .pendingTasks(total - completed)
+                .inProgressTasks(sorted.stream().mapToLong(DepartmentSummary.Member::getInProgressTasks).sum())
+                .overdueTasks(sorted.stream().mapToLong(DepartmentSummary.Member::getOverdueTasks).sum())
+                .dueTodayTasks(sorted.stream().mapToLong(DepartmentSummary.Member::getDueTodayTasks).sum())
+                .completionRate(total > 0 ? completed / (double) total : null)
+                .members(sorted)
+                .overdueHotSpots(List.copyOf(cells.subList(0, Math.min(hotSpots, cells.size()))))
+                .generatedAt(LocalDateTime.now(clock))
+                .build();
+    }
+
+    /**
+     * One department's summary for one day
+     */
+    private static class Entry extends SingleFlight<DepartmentSummary> {
+        private final LocalDate date;
+
+        Entry(LocalDate date) {
+            this.date = date;
+        }
+
+        /**
+         * Summaries of an earlier day also expire at once
+         */
+        boolean isExpired(LocalDate today, long maxAgeNanos) {
+            return isExpired(maxAgeNanos) || (isDone() && !today.equals(date));
+        }
+    }
+}
@@ -1,10 +1,17 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.dto.DepartmentSummary;
 import com.taskmanagement.dto.TaskDigest;
+import com.taskmanagement.jfr.EmailRenderEvent;
+import com.taskmanagement.jfr.EmailSendEvent;
+import com.taskmanagement.logging.ActivityLog;
 import com.taskmanagement.model.Task;
 import com.taskmanagement.model.TaskStatus;
 import com.taskmanagement.model.User;
 import com.taskmanagement.repository.TaskRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.mail.SimpleMailMessage;
@@ -12,8 +19,10 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 /**
@@ -28,31 +37,39 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Observed(name = "taskmanagement.email")
 public class EmailService {
 
     private final JavaMailSender mailSender;
     private final TaskRepository taskRepository;
+    private final MeterRegistry meterRegistry;
+    private final ActivityLog activityLog;
+    private final Clock clock;
     private static final String FROM_EMAIL = "noreply@taskmanagement.com";
+    private static final int MANAGER_DIGEST_MEMBERS = 20;
 
     /**
      * Send task creation notification
      */
     @Async
     public void sendTaskCreationNotification(Task task) {
+        long started = System.nanoTime();
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(FROM_EMAIL);
             message.setTo(task.getAssignedTo().getEmail());
             message.setSubject("New Task Assigned: " + task.getTitle());
 
-            String body = buildTaskCreationEmail(task);
-            message.setText(body);
+            Long userId = task.getAssignedTo().getId();
+            message.setText(render("creation", userId, () -> buildTaskCreationEmail(task)));
 
-            mailSender.send(message);
-            log.info("Task creation email sent to: {}", task.getAssignedTo().getEmail());
+            send("creation", userId, message);
+            if (logDetail("creation", started)) {
+                log.info("Task creation email sent to: {}", task.getAssignedTo().getEmail());
+            }
 
         } catch (Exception e) {
-            log.error("Failed to send task creation email", e);
+            logFailure("creation", started, "Failed to send task creation email", e);
         }
     }
 
@@ -61,20 +78,23 @@ public class EmailService {
      */
     @Async
     public void sendTaskStatusUpdate(Task task, TaskStatus newStatus) {
+        long started = System.nanoTime();
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(FROM_EMAIL);
             message.setTo(task.getAssignedTo().getEmail());
             message.setSubject("Task Status Updated: " + task.getTitle());
 
-            String body = buildStatusUpdateEmail(task, newStatus);
-            message.setText(body);
+            Long userId = task.getAssignedTo().getId();
+            message.setText(render("status-update", userId, () -> buildStatusUpdateEmail(task, newStatus)));
 
-            mailSender.send(message);
-            log.info("Status update email sent: {}", task.getTitle());
+            send("status-update", userId, message);
+            if (logDetail("status-update", started)) {
+                log.info("Status update email sent: {}", task.getTitle());
+            }
 
         } catch (Exception e) {
-            log.error("Failed to send status update email", e);
+            logFailure("status-update", started, "Failed to send status update email", e);
         }
     }
 
@@ -84,6 +104,7 @@ public class EmailService {
      */
     @Async
     public void sendTaskReminder(Task task) {
+        long started = System.nanoTime();
         try {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(FROM_EMAIL);
@@ -94,14 +115,16 @@ public class EmailService {
 
             message.setSubject(priority + "Task Reminder: " + task.getTitle());
 
-            String body = buildReminderEmail(task);
-            message.setText(body);
+            Long userId = task.getAssignedTo().getId();
+            message.setText(render("reminder", userId, () -> buildReminderEmail(task)));
 
-            mailSender.send(message);
-            log.info("Reminder email sent for task: {}", task.getTitle());
+            send("reminder", userId, message);
+            if (logDetail("reminder", started)) {
+                log.info("Reminder email sent for task: {}", task.getTitle());
+            }
 
         } catch (Exception e) {
-            log.error("Failed to send reminder email", e);
+            logFailure("reminder", started, "Failed to send reminder email", e);
         }
     }
 
@@ -111,21 +134,25 @@ public class EmailService {
      */
     @Async
     public void sendDailyTaskDigest(User user) {
+        long started = System.nanoTime();
         try {
-            // Gather task statistics
+            // Gather task statistics from a single query over the user's tasks
             List<Task> allTasks = taskRepository.findByAssignedToId(user.getId());
-            List<Task> todaysTasks = taskRepository.findTasksDueToday().stream()
-                    .filter(t -> t.getAssignedTo().getId().equals(user.getId()))
+            LocalDate today = LocalDate.now(clock);
+
+            List<Task> todaysTasks = allTasks.stream()
+                    .filter(t -> t.getStatus() != TaskStatus.COMPLETED && today.equals(t.getDueDate()))
                     .collect(Collectors.toList());
 
-            List<Task> upcomingTasks = taskRepository.findByAssignedToIdAndDueDateBetween(
-                    user.getId(),
-                    LocalDate.now().plusDays(1),
-                    LocalDate.now().plusDays(7)
-            );
+            List<Task> upcomingTasks = allTasks.stream()
+                    .filter(t -> t.getDueDate() != null
+                            && t.getDueDate().isAfter(today)
+                            && !t.getDueDate().isAfter(today.plusDays(7)))
+                    .collect(Collectors.toList());
 
-            List<Task> overdueTasks = taskRepository.findOverdueTasks().stream()
-                    .filter(t -> t.getAssignedTo().getId().equals(user.getId()))
+            List<Task> overdueTasks = allTasks.stream()
+                    .filter(t -> t.getStatus() != TaskStatus.COMPLETED
+                            && t.getDueDate() != null && t.getDueDate().isBefore(today))
                     .collect(Collectors.toList());
 
             long completedCount = allTasks.stream()
@@ -140,7 +167,7 @@ public class EmailService {
             TaskDigest digest = TaskDigest.builder()
                     .userName(user.getName())
                     .userEmail(user.getEmail())
-                    .totalTasks((int) allTasks.size())
+                    .totalTasks(allTasks.size())
                     .completedTasks((int) completedCount)
                     .pendingTasks((int) pendingCount)
                     .overdueTasks(overdueTasks.size())
@@ -153,16 +180,87 @@ public class EmailService {
             SimpleMailMessage message = new SimpleMailMessage();
             message.setFrom(FROM_EMAIL);
             message.setTo(user.getEmail());
-            message.setSubject("Daily Task Digest - " + LocalDate.now());
+            message.setSubject("Daily Task Digest - " + LocalDate.now(clock));
 
-            String body = buildDigestEmail(digest);
-            message.setText(body);
+            message.setText(render("daily-digest", user.getId(), () -> buildDigestEmail(digest)));
 
-            mailSender.send(message);
-            log.info("Daily digest sent to: {}", user.getEmail());
+            send("daily-digest", user.getId(), message);
+            if (logDetail("daily-digest", started)) {
+                log.info("Daily digest sent to: {}", user.getEmail());
+            }
 
         } catch (Exception e) {
-            log.error("Failed to send daily digest", e);
+            logFailure("daily-digest", started, "Failed to send daily digest", e);
+        }
+    }
+
+    /**
+     * Send weekly department digest to a manager
+     * The summary is shared by all managers of the department, so no queries are made here
+     */
+    @Async
+    public void sendManagerDigest(User manager, DepartmentSummary summary) {
+        long started = System.nanoTime();
+        try {
+            SimpleMailMessage message = new SimpleMailMessage();
+            message.setFrom(FROM_EMAIL);
+            message.setTo(manager.getEmail());
+            message.setSubject("Weekly Department Digest - " + summary.getDepartment() + " - " + summary.getDate());
+            message.setText(render("manager-digest", manager.getId(), () -> buildManagerDigestEmail(manager, summary)));
+
+            send("manager-digest", manager.getId(), message);
+            if (logDetail("manager-digest", started)) {
+                log.info("Manager digest sent to: {}", manager.getEmail());
+            }
+
+        } catch (Exception e) {
+            logFailure("manager-digest", started, "Failed to send manager digest", e);
+        }
+    }
+
+    /**
+     * Count a sent email; only the first few per summary interval get their own log line
+     */
+    private boolean logDetail(String type, long started) {
+        return activityLog.record("email." + type, true, System.nanoTime() - started);
+    }
+
+    /**
+     * Failures are counted like every send but always logged; only success lines are sampled
+     */
+    private void logFailure(String type, long started, String message, Exception e) {
+        activityLog.record("email." + type, false, System.nanoTime() - started);
+        log.error(message, e);
+    }
+
+    /**
+     * Build an email body, recorded as a JFR event when a recording is running
+     */
+    private String render(String type, Long userId, Supplier<String> builder) {
+        EmailRenderEvent event = new EmailRenderEvent(type, userId);
+        String body = builder.get();
+        event.end(body);
+        return body;
+    }
+
+    /**
+     * Send through SMTP, timing how long the send blocks
+     * Recorded as taskmanagement.email.send tagged with type and outcome, and as a JFR event
+     */
+    private void send(String type, Long userId, SimpleMailMessage message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        EmailSendEvent event = new EmailSendEvent(type, userId);
+        String outcome = "failure";
+        try {
+            mailSender.send(message);
+            outcome = "success";
+        } finally {
+            event.end("success".equals(outcome));
+            sample.stop(Timer.builder("taskmanagement.email.send")
+                    .description("Time spent blocked on SMTP sends")
+                    .tag("type", type)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
 
@@ -212,7 +310,7 @@ public class EmailService {
     }
 
     private String buildReminderEmail(Task task) {
-        long daysUntil = task.getDaysUntilDeadline();
+        long daysUntil = task.getDaysUntilDeadline(LocalDate.now(clock));
         String urgency = daysUntil == 0 ? "DUE TODAY!" :
                 daysUntil == 1 ? "due tomorrow" :
                         String.format("due in %d days", daysUntil);
@@ -257,7 +355,7 @@ public class EmailService {
 
                 """,
                 digest.getUserName(),
-                LocalDate.now(),
+                LocalDate.now(clock),
                 digest.getTotalTasks(),
                 digest.getCompletedTasks(),
                 digest.getPendingTasks(),
@@ -311,14 +409,88 @@ public class EmailService {
         return sb.toString();
     }
 
+    private String buildManagerDigestEmail(User manager, DepartmentSummary summary) {
+        StringBuilder sb = new StringBuilder();
+
+        sb.append(String.format("""
+                Dear %s,
+
+                Here is the weekly summary for the %s department as of %s:
+
+                ========================================
+                DEPARTMENT STATISTICS
+                ========================================
+                Members: %d
+                Total Tasks: %d
+                Completed: %d
+                Pending: %d
+                In Progress: %d
+                Overdue: %d
+                Due Today: %d
+                Completion Rate: %s
+
+                """,
+                manager.getName(),
+                summary.getDepartment(),
+                summary.getDate(),
+                summary.getMemberCount(),
+                summary.getTotalTasks(),
+                summary.getCompletedTasks(),
+                summary.getPendingTasks(),
+                summary.getInProgressTasks(),
+                summary.getOverdueTasks(),
+                summary.getDueTodayTasks(),
+                summary.getCompletionRate() != null ? String.format("%.1f%%", summary.getCompletionRate() * 100) : "N/A"
+        ));
+
+        // Overdue hot spots
+        if (!summary.getOverdueHotSpots().isEmpty()) {
+            sb.append("========================================\n");
+            sb.append("OVERDUE HOT SPOTS\n");
+            sb.append("========================================\n");
+            for (DepartmentSummary.HotSpot spot : summary.getOverdueHotSpots()) {
+                sb.append(String.format("- %s, %s: %d overdue (oldest due %s)\n",
+                        spot.getName(), spot.getCategory() != null ? spot.getCategory() : "Uncategorized",
+                        spot.getOverdueTasks(), spot.getOldestOverdueDate()));
+            }
+            sb.append("\n");
+        }
+
+        // Members, most overdue first
+        sb.append("========================================\n");
+        sb.append("MEMBERS\n");
+        sb.append("========================================\n");
+        List<DepartmentSummary.Member> members = summary.getMembers();
+        for (DepartmentSummary.Member member : members.subList(0, Math.min(MANAGER_DIGEST_MEMBERS, members.size()))) {
+            sb.append(String.format("- %s: %d pending, %d overdue, %d due today\n",
+                    member.getName(), member.getPendingTasks(), member.getOverdueTasks(), member.getDueTodayTasks()));
+        }
+        if (members.size() > MANAGER_DIGEST_MEMBERS) {
+            sb.append(String.format("... and %d more\n", members.size() - MANAGER_DIGEST_MEMBERS));
+        }
+        sb.append("\n");
+
+        sb.append("""
+                ========================================
+
+                Log in to the system for the full department view.
+
+                Best regards,
+                Task Management System
+                """);
+
+        return sb.toString();
+    }
+
     private List<TaskDigest.TaskSummary> buildTaskSummaries(List<Task> tasks) {
+        LocalDate today = LocalDate.now(clock);
         return tasks.stream()
                 .map(task -> TaskDigest.TaskSummary.builder()
                         .taskId(task.getId())
                         .title(task.getTitle())
                         .priority(task.getPriority().toString())
                         .dueDate(task.getDueDate() != null ? task.getDueDate().toString() : "N/A")
-                        .daysUntilDeadline(task.getDaysUntilDeadline())
+                        .daysUntilDeadline(task.getDaysUntilDeadline(today))
                         .build())
                 .collect(Collectors.toList());
     }
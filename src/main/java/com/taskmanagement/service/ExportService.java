@@ -0,0 +1,482 @@
+package com.taskmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.ExportJobInfo;
+import com.taskmanagement.dto.ExportRequest;
+import com.taskmanagement.model.RecurrenceTypeConverter;
+import com.taskmanagement.model.TaskPriorityConverter;
+import com.taskmanagement.model.TaskStatusConverter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Asynchronous exports of a department's tasks or status history
+ * Demonstrates:
+ * - Job submission decoupled from the work: the request returns at once, a bounded pool runs the export
+ * - Forward-only cursor reads (fetch size), so memory stays flat however many rows are exported
+ * - Rows streamed straight into a gzip-compressed CSV or NDJSON file on local disk
+ *
+ * At most concurrency exports run at a time, each holding one pooled connection for its duration;
+ * up to queue-capacity more wait, and further submissions are rejected. A file is written under a
+ * .part name and renamed when complete, so a download never sees a partial file. Jobs live in memory:
+ * finished jobs and their files are removed after retention-hours, and files left by a previous run
+ * are removed at startup.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@Slf4j
+public class ExportService {
+
+    /**
+     * Exportable row sets
+     */
+    public enum Dataset {
+        TASKS, STATUS_HISTORY
+    }
+
+    /**
+     * Output formats, both gzip-compressed
+     */
+    public enum Format {
+        CSV, NDJSON
+    }
+
+    public enum Status {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+
+    private static final String TASKS_SQL =
+            "SELECT t.id, t.title, d.description, t.status, t.priority, t.due_date, t.created_at, " +
+            "t.completed_at, t.is_recurring, t.recurrence_type, c.name AS category, t.template_id, " +
+            "u.id AS user_id, u.email AS user_email " +
+            "FROM tasks t JOIN users u ON u.id = t.user_id " +
+            "LEFT JOIN task_details d ON d.id = t.details_id " +
+            "LEFT JOIN categories c ON c.id = t.category_id " +
+            "WHERE u.department = ? ORDER BY t.id";
+
+    private static final String STATUS_HISTORY_SQL =
+            "SELECT h.task_id, h.user_id, u.email AS user_email, h.category, h.from_status, h.to_status, " +
+            "h.source, h.changed_at " +
+            "FROM task_status_history h JOIN users u ON u.id = h.user_id " +
+            "WHERE u.department = ? ORDER BY h.id";
+
+    private static final List<String> TASK_COLUMNS = List.of("taskId", "title", "description", "status",
+            "priority", "dueDate", "createdAt", "completedAt", "isRecurring", "recurrenceType", "category",
+            "templateId", "userId", "userEmail");
+
+    private static final List<String> STATUS_HISTORY_COLUMNS = List.of("taskId", "userId", "userEmail",
+            "category", "fromStatus", "toStatus", "source", "changedAt");
+
+    private static final TaskStatusConverter STATUS = new TaskStatusConverter();
+    private static final TaskPriorityConverter PRIORITY = new TaskPriorityConverter();
+    private static final RecurrenceTypeConverter RECURRENCE = new RecurrenceTypeConverter();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final int fetchSize;
+    private final Duration retention;
+    private final ThreadPoolExecutor executor;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+
+    public ExportService(JdbcTemplate jdbcTemplate,
+                         ObjectMapper objectMapper,
+                         MeterRegistry meterRegistry,
+                         @Value("${taskmanagement.exports.directory:exports}") String directory,
+                         @Value("${taskmanagement.exports.concurrency:2}") int concurrency,
+                         @Value("${taskmanagement.exports.queue-capacity:20}") int queueCapacity,
+                         @Value("${taskmanagement.exports.fetch-size:1000}") int fetchSize,
+                         @Value("${taskmanagement.exports.retention-hours:24}") long retentionHours) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.directory = Path.of(directory);
+        this.fetchSize = fetchSize;
+        this.retention = Duration.ofHours(retentionHours);
+        // Dedicated pool: a long export never occupies an @Async email thread or a request thread
+        this.executor = new ThreadPoolExecutor(concurrency, concurrency, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("export-"));
+    }
+
+    @PostConstruct
+    public void prepareDirectory() throws IOException {
+        Files.createDirectories(directory);
+        // Job state is in memory only, so files of a previous run can no longer be downloaded
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*.{gz,part}")) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void stop() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Queue an export
+     *
+     * @throws IllegalStateException if the queue is full
+     */
+    public ExportJobInfo submit(ExportRequest request) {
+        Job job = new Job(UUID.randomUUID().toString(), request.getDepartment(),
+                request.getDataset() != null ? request.getDataset() : Dataset.TASKS,
+                request.getFormat() != null ? request.getFormat() : Format.CSV);
+        jobs.put(job.id, job);
+        try {
+            executor.execute(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            throw new IllegalStateException("Too many export jobs queued");
+        }
+        log.info("Export {} queued: {} of department {} as {}", job.id, job.dataset, job.department, job.format);
+        return job.toInfo();
+    }
+
+    public List<ExportJobInfo> getJobs() {
+        return jobs.values().stream()
+                .sorted(Comparator.comparing((Job job) -> job.createdAt).reversed())
+                .map(Job::toInfo)
+                .toList();
+    }
+
+    public ExportJobInfo getJob(String id) {
+        return find(id).toInfo();
+    }
+
+    /**
+     * File of a completed export
+     *
+     * @throws IllegalStateException if the export has not completed
+     */
+    public ExportFile getFile(String id) {
+        Job job = find(id);
+        if (job.status != Status.COMPLETED) {
+            throw new IllegalStateException("Export " + id + " is " + job.status);
+        }
+        return new ExportFile(job.file, job.downloadName(), job.sizeBytes);
+    }
+
+    /**
+     * Forget a finished export and delete its file
+     *
+     * @throws IllegalStateException if the export is still queued or running
+     */
+    public void delete(String id) throws IOException {
+        Job job = find(id);
+        if (job.status == Status.QUEUED || job.status == Status.RUNNING) {
+            throw new IllegalStateException("Export " + id + " is " + job.status);
+        }
+        jobs.remove(id);
+        Files.deleteIfExists(job.file);
+    }
+
+    /**
+     * Remove finished exports older than the retention period
+     */
+    @Scheduled(fixedRate = 900000) // Every 15 minutes
+    public void removeExpired() {
+        Instant cutoff = Instant.now().minus(retention);
+        for (Job job : jobs.values()) {
+            if (job.completedAt != null && job.completedAt.isBefore(cutoff)) {
+                try {
+                    delete(job.id);
+                    log.info("Export {} expired and was deleted", job.id);
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Could not delete expired export {}: {}", job.id, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private Job find(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            throw new RuntimeException("Export job not found");
+        }
+        return job;
+    }
+
+    private void run(Job job) {
+        job.status = Status.RUNNING;
+        job.startedAt = Instant.now();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        Path part = job.file.resolveSibling(job.file.getFileName() + ".part");
+
+        try {
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(part), 65536)) {
+                RowWriter writer = job.format == Format.CSV
+                        ? new CsvRowWriter(out, job.columns())
+                        : new NdjsonRowWriter(out, job.columns());
+                jdbcTemplate.query(cursor(job.sql(), job.department), (ResultSet rs) -> {
+                    try {
+                        writer.write(job.dataset == Dataset.TASKS ? taskRow(rs) : statusHistoryRow(rs));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    job.rows++;
+                });
+                writer.finish();
+            }
+            Files.move(part, job.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            job.sizeBytes = Files.size(job.file);
+            job.status = Status.COMPLETED;
+            log.info("Export {} completed: {} rows, {} bytes", job.id, job.rows, job.sizeBytes);
+        } catch (IOException | RuntimeException e) {
+            job.error = e.getMessage();
+            job.status = Status.FAILED;
+            log.error("Export {} failed after {} rows", job.id, job.rows, e);
+            try {
+                Files.deleteIfExists(part);
+            } catch (IOException ignored) {
+                // Removed with the next startup at the latest
+            }
+        } finally {
+            job.completedAt = Instant.now();
+            sample.stop(Timer.builder("taskmanagement.export.duration")
+                    .description("Export job duration")
+                    .tag("dataset", job.dataset.name())
+                    .tag("outcome", job.status == Status.COMPLETED ? "success" : "failure")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Read-only, forward-only statement that fetches fetchSize rows per round trip
+     * (MySQL needs useCursorFetch=true on the URL, otherwise the driver reads the whole result first)
+     */
+    private PreparedStatementCreator cursor(String sql, String department) {
+        return connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            statement.setString(1, department);
+            return statement;
+        };
+    }
+
+    private static Object[] taskRow(ResultSet rs) throws SQLException {
+        return new Object[] {
+                rs.getLong("id"),
+                rs.getString("title"),
+                rs.getString("description"),
+                STATUS.convertToEntityAttribute(rs.getByte("status")),
+                PRIORITY.convertToEntityAttribute(rs.getByte("priority")),
+                date(rs.getDate("due_date")),
+                timestamp(rs.getTimestamp("created_at")),
+                timestamp(rs.getTimestamp("completed_at")),
+                rs.getObject("is_recurring") != null ? rs.getBoolean("is_recurring") : null,
+                rs.getObject("recurrence_type") != null
+                        ? RECURRENCE.convertToEntityAttribute(rs.getByte("recurrence_type")) : null,
+                rs.getString("category"),
+                rs.getObject("template_id") != null ? rs.getLong("template_id") : null,
+                rs.getLong("user_id"),
+                rs.getString("user_email")
+        };
+    }
+
+    private static Object[] statusHistoryRow(ResultSet rs) throws SQLException {
+        return new Object[] {
+                rs.getLong("task_id"),
+                rs.getLong("user_id"),
+                rs.getString("user_email"),
+                rs.getString("category"),
+                rs.getString("from_status"),
+                rs.getString("to_status"),
+                rs.getString("source"),
+                timestamp(rs.getTimestamp("changed_at"))
+        };
+    }
+
+    private static String date(Date value) {
+        return value != null ? value.toLocalDate().toString() : null;
+    }
+
+    private static String timestamp(Timestamp value) {
+        return value != null ? value.toLocalDateTime().toString() : null;
+    }
+
+    /**
+     * A completed export file
+     *
+     * @param downloadName file name suggested to the client
+     */
+    public record ExportFile(Path path, String downloadName, long sizeBytes) {
+    }
+
+    private interface RowWriter {
+        void write(Object[] values) throws IOException;
+
+        void finish() throws IOException;
+    }
+
+    /**
+     * RFC 4180 CSV with a header row; fields with commas, quotes or line breaks are quoted
+     */
+    private static class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        CsvRowWriter(OutputStream out, List<String> columns) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 65536);
+            write(columns.toArray());
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (values[i] != null) {
+                    writer.write(escape(values[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * One JSON object per line, keyed by column name
+     */
+    private class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private final List<String> columns;
+
+        NdjsonRowWriter(OutputStream out, List<String> columns) throws IOException {
+            this.generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            this.generator.setRootValueSeparator(null);  // Rows are separated by the newline written after each
+            this.columns = columns;
+        }
+
+        @Override
+        public void write(Object[] values) throws IOException {
+            generator.writeStartObject();
+            for (int i = 0; i < values.length; i++) {
+                generator.writeObjectField(columns.get(i), values[i]);
+            }
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+    }
+
+    private class Job {
+        final String id;
+        final String department;
+        final Dataset dataset;
+        final Format format;
+        final Instant createdAt = Instant.now();
+        final Path file;
+
+        // Written by the export thread, read by status requests
+        volatile Status status = Status.QUEUED;
+        volatile Instant startedAt;
+        volatile Instant completedAt;
+        volatile long rows;
+        volatile Long sizeBytes;
+        volatile String error;
+
+        Job(String id, String department, Dataset dataset, Format format) {
+            this.id = id;
+            this.department = department;
+            this.dataset = dataset;
+            this.format = format;
+            this.file = directory.resolve(id + extension());
+        }
+
+        String sql() {
+            return dataset == Dataset.TASKS ? TASKS_SQL : STATUS_HISTORY_SQL;
+        }
+
+        List<String> columns() {
+            return dataset == Dataset.TASKS ? TASK_COLUMNS : STATUS_HISTORY_COLUMNS;
+        }
+
+        String extension() {
+            return format == Format.CSV ? ".csv.gz" : ".ndjson.gz";
+        }
+
+        String downloadName() {
+            String slug = department.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-");
+            return dataset.name().toLowerCase(Locale.ROOT).replace('_', '-') + "-" + slug + "-"
+                    + id.substring(0, 8) + extension();
+        }
+
+        ExportJobInfo toInfo() {
+            return ExportJobInfo.builder()
+                    .id(id)
+                    .department(department)
+                    .dataset(dataset.name())
+                    .format(format.name())
+                    .status(status.name())
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .completedAt(completedAt)
+                    .rows(rows)
+                    .sizeBytes(sizeBytes)
+                    .downloadUrl(status == Status.COMPLETED ? "/api/exports/" + id + "/file" : null)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.RecordingInfo;
+import com.taskmanagement.jfr.EmailRenderEvent;
+import com.taskmanagement.jfr.EmailSendEvent;
+import com.taskmanagement.jfr.TaskMutationEvent;
+import com.taskmanagement.jfr.TemplateGenerationEvent;
+import jakarta.annotation.PostConstruct;
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Service for on-demand Java Flight Recorder recordings
+ * Demonstrates:
+ * - Starting/stopping JFR in-process, without an external agent
+ * - Delayed start, so a recording can be armed for the 6 AM or 8 AM batch
+ * - Custom application events recorded alongside JVM events
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@ConditionalOnProperty(name = "taskmanagement.jfr.enabled", havingValue = "true")
+@Slf4j
+public class ProfilingService {
+
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+            TemplateGenerationEvent.class, EmailRenderEvent.class, EmailSendEvent.class, TaskMutationEvent.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private final Map<Long, String> profiles = new ConcurrentHashMap<>();
+
+    public ProfilingService(@Value("${taskmanagement.jfr.directory:recordings}") String directory) {
+        this.directory = Path.of(directory);
+    }
+
+    @PostConstruct
+    public void registerEvents() {
+        // Registered up front so they appear in recordings started before the first event fires
+        APPLICATION_EVENTS.forEach(FlightRecorder::register);
+    }
+
+    /**
+     * Start a recording
+     *
+     * @param profile JFR configuration name ("default" is low overhead, "profile" samples more)
+     * @param delay   wait this long before recording starts, or null to start now
+     * @param maxDuration stop and write the file automatically after this long
+     */
+    public RecordingInfo start(String profile, Duration delay, Duration maxDuration) throws IOException {
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(profile);
+        } catch (ParseException e) {
+            throw new IllegalArgumentException("Invalid JFR configuration: " + profile, e);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Unknown JFR configuration: " + profile, e);
+        }
+
+        Files.createDirectories(directory);
+        Recording recording = new Recording(configuration);
+        String name = "taskmanagement-" + profile + "-" + LocalDateTime.now().format(FILE_TIMESTAMP);
+        recording.setName(name);
+        recording.setToDisk(true);
+        recording.setDestination(directory.resolve(name + ".jfr"));
+        recording.setDuration(maxDuration);
+        APPLICATION_EVENTS.forEach(type -> recording.enable(type).withThreshold(Duration.ZERO));
+
+        if (delay != null && !delay.isZero()) {
+            recording.scheduleStart(delay);
+        } else {
+            recording.start();
+        }
+
+        recordings.put(recording.getId(), recording);
+        profiles.put(recording.getId(), profile);
+        log.info("JFR recording {} ({}) armed, writing to {}", recording.getId(), profile, recording.getDestination());
+        return toInfo(recording);
+    }
+
+    /**
+     * Stop a recording and write it to its file
+     */
+    public RecordingInfo stop(long id) {
+        Recording recording = getRecording(id);
+        if (recording.getState() == RecordingState.RUNNING
+                || recording.getState() == RecordingState.DELAYED) {
+            recording.stop();
+            log.info("JFR recording {} stopped, written to {}", id, recording.getDestination());
+        }
+        return toInfo(recording);
+    }
+
+    /**
+     * Stop if needed and forget a recording; the file on disk is kept
+     */
+    public void close(long id) {
+        Recording recording = getRecording(id);
+        recording.close();
+        recordings.remove(id);
+        profiles.remove(id);
+    }
+
+    public List<RecordingInfo> getRecordings() {
+        return recordings.values().stream()
+                .map(this::toInfo)
+                .collect(Collectors.toList());
+    }
+
+    public RecordingInfo getRecordingInfo(long id) {
+        return toInfo(getRecording(id));
+    }
+
+    /**
+     * File of a stopped recording
+     */
+    public Path getRecordingFile(long id) {
+        Recording recording = getRecording(id);
+        if (recording.getState() != RecordingState.STOPPED
+                && recording.getState() != RecordingState.CLOSED) {
+            throw new IllegalStateException("Recording " + id + " has not stopped yet");
+        }
+        return recording.getDestination();
+    }
+
+    private Recording getRecording(long id) {
+        Recording recording = recordings.get(id);
+        if (recording == null) {
+            throw new RuntimeException("Recording not found");
+        }
+        return recording;
+    }
+
+    private RecordingInfo toInfo(Recording recording) {
+        Path file = recording.getDestination();
+        Long size = null;
+        try {
+            if (file != null && Files.exists(file)) {
+                size = Files.size(file);
+            }
+        } catch (IOException e) {
+            log.debug("Could not read size of {}", file, e);
+        }
+
+        return RecordingInfo.builder()
+                .id(recording.getId())
+                .name(recording.getName())
+                .profile(profiles.get(recording.getId()))
+                .state(recording.getState().name())
+                .startedAt(recording.getStartTime())
+                .stoppedAt(recording.getStopTime())
+                .maxDurationSeconds(recording.getDuration() != null ? recording.getDuration().toSeconds() : null)
+                .file(file != null ? file.toAbsolutePath().toString() : null)
+                .sizeBytes(size)
+                .build();
+    }
+}
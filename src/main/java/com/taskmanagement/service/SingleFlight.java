@@ -0,0 +1,82 @@
+package com.taskmanagement.service;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * One value loaded once and shared by every caller that asks for it
+ * The first caller to claim it runs the load; concurrent callers wait for the same result.
+ * Caches keep one per key in a ConcurrentHashMap and replace it with a fresh one to reload,
+ * so a load in flight never blocks other keys.
+ * Not a cache by itself: expiry and replacement are up to the owner.
+ */
+class SingleFlight<T> {
+
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private volatile long loadedAt;
+
+    /**
+     * True for exactly one caller, which must then call load
+     */
+    boolean claim() {
+        return claimed.compareAndSet(false, true);
+    }
+
+    /**
+     * Run the loader and hand its value, or its failure, to every waiting caller
+     */
+    void load(Supplier<T> loader) {
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException e) {
+            fail(e);
+            return;
+        }
+        loadedAt = System.nanoTime();
+        complete(value);
+    }
+
+    /**
+     * Wait for the value; a failed load rethrows its exception
+     */
+    T join() {
+        try {
+            return result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    boolean isDone() {
+        return result.isDone();
+    }
+
+    boolean isFailed() {
+        return result.isCompletedExceptionally();
+    }
+
+    /**
+     * Failed loads expire at once; loads still in flight never do, so callers join them
+     */
+    boolean isExpired(long maxAgeNanos) {
+        if (!result.isDone()) {
+            return false;
+        }
+        return result.isCompletedExceptionally() || System.nanoTime() - loadedAt > maxAgeNanos;
+    }
+
+    void complete(T value) {
+        result.complete(value);
+    }
+
+    void fail(RuntimeException e) {
+        result.completeExceptionally(e);
+    }
+}
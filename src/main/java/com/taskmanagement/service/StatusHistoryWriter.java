@@ -0,0 +1,259 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.ChangeSource;
+import com.taskmanagement.event.DomainEvent;
+import com.taskmanagement.event.DomainEventConsumer;
+import com.taskmanagement.event.TaskCreated;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.event.TemplateGenerated;
+import com.taskmanagement.model.TaskStatus;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Write-behind recorder for task status transitions
+ * Demonstrates:
+ * - Subscribing to the domain event pipeline
+ * - Buffering appends in memory and flushing them in JDBC batches
+ * - Flushing on size, on a timer and on shutdown
+ *
+ * History is eventually consistent: a transition becomes queryable after the next flush.
+ * Each batch is written in one transaction, so a failed batch leaves nothing behind and can be
+ * retried as a whole. When a batch fails its rows are written one at a time: a row rejected by a
+ * constraint is dropped, and the rest are retried on the next flush up to max-attempts times.
+ * The buffer holds at most max-buffered rows; transitions beyond that are dropped. Dropped rows
+ * are logged and counted in taskmanagement.history.dropped.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@Slf4j
+public class StatusHistoryWriter implements DomainEventConsumer {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO task_status_history (task_id, user_id, category, from_status, to_status, source, changed_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Counter dropped;
+    private final int flushSize;
+    private final int maxBuffered;
+    private final int maxAttempts;
+    private final Object lock = new Object();
+    private final Object flushLock = new Object();
+    private List<Pending> buffer = new ArrayList<>();
+
+    public StatusHistoryWriter(JdbcTemplate jdbcTemplate,
+                               TransactionTemplate transactionTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${taskmanagement.history.flush-size:500}") int flushSize,
+                               @Value("${taskmanagement.history.max-buffered:100000}") int maxBuffered,
+                               @Value("${taskmanagement.history.max-attempts:10}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.dropped = Counter.builder("taskmanagement.history.dropped")
+                .description("Status transitions dropped: rejected by the database, out of retries or buffer full")
+                .register(meterRegistry);
+        this.flushSize = flushSize;
+        this.maxBuffered = maxBuffered;
+        this.maxAttempts = maxAttempts;
+        Gauge.builder("taskmanagement.history.buffered", this, StatusHistoryWriter::getBuffered)
+                .description("Status transitions waiting for the next flush")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return "status-history";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TaskCreated
+                || (event instanceof TaskStatusChanged changed && changed.getOldStatus() != changed.getNewStatus())
+                || event instanceof TemplateGenerated;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        boolean flushNow;
+        int overflow = 0;
+        synchronized (lock) {
+            for (DomainEvent event : events) {
+                if (buffer.size() < maxBuffered) {
+                    buffer.add(new Pending(toRow(event)));
+                } else {
+                    overflow++;
+                }
+            }
+            flushNow = buffer.size() >= flushSize;
+        }
+        if (overflow > 0) {
+            drop(overflow, "history buffer full");
+        }
+        if (flushNow) {
+            flush();
+        }
+    }
+
+    /**
+     * Write all buffered transitions in one JDBC batch
+     * Flushes run one at a time, so retried rows go back ahead of newer ones
+     */
+    @Scheduled(fixedDelayString = "${taskmanagement.history.flush-interval-ms:2000}")
+    public void flush() {
+        synchronized (flushLock) {
+            List<Pending> rows;
+            synchronized (lock) {
+                if (buffer.isEmpty()) {
+                    return;
+                }
+                rows = buffer;
+                buffer = new ArrayList<>();
+            }
+
+            try {
+                List<Object[]> batch = rows.stream().map(Pending::row).collect(Collectors.toList());
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(INSERT_SQL, batch));
+                log.debug("Flushed {} status transitions", rows.size());
+            } catch (DataAccessException e) {
+                log.warn("Failed to flush {} status transitions as a batch, writing them one by one", rows.size(), e);
+                requeue(writeOneByOne(rows));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    /**
+     * Transitions waiting for the next flush
+     */
+    public int getBuffered() {
+        synchronized (lock) {
+            return buffer.size();
+        }
+    }
+
+    /**
+     * Insert rows individually after a failed batch
+     * Rows violating a constraint fail on their own every time and are dropped. Any other failure
+     * (connection lost, table locked) stops the pass; that row and the ones after it are retried.
+     *
+     * @return rows to retry
+     */
+    private List<Pending> writeOneByOne(List<Pending> rows) {
+        List<Pending> retry = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Pending pending = rows.get(i);
+            try {
+                jdbcTemplate.update(INSERT_SQL, pending.row());
+            } catch (DataIntegrityViolationException e) {
+                log.error("Dropping status transition {} rejected by the database: {}",
+                        Arrays.toString(pending.row()), e.getMostSpecificCause().getMessage());
+                dropped.increment();
+            } catch (DataAccessException e) {
+                log.error("Failed to write status transitions, {} will be retried", rows.size() - i, e);
+                for (Pending remaining : rows.subList(i, rows.size())) {
+                    if (remaining.attempt() < maxAttempts) {
+                        retry.add(remaining);
+                    } else {
+                        log.error("Dropping status transition {} after {} attempts", Arrays.toString(remaining.row()),
+                                maxAttempts);
+                        dropped.increment();
+                    }
+                }
+                break;
+            }
+        }
+        return retry;
+    }
+
+    /**
+     * Put rows back ahead of the ones buffered since, keeping the buffer within max-buffered
+     */
+    private void requeue(List<Pending> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        int overflow;
+        synchronized (lock) {
+            rows.addAll(buffer);
+            overflow = Math.max(0, rows.size() - maxBuffered);
+            buffer = overflow > 0 ? new ArrayList<>(rows.subList(0, maxBuffered)) : rows;
+        }
+        if (overflow > 0) {
+            drop(overflow, "history buffer full while retrying");
+        }
+    }
+
+    private void drop(int count, String reason) {
+        log.error("Dropping {} status transitions: {}", count, reason);
+        dropped.increment(count);
+    }
+
+    private Object[] toRow(DomainEvent event) {
+        if (event instanceof TaskStatusChanged changed) {
+            return row(changed.getTaskId(), changed.getUserId(), changed.getCategory(),
+                    changed.getOldStatus(), changed.getNewStatus(), changed.getSource(), changed.getOccurredAt());
+        }
+        if (event instanceof TemplateGenerated generated) {
+            return row(generated.getTaskId(), generated.getUserId(), generated.getCategory(),
+                    null, TaskStatus.TODO, ChangeSource.GENERATION, generated.getOccurredAt());
+        }
+        TaskCreated created = (TaskCreated) event;
+        return row(created.getTaskId(), created.getUserId(), created.getCategory(),
+                null, TaskStatus.TODO, ChangeSource.API, created.getOccurredAt());
+    }
+
+    private Object[] row(Long taskId, Long userId, String category, TaskStatus from, TaskStatus to,
+                         ChangeSource source, LocalDateTime changedAt) {
+        return new Object[]{taskId, userId, category, from != null ? from.name() : null, to.name(),
+                source.name(), changedAt};
+    }
+
+    /**
+     * A buffered row and how many times it has been written so far
+     */
+    private static final class Pending {
+
+        private final Object[] row;
+        private int attempts;
+
+        Pending(Object[] row) {
+            this.row = row;
+        }
+
+        Object[] row() {
+            return row;
+        }
+
+        /**
+         * Count a failed write
+         *
+         * @return failed writes so far
+         */
+        int attempt() {
+            return ++attempts;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.StatusTransitionResponse;
+import com.taskmanagement.dto.TransitionCount;
+import com.taskmanagement.repository.TaskStatusHistoryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Service for reading task status history
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskHistoryService {
+
+    private final TaskStatusHistoryRepository historyRepository;
+
+    /**
+     * Get the status timeline of a task, oldest first
+     */
+    public List<StatusTransitionResponse> getTaskTimeline(Long taskId) {
+        return historyRepository.findByTaskIdOrderByChangedAtAscIdAsc(taskId).stream()
+                .map(entry -> StatusTransitionResponse.builder()
+                        .fromStatus(entry.getFromStatus())
+                        .toStatus(entry.getToStatus())
+                        .source(entry.getSource())
+                        .changedAt(entry.getChangedAt())
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Count a user's transitions between two dates (inclusive)
+     */
+    public List<TransitionCount> getUserTransitionCounts(Long userId, LocalDate from, LocalDate to) {
+        return historyRepository.countTransitionsByUser(userId, startOf(from), endOf(to));
+    }
+
+    /**
+     * Count a category's transitions between two dates (inclusive)
+     */
+    public List<TransitionCount> getCategoryTransitionCounts(String category, LocalDate from, LocalDate to) {
+        return historyRepository.countTransitionsByCategory(category, startOf(from), endOf(to));
+    }
+
+    private LocalDateTime startOf(LocalDate date) {
+        return date.atStartOfDay();
+    }
+
+    private LocalDateTime endOf(LocalDate date) {
+        return date.plusDays(1).atStartOfDay();
+    }
+}
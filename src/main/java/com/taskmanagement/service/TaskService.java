@@ -1,21 +1,39 @@
 package com.taskmanagement.service;
 
+import com.taskmanagement.dto.TaskField;
 import com.taskmanagement.dto.TaskRequest;
 import com.taskmanagement.dto.TaskResponse;
+import com.taskmanagement.event.ChangeSource;
+import com.taskmanagement.event.DomainEventPipeline;
+import com.taskmanagement.event.TaskCreated;
+import com.taskmanagement.event.TaskDeleted;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.event.TaskUpdated;
+import com.taskmanagement.jfr.TaskMutationEvent;
+import com.taskmanagement.model.SyncTombstone;
 import com.taskmanagement.model.Task;
+import com.taskmanagement.model.TaskPriority;
 import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.TaskTemplate;
 import com.taskmanagement.model.User;
+import com.taskmanagement.repository.TaskProjectionRepository;
 import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTemplateRepository;
 import com.taskmanagement.repository.UserRepository;
+import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * Service class for Task management
@@ -26,20 +44,35 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Observed(name = "taskmanagement.service")
 public class TaskService {
 
+    // IDs per IN (...) query in multi-get
+    private static final int MULTI_GET_CHUNK_SIZE = 100;
+
     private final TaskRepository taskRepository;
+    private final TaskProjectionRepository projectionRepository;
     private final UserRepository userRepository;
-    private final EmailService emailService;
+    private final TaskTemplateRepository templateRepository;
+    private final DomainEventPipeline eventPipeline;
+    private final AssignmentService assignmentService;
+    private final TaskSnapshotCache snapshotCache;
+    private final SyncService syncService;
+    private final Clock clock;
 
     /**
      * Create a new task
      */
     @Transactional
     public TaskResponse createTask(TaskRequest request) {
-        log.info("Creating new task: {} for user: {}", request.getTitle(), request.getUserId());
+        TaskMutationEvent jfrEvent = new TaskMutationEvent("create");
+        boolean autoAssigned = Boolean.TRUE.equals(request.getAutoAssign());
+        Long userId = autoAssigned
+                ? assignmentService.assignLeastLoaded(request.getDepartment(), request.getPriority())
+                : request.getUserId();
+        log.info("Creating new task: {} for user: {}", request.getTitle(), userId);
 
-        User user = userRepository.findById(request.getUserId())
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         Task task = new Task();
@@ -49,7 +82,7 @@ public class TaskService {
         task.setPriority(request.getPriority());
         task.setDueDate(request.getDueDate());
         task.setStatus(TaskStatus.TODO);
-        task.setCreatedAt(LocalDateTime.now());
+        task.setCreatedAt(LocalDateTime.now(clock));
         task.setIsRecurring(request.getIsRecurring());
         task.setRecurrenceType(request.getRecurrenceType());
         task.setCategory(request.getCategory());
@@ -57,9 +90,19 @@ public class TaskService {
         Task savedTask = taskRepository.save(task);
         log.info("Task created successfully with ID: {}", savedTask.getId());
 
-        // Send task creation notification
-        emailService.sendTaskCreationNotification(savedTask);
+        // Notification and other side effects run after commit, off the request thread
+        eventPipeline.publish(TaskCreated.builder()
+                .taskId(savedTask.getId())
+                .userId(user.getId())
+                .priority(savedTask.getPriority())
+                .category(savedTask.getCategory())
+                .dueDate(savedTask.getDueDate())
+                .createdAt(savedTask.getCreatedAt())
+                .autoAssigned(autoAssigned)
+                .occurredAt(LocalDateTime.now(clock))
+                .build());
 
+        jfrEvent.end(savedTask.getId(), user.getId());
         return buildTaskResponse(savedTask, "Task created successfully");
     }
 
@@ -67,50 +110,78 @@ public class TaskService {
      * Get task by ID
      */
     public TaskResponse getTask(Long taskId) {
-        Task task = taskRepository.findById(taskId)
+        Task task = taskRepository.findWithDetailsById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
         return buildTaskResponse(task, null);
     }
 
     /**
-     * Get all tasks for a user
+     * Get several tasks in input order, with a "Task not found" entry for each unknown ID
+     * Tasks, their assignees and their templates are each loaded with chunked IN queries, so a
+     * board of any size costs a handful of statements instead of two per card.
      */
-    public List<TaskResponse> getUserTasks(Long userId) {
-        List<Task> tasks = taskRepository.findByAssignedToId(userId);
-        return tasks.stream()
-                .map(task -> buildTaskResponse(task, null))
-                .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public List<TaskResponse> getTasks(List<Long> taskIds) {
+        BatchLoader<Long, Task> tasks =
+                new BatchLoader<>(taskRepository::findAllWithDetailsByIdIn, Task::getId, MULTI_GET_CHUNK_SIZE);
+        BatchLoader<Long, User> users =
+                new BatchLoader<>(userRepository::findAllById, User::getId, MULTI_GET_CHUNK_SIZE);
+        BatchLoader<Long, TaskTemplate> templates =
+                new BatchLoader<>(templateRepository::findAllById, TaskTemplate::getId, MULTI_GET_CHUNK_SIZE);
+
+        tasks.addAll(taskIds);
+        tasks.resolve();
+        // Reading the ID of a lazy association does not initialize it
+        for (Long taskId : taskIds) {
+            tasks.get(taskId).ifPresent(task -> {
+                users.add(task.getAssignedTo().getId());
+                if (task.getTemplate() != null) {
+                    templates.add(task.getTemplate().getId());
+                }
+            });
+        }
+        // Loaded into the persistence context, so the lazy associations below resolve without a query
+        users.resolve();
+        templates.resolve();
+
+        List<TaskResponse> responses = new ArrayList<>(taskIds.size());
+        for (Long taskId : taskIds) {
+            responses.add(tasks.get(taskId)
+                    .map(task -> buildTaskResponse(task, null))
+                    .orElseGet(() -> TaskResponse.builder().taskId(taskId).message("Task not found").build()));
+        }
+        log.debug("Multi-get of {} tasks used {} queries", taskIds.size(),
+                tasks.getQueries() + users.getQueries() + templates.getQueries());
+        return responses;
+    }
+
+    /**
+     * Get all tasks for a user, projected to the requested fields
+     */
+    public List<Map<String, Object>> getUserTasks(Long userId, Set<TaskField> fields) {
+        return projectionRepository.findByUser(userId, fields);
     }
 
     /**
      * Get pending tasks for a user (ordered by priority and due date)
      */
-    public List<TaskResponse> getUserPendingTasks(Long userId) {
-        List<Task> tasks = taskRepository.findUserPendingTasksOrdered(userId);
-        return tasks.stream()
-                .map(task -> buildTaskResponse(task, null))
-                .collect(Collectors.toList());
+    public List<Map<String, Object>> getUserPendingTasks(Long userId, Set<TaskField> fields) {
+        return projectionRepository.findUserPendingOrdered(userId, fields);
     }
 
     /**
-     * Get overdue tasks
+     * Get overdue tasks (shared snapshot, see TaskSnapshotCache)
      */
-    public List<TaskResponse> getOverdueTasks() {
-        List<Task> tasks = taskRepository.findOverdueTasks();
-        return tasks.stream()
-                .map(task -> buildTaskResponse(task, null))
-                .collect(Collectors.toList());
+    public List<Map<String, Object>> getOverdueTasks(Set<TaskField> fields) {
+        return snapshotCache.get("overdue", fields, () -> projectionRepository.findOverdue(fields));
     }
 
     /**
-     * Get tasks due today
+     * Get tasks due today (shared snapshot, see TaskSnapshotCache)
      */
-    public List<TaskResponse> getTasksDueToday() {
-        List<Task> tasks = taskRepository.findTasksDueToday();
-        return tasks.stream()
-                .map(task -> buildTaskResponse(task, null))
-                .collect(Collectors.toList());
+    public List<Map<String, Object>> getTasksDueToday(Set<TaskField> fields) {
+        return snapshotCache.get("due-today", fields, () -> projectionRepository.findDueToday(fields));
     }
 
     /**
@@ -118,22 +189,35 @@ public class TaskService {
      */
     @Transactional
     public TaskResponse updateTaskStatus(Long taskId, TaskStatus newStatus) {
+        TaskMutationEvent jfrEvent = new TaskMutationEvent("update-status");
         Task task = taskRepository.findById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
         TaskStatus oldStatus = task.getStatus();
         task.setStatus(newStatus);
 
-        if (newStatus == TaskStatus.COMPLETED) {
-            task.setCompletedAt(LocalDateTime.now());
+        boolean recompletion = newStatus == TaskStatus.COMPLETED && task.getCompletedAt() != null;
+        if (newStatus == TaskStatus.COMPLETED && !recompletion) {
+            task.setCompletedAt(LocalDateTime.now(clock));
         }
 
-        taskRepository.save(task);
+        taskRepository.saveAndFlush(task);  // Flushed so the response carries the new updatedAt
         log.info("Task {} status updated from {} to {}", task.getTitle(), oldStatus, newStatus);
 
-        // Send status update notification
-        emailService.sendTaskStatusUpdate(task, newStatus);
+        eventPipeline.publish(TaskStatusChanged.builder()
+                .taskId(task.getId())
+                .userId(task.getAssignedTo().getId())
+                .oldStatus(oldStatus)
+                .newStatus(newStatus)
+                .priority(task.getPriority())
+                .category(task.getCategory())
+                .createdAt(task.getCreatedAt())
+                .recompletion(recompletion)
+                .source(ChangeSource.API)
+                .occurredAt(LocalDateTime.now(clock))
+                .build());
 
+        jfrEvent.end(taskId, task.getAssignedTo().getId());
         return buildTaskResponse(task, "Task status updated");
     }
 
@@ -142,18 +226,33 @@ public class TaskService {
      */
     @Transactional
     public TaskResponse updateTask(Long taskId, TaskRequest request) {
-        Task task = taskRepository.findById(taskId)
+        TaskMutationEvent jfrEvent = new TaskMutationEvent("update");
+        // The description is rewritten and returned, so its row is loaded in the same query
+        Task task = taskRepository.findWithDetailsById(taskId)
                 .orElseThrow(() -> new RuntimeException("Task not found"));
 
+        TaskPriority oldPriority = task.getPriority();
         task.setTitle(request.getTitle());
         task.setDescription(request.getDescription());
         task.setPriority(request.getPriority());
         task.setDueDate(request.getDueDate());
         task.setCategory(request.getCategory());
 
-        Task updated = taskRepository.save(task);
+        Task updated = taskRepository.saveAndFlush(task);
         log.info("Task updated: {}", task.getId());
 
+        eventPipeline.publish(TaskUpdated.builder()
+                .taskId(updated.getId())
+                .userId(updated.getAssignedTo().getId())
+                .status(updated.getStatus())
+                .oldPriority(oldPriority)
+                .priority(updated.getPriority())
+                .dueDate(updated.getDueDate())
+                .category(updated.getCategory())
+                .occurredAt(LocalDateTime.now(clock))
+                .build());
+
+        jfrEvent.end(taskId, updated.getAssignedTo().getId());
         return buildTaskResponse(updated, "Task updated successfully");
     }
 
@@ -162,30 +261,40 @@ public class TaskService {
      */
     @Transactional
     public void deleteTask(Long taskId) {
-        taskRepository.deleteById(taskId);
-        log.info("Task deleted: {}", taskId);
+        TaskMutationEvent jfrEvent = new TaskMutationEvent("delete");
+        taskRepository.findById(taskId).ifPresent(task -> {
+            taskRepository.delete(task);
+            syncService.recordDeletion(SyncTombstone.EntityType.TASK, taskId, task.getAssignedTo().getId());
+            log.info("Task deleted: {}", taskId);
+
+            eventPipeline.publish(TaskDeleted.builder()
+                    .taskId(task.getId())
+                    .userId(task.getAssignedTo().getId())
+                    .status(task.getStatus())
+                    .priority(task.getPriority())
+                    .category(task.getCategory())
+                    .occurredAt(LocalDateTime.now(clock))
+                    .build());
+            jfrEvent.end(taskId, task.getAssignedTo().getId());
+        });
     }
 
     /**
      * Get tasks by category
      */
-    public List<TaskResponse> getTasksByCategory(Long userId, String category) {
-        List<Task> tasks = taskRepository.findByAssignedToIdAndCategory(userId, category);
-        return tasks.stream()
-                .map(task -> buildTaskResponse(task, null))
-                .collect(Collectors.toList());
+    public List<Map<String, Object>> getTasksByCategory(Long userId, String category, Set<TaskField> fields) {
+        return projectionRepository.findByUserAndCategory(userId, category, fields);
     }
 
     /**
      * Get task statistics for a user
      */
     public java.util.Map<String, Object> getUserTaskStats(Long userId) {
-        long totalTasks = taskRepository.findByAssignedToId(userId).size();
-        long completedTasks = taskRepository.countByUserAndStatus(userId, TaskStatus.COMPLETED);
+        Object[] summary = taskRepository.summarizeByUser(userId, LocalDate.now(clock)).get(0);
+        long totalTasks = ((Number) summary[0]).longValue();
+        long completedTasks = ((Number) summary[1]).longValue();
         long pendingTasks = totalTasks - completedTasks;
-        long overdueTasks = taskRepository.findOverdueTasks().stream()
-                .filter(t -> t.getAssignedTo().getId().equals(userId))
-                .count();
+        long overdueTasks = ((Number) summary[2]).longValue();
 
         return java.util.Map.of(
                 "totalTasks", totalTasks,
@@ -197,24 +306,30 @@ public class TaskService {
 
     /**
      * Build TaskResponse DTO from Task entity
+     * The description is included only if the details row is already loaded, so a status
+     * change doesn't read task_details just to echo it back.
      */
     private TaskResponse buildTaskResponse(Task task, String message) {
+        LocalDate today = LocalDate.now(clock);
         return TaskResponse.builder()
                 .taskId(task.getId())
                 .title(task.getTitle())
-                .description(task.getDescription())
+                .description(Hibernate.isInitialized(task.getDetails()) ? task.getDescription() : null)
                 .status(task.getStatus())
                 .priority(task.getPriority())
                 .dueDate(task.getDueDate())
-                .daysUntilDeadline(task.getDaysUntilDeadline())
-                .isOverdue(task.isOverdue())
+                .daysUntilDeadline(task.getDaysUntilDeadline(today))
+                .isOverdue(task.isOverdue(today))
                 .assignedToName(task.getAssignedTo().getName())
                 .assignedToEmail(task.getAssignedTo().getEmail())
                 .createdAt(task.getCreatedAt())
                 .completedAt(task.getCompletedAt())
+                .updatedAt(task.getUpdatedAt())
                 .isRecurring(task.getIsRecurring())
                 .recurrenceType(task.getRecurrenceType())
                 .category(task.getCategory())
+                .templateId(task.getTemplate() != null ? task.getTemplate().getId() : null)
+                .templateTitle(task.getTemplate() != null ? task.getTemplate().getTitle() : null)
                 .message(message)
                 .build();
     }
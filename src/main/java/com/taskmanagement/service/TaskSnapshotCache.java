@@ -0,0 +1,109 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskField;
+import com.taskmanagement.event.DomainEvent;
+import com.taskmanagement.event.DomainEventConsumer;
+import com.taskmanagement.event.TaskCreated;
+import com.taskmanagement.event.TaskDeleted;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.event.TaskUpdated;
+import com.taskmanagement.event.TemplateGenerated;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Shared snapshots of the global task lists (overdue, due today)
+ * Demonstrates:
+ * - Single-flight refresh: one caller loads an expired snapshot, concurrent callers wait for its result
+ * - Bounded staleness (max-age-ms) plus invalidation from the domain event pipeline
+ *
+ * Every caller of /overdue and /due-today sees the same rows, so the number of list queries
+ * depends on max-age and the write rate rather than on the number of clients.
+ * Snapshots are keyed by list and selected fields. Invalidation arrives after the writing
+ * transaction commits, on the pipeline's worker thread, so a client reading straight after its
+ * own write may briefly see the previous snapshot.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@Slf4j
+public class TaskSnapshotCache implements DomainEventConsumer {
+
+    private final Map<Key, SingleFlight<List<Map<String, Object>>>> snapshots = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final long maxAgeNanos;
+
+    public TaskSnapshotCache(MeterRegistry meterRegistry,
+                             @Value("${taskmanagement.snapshots.max-age-ms:10000}") long maxAgeMs) {
+        this.meterRegistry = meterRegistry;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+    }
+
+    /**
+     * Rows of a list, from the current snapshot or from one shared load if it expired
+     */
+    public List<Map<String, Object>> get(String list, Set<TaskField> fields,
+                                         Supplier<List<Map<String, Object>>> loader) {
+        Key key = new Key(list, Set.copyOf(fields));
+        SingleFlight<List<Map<String, Object>>> snapshot = snapshots.compute(key,
+                (k, current) -> current == null || current.isExpired(maxAgeNanos) ? new SingleFlight<>() : current);
+
+        String outcome;
+        if (snapshot.claim()) {
+            outcome = "refresh";
+            snapshot.load(() -> List.copyOf(loader.get()));
+        } else {
+            outcome = snapshot.isDone() ? "hit" : "wait";
+        }
+        Counter.builder("taskmanagement.snapshot.requests")
+                .description("Global list requests by snapshot outcome")
+                .tag("list", list)
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+
+        return snapshot.join();
+    }
+
+    /**
+     * Drop every snapshot; the next request for each list reloads it
+     * A refresh already in flight still completes for the callers waiting on it.
+     */
+    public void invalidate() {
+        snapshots.clear();
+    }
+
+    @Override
+    public String getName() {
+        return "task-snapshots";
+    }
+
+    @Override
+    public boolean supports(DomainEvent event) {
+        return event instanceof TaskCreated
+                || event instanceof TaskUpdated
+                || event instanceof TaskStatusChanged
+                || event instanceof TaskDeleted
+                || event instanceof TemplateGenerated;
+    }
+
+    @Override
+    public void onEvents(List<DomainEvent> events) {
+        // One batch may carry thousands of generated tasks; a single clear covers them all
+        invalidate();
+        log.debug("Task snapshots invalidated by {} events", events.size());
+    }
+
+    private record Key(String list, Set<TaskField> fields) {
+    }
+}
@@ -2,8 +2,10 @@ package com.taskmanagement.service;
 
 import com.taskmanagement.dto.TaskTemplateRequest;
 import com.taskmanagement.model.RecurrenceType;
+import com.taskmanagement.model.SyncTombstone;
 import com.taskmanagement.model.TaskTemplate;
 import com.taskmanagement.model.User;
+import com.taskmanagement.repository.TaskRepository;
 import com.taskmanagement.repository.TaskTemplateRepository;
 import com.taskmanagement.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
@@ -11,6 +13,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Clock;
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -26,15 +30,24 @@ public class TaskTemplateService {
 
     private final TaskTemplateRepository templateRepository;
     private final UserRepository userRepository;
+    private final AssignmentService assignmentService;
+    private final SyncService syncService;
+    private final TaskRepository taskRepository;
+    private final ChangeSequence changeSequence;
+    private final Clock clock;
 
     /**
      * Create a new task template
      */
     @Transactional
     public TaskTemplate createTemplate(TaskTemplateRequest request) {
-        log.info("Creating task template: {} for user: {}", request.getTitle(), request.getUserId());
+        String autoAssignDepartment = autoAssignDepartment(request);
+        Long userId = autoAssignDepartment != null
+                ? assignmentService.findLeastLoaded(autoAssignDepartment)
+                : request.getUserId();
+        log.info("Creating task template: {} for user: {}", request.getTitle(), userId);
 
-        User user = userRepository.findById(request.getUserId())
+        User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         TaskTemplate template = new TaskTemplate();
@@ -49,6 +62,7 @@ public class TaskTemplateService {
         template.setDayOfMonth(request.getDayOfMonth());
         template.setDaysToComplete(request.getDaysToComplete());
         template.setCategory(request.getCategory());
+        template.setAutoAssignDepartment(autoAssignDepartment);
         template.setIsActive(true);
 
         TaskTemplate saved = templateRepository.save(template);
@@ -97,6 +111,7 @@ public class TaskTemplateService {
         template.setDayOfMonth(request.getDayOfMonth());
         template.setDaysToComplete(request.getDaysToComplete());
         template.setCategory(request.getCategory());
+        template.setAutoAssignDepartment(autoAssignDepartment(request));
 
         return templateRepository.save(template);
     }
@@ -115,10 +130,22 @@ public class TaskTemplateService {
 
     /**
      * Delete template
+     * Its generated tasks stay; their template link is cleared here rather than by the foreign key's
+     * ON DELETE SET NULL, which would change them without a new change number
      */
     @Transactional
     public void deleteTemplate(Long templateId) {
-        templateRepository.deleteById(templateId);
-        log.info("Template deleted: {}", templateId);
+        templateRepository.findById(templateId).ifPresent(template -> {
+            Long userId = template.getAssignedTo().getId();
+            int detached = taskRepository.detachFromTemplate(templateId, LocalDateTime.now(clock), changeSequence.next());
+            log.debug("Unlinked {} tasks from template {}", detached, templateId);
+            templateRepository.delete(template);
+            syncService.recordDeletion(SyncTombstone.EntityType.TEMPLATE, templateId, userId);
+            log.info("Template deleted: {}", templateId);
+        });
+    }
+
+    private String autoAssignDepartment(TaskTemplateRequest request) {
+        return Boolean.TRUE.equals(request.getAutoAssign()) ? request.getDepartment() : null;
     }
 }
@@ -0,0 +1,166 @@
+package com.taskmanagement.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Indexed binary min-heap of user load
+ * Keeps each user's position so a load change is sifted in O(log n) instead of removing and
+ * re-inserting. Ties are broken by user ID to keep the choice deterministic.
+ * Reservations are load charged ahead of a commit; they are either released (rollback) or
+ * settled by the committed event, which then leaves the load unchanged.
+ * Not thread-safe; AssignmentService guards each heap with its own lock.
+ */
+@Slf4j
+class UserLoadHeap {
+
+    private final List<long[]> heap = new ArrayList<>();  // {userId, load}
+    private final Map<Long, Integer> positions = new HashMap<>();
+    private final Map<Long, Long> reserved = new HashMap<>();  // userId -> reserved load
+
+    void add(long userId, long load) {
+        if (positions.containsKey(userId)) {
+            adjust(userId, load - loadOf(userId));
+            return;
+        }
+        heap.add(new long[]{userId, load});
+        positions.put(userId, heap.size() - 1);
+        siftUp(heap.size() - 1);
+    }
+
+    /**
+     * Add delta to a user's load; unknown users are ignored
+     */
+    void adjust(long userId, long delta) {
+        Integer index = positions.get(userId);
+        if (index == null) {
+            return;
+        }
+        long load = heap.get(index)[1] + delta;
+        if (load < 0) {
+            // Every decrement should follow a counted increment; a negative load means the two went out of step
+            log.warn("Load of user {} would drop to {} (delta {}), clamped to 0", userId, load, delta);
+            load = 0;
+        }
+        heap.get(index)[1] = load;
+        if (delta < 0) {
+            siftUp(index);
+        } else {
+            siftDown(index);
+        }
+    }
+
+    /**
+     * Charge load for work whose transaction has not committed yet
+     */
+    void reserve(long userId, long weight) {
+        if (!positions.containsKey(userId)) {
+            return;
+        }
+        adjust(userId, weight);
+        reserved.merge(userId, weight, Long::sum);
+    }
+
+    /**
+     * Take back a reservation whose transaction rolled back; no-op if this heap does not hold it
+     */
+    void release(long userId, long weight) {
+        if (unreserve(userId, weight)) {
+            adjust(userId, -weight);
+        }
+    }
+
+    /**
+     * Keep a reservation as the committed charge; false if this heap does not hold it
+     */
+    boolean settle(long userId, long weight) {
+        return unreserve(userId, weight);
+    }
+
+    long reservedFor(long userId) {
+        return reserved.getOrDefault(userId, 0L);
+    }
+
+    boolean contains(long userId) {
+        return positions.containsKey(userId);
+    }
+
+    boolean isEmpty() {
+        return heap.isEmpty();
+    }
+
+    long peekUserId() {
+        return heap.get(0)[0];
+    }
+
+    long loadOf(long userId) {
+        return heap.get(positions.get(userId))[1];
+    }
+
+    int size() {
+        return heap.size();
+    }
+
+    private boolean unreserve(long userId, long weight) {
+        long remaining = reservedFor(userId) - weight;
+        if (remaining < 0) {
+            return false;
+        }
+        if (remaining == 0) {
+            reserved.remove(userId);
+        } else {
+            reserved.put(userId, remaining);
+        }
+        return true;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!less(index, parent)) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        int size = heap.size();
+        while (true) {
+            int left = 2 * index + 1;
+            int right = left + 1;
+            int smallest = index;
+            if (left < size && less(left, smallest)) {
+                smallest = left;
+            }
+            if (right < size && less(right, smallest)) {
+                smallest = right;
+            }
+            if (smallest == index) {
+                return;
+            }
+            swap(index, smallest);
+            index = smallest;
+        }
+    }
+
+    private boolean less(int a, int b) {
+        long[] x = heap.get(a);
+        long[] y = heap.get(b);
+        return x[1] != y[1] ? x[1] < y[1] : x[0] < y[0];
+    }
+
+    private void swap(int a, int b) {
+        long[] x = heap.get(a);
+        long[] y = heap.get(b);
+        heap.set(a, y);
+        heap.set(b, x);
+        positions.put(y[0], a);
+        positions.put(x[0], b);
+    }
+}
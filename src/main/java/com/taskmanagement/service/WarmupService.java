@@ -0,0 +1,194 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.dto.TaskField;
+import com.taskmanagement.repository.TaskProjectionRepository;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.TaskTemplateRepository;
+import com.taskmanagement.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Boot-time warm-up of the hot read paths
+ * Demonstrates:
+ * - Fork-join over user ID ranges, with parallelism capped by the connection pool
+ * - Readiness gating: the node reports OUT_OF_SERVICE until warm-up finishes or its time budget runs out
+ *
+ * Preloads active templates and each department's assignment heap, then, for users with tasks
+ * created in the last few days, runs the same reads as /pending and /stats. That fills the
+ * database buffer pool, the connection pool, Hibernate's query plan cache and the JIT before
+ * the load balancer sends the first request.
+ *
+ * Spring Boot publishes ReadinessState.ACCEPTING_TRAFFIC only after every ApplicationReadyEvent
+ * listener has returned, so running synchronously here is what keeps /actuator/health/readiness down.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@Slf4j
+public class WarmupService {
+
+    private final TaskTemplateRepository templateRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final TaskProjectionRepository projectionRepository;
+    private final AssignmentService assignmentService;
+    private final Clock clock;
+
+    private final boolean enabled;
+    private final int parallelism;
+    private final long budgetMs;
+    private final int recentDays;
+    private final int usersPerChunk;
+
+    public WarmupService(TaskTemplateRepository templateRepository,
+                         UserRepository userRepository,
+                         TaskRepository taskRepository,
+                         TaskProjectionRepository projectionRepository,
+                         AssignmentService assignmentService,
+                         Clock clock,
+                         @Value("${taskmanagement.warmup.enabled:true}") boolean enabled,
+                         @Value("${taskmanagement.warmup.parallelism:4}") int parallelism,
+                         @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                         @Value("${taskmanagement.warmup.budget-ms:30000}") long budgetMs,
+                         @Value("${taskmanagement.warmup.recent-days:7}") int recentDays,
+                         @Value("${taskmanagement.warmup.users-per-chunk:200}") int usersPerChunk) {
+        this.templateRepository = templateRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.projectionRepository = projectionRepository;
+        this.assignmentService = assignmentService;
+        this.clock = clock;
+        this.enabled = enabled;
+        this.parallelism = Math.max(1, Math.min(parallelism, poolSize));
+        this.budgetMs = budgetMs;
+        this.recentDays = recentDays;
+        this.usersPerChunk = usersPerChunk;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (!enabled) {
+            return;
+        }
+
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.MILLISECONDS.toNanos(budgetMs);
+        Stats stats = new Stats();
+
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            ForkJoinTask<?> warmup = pool.submit(() -> ForkJoinTask.invokeAll(
+                    ForkJoinTask.adapt(() -> warmTemplates(stats)),
+                    ForkJoinTask.adapt(() -> warmAssignmentHeaps(stats)),
+                    ForkJoinTask.adapt(() -> warmUsers(stats, deadline))));
+            warmup.get(budgetMs, TimeUnit.MILLISECONDS);
+            log.info("Warm-up finished in {} ms: {} templates, {} departments, {} users ({} threads)",
+                    elapsedMs(started), stats.templates.sum(), stats.departments.sum(), stats.users.sum(),
+                    parallelism);
+        } catch (TimeoutException e) {
+            log.warn("Warm-up budget of {} ms used up after {} users; accepting traffic", budgetMs, stats.users.sum());
+        } catch (ExecutionException e) {
+            log.warn("Warm-up failed after {} ms; accepting traffic", elapsedMs(started), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Chunks still queued see the passed deadline and return without querying
+            pool.shutdown();
+        }
+    }
+
+    private void warmTemplates(Stats stats) {
+        stats.templates.add(templateRepository.findByIsActiveTrue().size());
+    }
+
+    private void warmAssignmentHeaps(Stats stats) {
+        for (String department : userRepository.findDepartments()) {
+            try {
+                assignmentService.findLeastLoaded(department);
+                stats.departments.increment();
+            } catch (RuntimeException e) {
+                log.debug("Skipping assignment heap for department {}: {}", department, e.getMessage());
+            }
+        }
+    }
+
+    private void warmUsers(Stats stats, long deadline) {
+        Object[] range = userRepository.findIdRange().get(0);
+        if (range[0] == null) {
+            return;
+        }
+        LocalDateTime since = LocalDateTime.now(clock).minusDays(recentDays);
+        new UserRange((Long) range[0], (Long) range[1], since, stats, deadline).invoke();
+    }
+
+    private static long elapsedMs(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000;
+    }
+
+    /**
+     * Splits a user ID range in half until it is small enough to warm on one thread
+     */
+    private class UserRange extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final long fromId;
+        private final long toId;
+        private final LocalDateTime since;
+        private final Stats stats;
+        private final long deadline;
+
+        UserRange(long fromId, long toId, LocalDateTime since, Stats stats, long deadline) {
+            this.fromId = fromId;
+            this.toId = toId;
+            this.since = since;
+            this.stats = stats;
+            this.deadline = deadline;
+        }
+
+        @Override
+        protected void compute() {
+            if (System.nanoTime() > deadline) {
+                return;
+            }
+            if (toId - fromId >= usersPerChunk) {
+                long middle = fromId + (toId - fromId) / 2;
+                invokeAll(new UserRange(fromId, middle, since, stats, deadline),
+                        new UserRange(middle + 1, toId, since, stats, deadline));
+                return;
+            }
+
+            userRepository.findByIdBetween(fromId, toId);
+            List<Long> activeUserIds = taskRepository.findActiveUserIdsBetween(fromId, toId, since);
+            for (Long userId : activeUserIds) {
+                if (System.nanoTime() > deadline) {
+                    return;
+                }
+                projectionRepository.findUserPendingOrdered(userId, TaskField.SUMMARY);
+                taskRepository.summarizeByUser(userId, LocalDate.now(clock));
+                stats.users.increment();
+            }
+        }
+    }
+
+    private static class Stats {
+        private final LongAdder templates = new LongAdder();
+        private final LongAdder departments = new LongAdder();
+        private final LongAdder users = new LongAdder();
+    }
+}
@@ -0,0 +1,26 @@
+package com.taskmanagement.simulation;
+
+import jakarta.mail.internet.MimeMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mail sender that counts messages instead of delivering them
+ * Messages are still built and converted to MIME exactly as for SMTP; only the transport is skipped.
+ *
+ * @author Yanamala Sanjay
+ */
+public class CountingMailSender extends JavaMailSenderImpl {
+
+    private final AtomicLong sent = new AtomicLong();
+
+    @Override
+    protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+        sent.addAndGet(mimeMessages.length);
+    }
+
+    public long getSent() {
+        return sent.get();
+    }
+}
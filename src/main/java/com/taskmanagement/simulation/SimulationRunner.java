@@ -0,0 +1,293 @@
+package com.taskmanagement.simulation;
+
+import com.taskmanagement.dto.SimulationReport;
+import com.taskmanagement.service.TaskSnapshotCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.support.CronExpression;
+import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Replays the application's @Scheduled jobs in virtual time
+ * Demonstrates:
+ * - Deterministic time travel: every job fires at its cron or interval time on the VirtualClock
+ * - A year of generation, reminders and digests in minutes, with per-day cost figures
+ *
+ * Jobs are the @Scheduled methods of the application's beans, read from their annotations, so the
+ * replay follows the real schedule. Within a day they run one at a time in firing order (ties by
+ * name); fixedRate/fixedDelay jobs fire at multiples of their interval from the first simulated
+ * instant. Setting min-interval-minutes stretches shorter intervals (e.g. 1440 runs the hourly
+ * overdue sweep once a day) to replay long periods faster, at the cost of fewer runs per day.
+ * Each run is timed and measured: rows reported to JobMetrics, emails handed to the mail sender
+ * and statements Hibernate prepared (statistics are enabled by the simulation profile; jobs run one
+ * at a time, so the global counter is theirs). Virtual time continues from where the previous run stopped.
+ *
+ * Domain event consumers (status history, analytics) still run on their own threads, so their
+ * writes may land slightly after the job that caused them.
+ *
+ * @author Yanamala Sanjay
+ */
+@Service
+@ConditionalOnProperty(name = "taskmanagement.simulation.enabled", havingValue = "true")
+@Slf4j
+public class SimulationRunner {
+
+    private static final String APPLICATION_PACKAGE = "com.taskmanagement.";
+
+    private final ApplicationContext applicationContext;
+    private final VirtualClock clock;
+    private final CountingMailSender mailSender;
+    private final MeterRegistry meterRegistry;
+    private final TaskSnapshotCache snapshotCache;
+    private final Statistics statistics;
+    private final Duration minInterval;
+    private final LocalDateTime epoch;
+    private List<ScheduledJob> jobs;
+
+    public SimulationRunner(ApplicationContext applicationContext,
+                            VirtualClock clock,
+                            CountingMailSender mailSender,
+                            MeterRegistry meterRegistry,
+                            TaskSnapshotCache snapshotCache,
+                            EntityManagerFactory entityManagerFactory,
+                            @Value("${taskmanagement.simulation.min-interval-minutes:0}") long minIntervalMinutes) {
+        this.applicationContext = applicationContext;
+        this.clock = clock;
+        this.mailSender = mailSender;
+        this.meterRegistry = meterRegistry;
+        this.snapshotCache = snapshotCache;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.minInterval = Duration.ofMinutes(minIntervalMinutes);
+        this.epoch = clock.now();
+    }
+
+    /**
+     * Simulate the next number of days
+     */
+    public synchronized SimulationReport run(int days) {
+        if (jobs == null) {
+            jobs = findScheduledJobs();
+            log.info("Simulating {} scheduled jobs: {}", jobs.size(), jobs.stream().map(ScheduledJob::name).toList());
+        }
+
+        long started = System.nanoTime();
+        LocalDateTime start = clock.now();
+        List<SimulationReport.Day> daily = new ArrayList<>();
+        for (int day = 0; day < days; day++) {
+            daily.add(simulateDay(start.plusDays(day), start.plusDays(day + 1)));
+        }
+
+        return SimulationReport.builder()
+                .from(start.toLocalDate())
+                .to(start.plusDays(days - 1).toLocalDate())
+                .days(days)
+                .jobRuns(daily.stream().flatMap(day -> day.getJobs().stream()).mapToLong(SimulationReport.Job::getRuns).sum())
+                .rows(daily.stream().mapToLong(SimulationReport.Day::getRows).sum())
+                .emails(daily.stream().mapToLong(SimulationReport.Day::getEmails).sum())
+                .failures(daily.stream().flatMap(day -> day.getJobs().stream()).mapToLong(SimulationReport.Job::getFailures).sum())
+                .wallClockMs((System.nanoTime() - started) / 1_000_000)
+                .daily(daily)
+                .build();
+    }
+
+    public LocalDateTime now() {
+        return clock.now();
+    }
+
+    private SimulationReport.Day simulateDay(LocalDateTime from, LocalDateTime to) {
+        List<Firing> firings = new ArrayList<>();
+        for (ScheduledJob job : jobs) {
+            job.firings(from, to).forEach(time -> firings.add(new Firing(time, job)));
+        }
+        firings.sort(Comparator.comparing(Firing::time).thenComparing(firing -> firing.job().name()));
+
+        // Snapshots are bounded by real time, which barely moves between simulated days
+        snapshotCache.invalidate();
+
+        Map<String, SimulationReport.Job> byJob = new LinkedHashMap<>();
+        Map<String, Long> nanosByJob = new HashMap<>();
+        for (Firing firing : firings) {
+            clock.set(firing.time());
+            SimulationReport.Job stats = byJob.computeIfAbsent(firing.job().name(),
+                    name -> SimulationReport.Job.builder().job(name).build());
+            nanosByJob.merge(stats.getJob(), runJob(firing.job(), stats), Long::sum);
+        }
+        clock.set(to);
+        byJob.values().forEach(stats -> stats.setDurationMs(nanosByJob.get(stats.getJob()) / 1_000_000));
+
+        SimulationReport.Day day = SimulationReport.Day.builder()
+                .date(from.toLocalDate())
+                .durationMs(byJob.values().stream().mapToLong(SimulationReport.Job::getDurationMs).sum())
+                .rows(byJob.values().stream().mapToLong(SimulationReport.Job::getRows).sum())
+                .emails(byJob.values().stream().mapToLong(SimulationReport.Job::getEmails).sum())
+                .jobs(new ArrayList<>(byJob.values()))
+                .build();
+        log.info("Simulated {}: {} job runs, {} rows, {} emails in {} ms", day.getDate(), firings.size(),
+                day.getRows(), day.getEmails(), day.getDurationMs());
+        return day;
+    }
+
+    /**
+     * Run a job once, adding its figures to stats
+     *
+     * @return elapsed nanoseconds
+     */
+    private long runJob(ScheduledJob job, SimulationReport.Job stats) {
+        double rowsBefore = jobRows();
+        long emailsBefore = mailSender.getSent();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        long started = System.nanoTime();
+        try {
+            job.method().invoke(job.bean());
+        } catch (InvocationTargetException e) {
+            stats.setFailures(stats.getFailures() + 1);
+            log.warn("Simulated job {} failed at {}", job.name(), clock.now(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot invoke " + job.name(), e);
+        }
+        stats.setStatements(stats.getStatements() + statistics.getPrepareStatementCount() - statementsBefore);
+        long elapsed = System.nanoTime() - started;
+        stats.setRuns(stats.getRuns() + 1);
+        stats.setRows(stats.getRows() + Math.round(jobRows() - rowsBefore));
+        stats.setEmails(stats.getEmails() + mailSender.getSent() - emailsBefore);
+        return elapsed;
+    }
+
+    private double jobRows() {
+        return meterRegistry.find("taskmanagement.job.rows").counters().stream().mapToDouble(Counter::count).sum();
+    }
+
+    /**
+     * Every @Scheduled method of the application's beans
+     */
+    private List<ScheduledJob> findScheduledJobs() {
+        List<ScheduledJob> found = new ArrayList<>();
+        for (String beanName : applicationContext.getBeanDefinitionNames()) {
+            Class<?> type = applicationContext.getType(beanName);
+            if (type == null || !type.getName().startsWith(APPLICATION_PACKAGE)) {
+                continue;
+            }
+            Class<?> userClass = ClassUtils.getUserClass(type);
+            Map<Method, Scheduled> methods = MethodIntrospector.selectMethods(userClass,
+                    (MethodIntrospector.MetadataLookup<Scheduled>) method ->
+                            AnnotatedElementUtils.findMergedAnnotation(method, Scheduled.class));
+            if (methods.isEmpty()) {
+                continue;
+            }
+            Object bean = applicationContext.getBean(beanName);
+            methods.forEach((method, scheduled) -> found.add(new ScheduledJob(
+                    userClass.getSimpleName() + "." + method.getName(), bean,
+                    AopUtils.selectInvocableMethod(method, bean.getClass()), scheduled)));
+        }
+        found.sort(Comparator.comparing(ScheduledJob::name));
+        return found;
+    }
+
+    private record Firing(LocalDateTime time, ScheduledJob job) {
+    }
+
+    private class ScheduledJob {
+        private final String name;
+        private final Object bean;
+        private final Method method;
+        private final CronExpression cron;
+        private final Duration interval;
+        private final Duration initialDelay;
+
+        ScheduledJob(String name, Object bean, Method method, Scheduled scheduled) {
+            this.name = name;
+            this.bean = bean;
+            this.method = method;
+            String cronValue = resolve(scheduled.cron());
+            this.cron = cronValue.isEmpty() || Scheduled.CRON_DISABLED.equals(cronValue)
+                    ? null : CronExpression.parse(cronValue);
+            // Delay and rate are the same thing in virtual time: a run takes no simulated time
+            Duration every = cron != null ? null : firstSet(scheduled.timeUnit(),
+                    scheduled.fixedRate(), scheduled.fixedRateString(),
+                    scheduled.fixedDelay(), scheduled.fixedDelayString());
+            this.interval = every != null && every.compareTo(minInterval) < 0 ? minInterval : every;
+            Duration delay = firstSet(scheduled.timeUnit(), scheduled.initialDelay(), scheduled.initialDelayString(), -1, "");
+            this.initialDelay = delay != null ? delay : Duration.ZERO;
+        }
+
+        String name() {
+            return name;
+        }
+
+        Object bean() {
+            return bean;
+        }
+
+        Method method() {
+            return method;
+        }
+
+        /**
+         * Firing times in [from, to)
+         */
+        List<LocalDateTime> firings(LocalDateTime from, LocalDateTime to) {
+            List<LocalDateTime> times = new ArrayList<>();
+            if (cron != null) {
+                for (LocalDateTime time = cron.next(from.minusNanos(1)); time != null && time.isBefore(to);
+                     time = cron.next(time)) {
+                    times.add(time);
+                }
+            } else if (interval != null && !interval.isZero()) {
+                LocalDateTime anchor = epoch.plus(initialDelay);
+                long elapsed = Math.max(0, Duration.between(anchor, from).toNanos());
+                long intervals = (elapsed + interval.toNanos() - 1) / interval.toNanos();
+                for (LocalDateTime time = anchor.plus(interval.multipliedBy(intervals)); time.isBefore(to);
+                     time = time.plus(interval)) {
+                    times.add(time);
+                }
+            }
+            return times;
+        }
+
+        private String resolve(String value) {
+            return applicationContext.getEnvironment().resolvePlaceholders(value).trim();
+        }
+
+        private Duration firstSet(TimeUnit unit, long value, String valueString, long other, String otherString) {
+            ChronoUnit chronoUnit = unit.toChronoUnit();
+            if (value >= 0) {
+                return Duration.of(value, chronoUnit);
+            }
+            if (!valueString.isEmpty()) {
+                return Duration.of(Long.parseLong(resolve(valueString)), chronoUnit);
+            }
+            if (other >= 0) {
+                return Duration.of(other, chronoUnit);
+            }
+            if (!otherString.isEmpty()) {
+                return Duration.of(Long.parseLong(resolve(otherString)), chronoUnit);
+            }
+            return null;
+        }
+    }
+}
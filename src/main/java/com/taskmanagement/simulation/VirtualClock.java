@@ -0,0 +1,57 @@
+package com.taskmanagement.simulation;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * Clock that stands still until it is moved
+ * Installed as the application Clock in simulation mode; SimulationRunner sets it to each job's
+ * firing time, so every LocalDate.now(clock) in the application sees the simulated date.
+ *
+ * @author Yanamala Sanjay
+ */
+public class VirtualClock extends Clock {
+
+    private final ZoneId zone;
+    private volatile Instant instant;
+
+    public VirtualClock(LocalDateTime start, ZoneId zone) {
+        this.zone = zone;
+        this.instant = start.atZone(zone).toInstant();
+    }
+
+    /**
+     * Move to a point in time; moving backwards is rejected so replays stay monotonic
+     */
+    public void set(LocalDateTime time) {
+        Instant next = time.atZone(zone).toInstant();
+        if (next.isBefore(instant)) {
+            throw new IllegalArgumentException("Virtual time cannot move backwards: " + time);
+        }
+        instant = next;
+    }
+
+    public LocalDateTime now() {
+        return LocalDateTime.ofInstant(instant, zone);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    /**
+     * A fixed clock at the current virtual instant (the zone is part of this clock's identity)
+     */
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return Clock.fixed(instant, zone);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant;
+    }
+}
@@ -0,0 +1,139 @@
+package com.taskmanagement.tracing;
+
+import com.taskmanagement.dto.SpanView;
+import com.taskmanagement.dto.TraceSummary;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Span exporter keeping the most recent spans in memory
+ * Demonstrates:
+ * - Running tracing fully offline, without a collector
+ * - Rebuilding a trace tree from flat spans via parent IDs
+ *
+ * Holds at most bufferSize spans; the oldest are evicted first.
+ *
+ * @author Yanamala Sanjay
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int bufferSize;
+    private final Deque<SpanView> spans = new ArrayDeque<>();
+
+    public InMemorySpanExporter(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> batch) {
+        for (SpanData span : batch) {
+            if (spans.size() == bufferSize) {
+                spans.removeFirst();
+            }
+            spans.addLast(SpanViews.from(span));
+        }
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public CompletableResultCode flush() {
+        return CompletableResultCode.ofSuccess();
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        spans.clear();
+        return CompletableResultCode.ofSuccess();
+    }
+
+    /**
+     * Most recent traces first, optionally only those whose root span name contains nameFilter
+     */
+    public List<TraceSummary> recentTraces(int limit, String nameFilter) {
+        Map<String, List<SpanView>> byTrace = new LinkedHashMap<>();
+        for (SpanView span : snapshot()) {
+            byTrace.computeIfAbsent(span.getTraceId(), id -> new ArrayList<>()).add(span);
+        }
+
+        return byTrace.values().stream()
+                .map(this::summarize)
+                .filter(summary -> nameFilter == null || summary.getRootName().contains(nameFilter))
+                .sorted(Comparator.comparing(TraceSummary::getStartedAt).reversed())
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * All spans of a trace in depth-first order, each with its nesting depth
+     */
+    public List<SpanView> getTrace(String traceId) {
+        List<SpanView> traceSpans = snapshot().stream()
+                .filter(span -> span.getTraceId().equals(traceId))
+                .sorted(Comparator.comparing(SpanView::getStartedAt))
+                .collect(Collectors.toList());
+
+        Set<String> recorded = traceSpans.stream().map(SpanView::getSpanId).collect(Collectors.toSet());
+        Map<String, List<SpanView>> children = new HashMap<>();
+        List<SpanView> roots = new ArrayList<>();
+        for (SpanView span : traceSpans) {
+            if (recorded.contains(span.getParentSpanId())) {
+                children.computeIfAbsent(span.getParentSpanId(), id -> new ArrayList<>()).add(span);
+            } else {
+                roots.add(span);
+            }
+        }
+
+        List<SpanView> ordered = new ArrayList<>(traceSpans.size());
+        roots.forEach(root -> appendTree(root, 0, children, ordered));
+        return ordered;
+    }
+
+    private void appendTree(SpanView span, int depth, Map<String, List<SpanView>> children, List<SpanView> out) {
+        span.setDepth(depth);
+        out.add(span);
+        for (SpanView child : children.getOrDefault(span.getSpanId(), List.of())) {
+            appendTree(child, depth + 1, children, out);
+        }
+    }
+
+    private TraceSummary summarize(List<SpanView> traceSpans) {
+        SpanView root = traceSpans.stream()
+                .filter(span -> span.getParentSpanId() == null)
+                .findFirst()
+                .orElse(null);
+        Instant start = traceSpans.stream().map(SpanView::getStartedAt).min(Comparator.naturalOrder()).orElseThrow();
+        long extentMicros = traceSpans.stream()
+                .mapToLong(span -> ChronoUnit.MICROS.between(start, span.getStartedAt()) + span.getDurationMicros())
+                .max().orElse(0);
+
+        return TraceSummary.builder()
+                .traceId(traceSpans.get(0).getTraceId())
+                .rootName(root != null ? root.getName() : "(root not recorded)")
+                .startedAt(start)
+                .durationMicros(root != null ? root.getDurationMicros() : extentMicros)
+                .spanCount(traceSpans.size())
+                .error(traceSpans.stream().anyMatch(SpanView::isError))
+                .build();
+    }
+
+    private synchronized List<SpanView> snapshot() {
+        return spans.stream()
+                .map(span -> span.toBuilder().build())
+                .collect(Collectors.toList());
+    }
+}
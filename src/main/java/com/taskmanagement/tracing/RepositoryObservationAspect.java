@@ -0,0 +1,60 @@
+package com.taskmanagement.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Opens a child span for every repository call
+ * Covers Spring Data repositories (including inherited save/findById) and the projection repository.
+ * Off unless taskmanagement.tracing.repository-spans=true, since hot paths make dozens of calls.
+ *
+ * @author Yanamala Sanjay
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "taskmanagement.tracing.repository-spans", havingValue = "true")
+@RequiredArgsConstructor
+public class RepositoryObservationAspect {
+
+    private final ObservationRegistry observationRegistry;
+
+    @Around("execution(public * *(..)) && (this(org.springframework.data.repository.Repository) "
+            + "|| within(com.taskmanagement.repository..*))")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint);
+        String method = joinPoint.getSignature().getName();
+
+        Observation observation = Observation.createNotStarted("taskmanagement.repository", observationRegistry)
+                .contextualName(repository + "." + method)
+                .lowCardinalityKeyValue("repository", repository)
+                .lowCardinalityKeyValue("method", method)
+                .start();
+        Observation.Scope scope = observation.openScope();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            scope.close();
+            observation.stop();
+        }
+    }
+
+    private String repositoryName(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getThis();
+        for (Class<?> type : target.getClass().getInterfaces()) {
+            if (type.getPackageName().startsWith("com.taskmanagement.repository")) {
+                return type.getSimpleName();
+            }
+        }
+        return AopUtils.getTargetClass(target).getSimpleName();
+    }
+}
@@ -0,0 +1,41 @@
+package com.taskmanagement.tracing;
+
+import com.taskmanagement.dto.SpanView;
+import io.opentelemetry.api.trace.SpanId;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversion of OpenTelemetry span data to SpanView
+ */
+final class SpanViews {
+
+    static final String THREAD_ATTRIBUTE = "thread.name";
+
+    private SpanViews() {
+    }
+
+    static SpanView from(SpanData span) {
+        Map<String, String> attributes = new TreeMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), String.valueOf(value)));
+        String thread = attributes.remove(THREAD_ATTRIBUTE);
+
+        return SpanView.builder()
+                .traceId(span.getTraceId())
+                .spanId(span.getSpanId())
+                .parentSpanId(SpanId.isValid(span.getParentSpanId()) ? span.getParentSpanId() : null)
+                .name(span.getName())
+                .kind(span.getKind().name())
+                .thread(thread)
+                .startedAt(Instant.ofEpochSecond(0, span.getStartEpochNanos()))
+                .durationMicros(TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()))
+                .error(span.getStatus().getStatusCode() == StatusCode.ERROR)
+                .attributes(attributes)
+                .build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.taskmanagement.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * JPA transaction manager recording the commit as its own span
+ * The flush of pending inserts/updates happens here, so a slow commit is otherwise
+ * indistinguishable from a slow service method.
+ *
+ * @author Yanamala Sanjay
+ */
+public class TracingJpaTransactionManager extends JpaTransactionManager {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient ObservationRegistry observationRegistry;
+
+    public TracingJpaTransactionManager(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+        Observation.createNotStarted("taskmanagement.transaction.commit", observationRegistry)
+                .contextualName("transaction commit")
+                .observe(() -> super.doCommit(status));
+    }
+}
@@ -0,0 +1,58 @@
+package db.migration;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+
+/**
+ * Drops the single-column user indexes that V5's (user_id, change_seq) indexes supersede
+ * Only if they exist: databases baselined at V1 were created by Hibernate's ddl-auto and never
+ * had these names, and MySQL has no DROP INDEX IF EXISTS. An index the database won't drop
+ * because a foreign key uses it (H2 binds the user_id key to it) is kept; it is only redundant.
+ *
+ * @author Yanamala Sanjay
+ */
+@Slf4j
+public class V5_1__Drop_superseded_user_indexes extends BaseJavaMigration {
+
+    private static final Map<String, String> INDEXES = Map.of(
+            "idx_tasks_user", "tasks",
+            "idx_templates_user", "task_templates");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        for (Map.Entry<String, String> index : INDEXES.entrySet()) {
+            if (indexExists(connection, index.getValue(), index.getKey())) {
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("DROP INDEX " + index.getKey() + " ON " + index.getValue());
+                } catch (SQLException e) {
+                    if (!indexExists(connection, index.getValue(), index.getKey())) {
+                        throw e;
+                    }
+                    log.warn("Kept index {} on {}: {}", index.getKey(), index.getValue(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static boolean indexExists(Connection connection, String table, String index) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        String tableName = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase() : table;
+        try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), tableName, false, true)) {
+            while (rs.next()) {
+                if (index.equalsIgnoreCase(rs.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -7,19 +7,33 @@ INSERT INTO users (name, email, password, department, designation, employee_id,
 ('Rahul Kumar', 'rahul@example.com', '$2a$10$abcdefghijklmnopqrstuv', 'Operations', 'Engineer', 'EMP002', TRUE),
 ('Priya Sharma', 'priya@example.com', '$2a$10$abcdefghijklmnopqrstuv', 'Engineering', 'Senior Engineer', 'EMP003', FALSE);
 
--- Insert sample tasks
-INSERT INTO tasks (user_id, title, description, status, priority, due_date, category, is_recurring) VALUES
-(1, 'Daily Material Data Update', 'Update material inventory data in SAP', 'TODO', 'HIGH', CURDATE(), 'Material Data Update', FALSE),
-(1, 'Weekly Progress Report', 'Submit weekly progress report to manager', 'TODO', 'MEDIUM', DATE_ADD(CURDATE(), INTERVAL 2 DAY), 'Daily Reporting', FALSE),
-(1, 'Review CAM Equipment Documentation', 'Review vendor documentation for CAM project', 'IN_PROGRESS', 'HIGH', DATE_ADD(CURDATE(), INTERVAL 3 DAY), 'Documentation', FALSE),
-(2, 'Morning Equipment Inspection', 'Inspect battery cell equipment', 'TODO', 'HIGH', CURDATE(), 'Daily Reporting', FALSE),
-(3, 'Monthly Safety Audit', 'Conduct monthly safety audit', 'TODO', 'CRITICAL', DATE_ADD(CURDATE(), INTERVAL 7 DAY), 'Documentation', FALSE);
+-- Insert categories
+INSERT INTO categories (name) VALUES
+('Material Data Update'),
+('Daily Reporting'),
+('Documentation');
 
--- Insert sample recurring task templates
-INSERT INTO task_templates (user_id, title, description, priority, recurrence_type, day_of_week, days_to_complete, category, is_active) VALUES
-(1, 'Daily Material Data Update', 'Update material inventory data in SAP system', 'HIGH', 'DAILY', NULL, 1, 'Material Data Update', TRUE),
-(1, 'Weekly Team Meeting', 'Attend weekly team sync meeting', 'MEDIUM', 'WEEKLY', 1, 0, 'Daily Reporting', TRUE),
-(2, 'Monthly Equipment Maintenance Log', 'Submit monthly equipment maintenance report', 'HIGH', 'MONTHLY', NULL, 2, 'Documentation', TRUE);
+-- Insert sample task details (one per task below)
+INSERT INTO task_details (id, description) VALUES
+(1, 'Update material inventory data in SAP'),
+(2, 'Submit weekly progress report to manager'),
+(3, 'Review vendor documentation for CAM project'),
+(4, 'Inspect battery cell equipment'),
+(5, 'Conduct monthly safety audit');
+
+-- Insert sample tasks (status 0=TODO 1=IN_PROGRESS; priority 1=MEDIUM 2=HIGH 3=CRITICAL)
+INSERT INTO tasks (user_id, title, details_id, status, priority, due_date, category_id, is_recurring) VALUES
+(1, 'Daily Material Data Update', 1, 0, 2, CURDATE(), (SELECT id FROM categories WHERE name = 'Material Data Update'), FALSE),
+(1, 'Weekly Progress Report', 2, 0, 1, DATE_ADD(CURDATE(), INTERVAL 2 DAY), (SELECT id FROM categories WHERE name = 'Daily Reporting'), FALSE),
+(1, 'Review CAM Equipment Documentation', 3, 1, 2, DATE_ADD(CURDATE(), INTERVAL 3 DAY), (SELECT id FROM categories WHERE name = 'Documentation'), FALSE),
+(2, 'Morning Equipment Inspection', 4, 0, 2, CURDATE(), (SELECT id FROM categories WHERE name = 'Daily Reporting'), FALSE),
+(3, 'Monthly Safety Audit', 5, 0, 3, DATE_ADD(CURDATE(), INTERVAL 7 DAY), (SELECT id FROM categories WHERE name = 'Documentation'), FALSE);
+
+-- Insert sample recurring task templates (recurrence 1=DAILY 2=WEEKLY 3=MONTHLY)
+INSERT INTO task_templates (user_id, title, description, priority, recurrence_type, day_of_week, days_to_complete, category_id, is_active) VALUES
+(1, 'Daily Material Data Update', 'Update material inventory data in SAP system', 2, 1, NULL, 1, (SELECT id FROM categories WHERE name = 'Material Data Update'), TRUE),
+(1, 'Weekly Team Meeting', 'Attend weekly team sync meeting', 1, 2, 1, 0, (SELECT id FROM categories WHERE name = 'Daily Reporting'), TRUE),
+(2, 'Monthly Equipment Maintenance Log', 'Submit monthly equipment maintenance report', 2, 3, NULL, 2, (SELECT id FROM categories WHERE name = 'Documentation'), TRUE);
 
 -- Update last_generated for templates (set to yesterday so they generate today)
 UPDATE task_templates SET last_generated = DATE_SUB(NOW(), INTERVAL 2 DAY);
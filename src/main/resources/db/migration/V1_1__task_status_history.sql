@@ -0,0 +1,19 @@
+-- Task status history (MySQL)
+-- Author: Yanamala Sanjay
+--
+-- Append-only transitions written in batches by StatusHistoryWriter. The indexes are declared
+-- with the table, so a database where ddl-auto=update already created it is left as it is.
+
+CREATE TABLE IF NOT EXISTS task_status_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    task_id BIGINT NOT NULL,  -- Not a foreign key: history outlives deleted tasks
+    user_id BIGINT NOT NULL,
+    category VARCHAR(100),
+    from_status VARCHAR(50),  -- NULL for the initial transition
+    to_status VARCHAR(50) NOT NULL,
+    source VARCHAR(50) NOT NULL,
+    changed_at TIMESTAMP NOT NULL,
+    INDEX idx_history_task (task_id, changed_at),
+    INDEX idx_history_user (user_id, changed_at),
+    INDEX idx_history_category (category, changed_at)
+);
@@ -0,0 +1,17 @@
+-- Completion-time sketches (MySQL)
+-- Author: Yanamala Sanjay
+--
+-- Compressed HdrHistogram per user/category/priority/day (see CompletionTimeSketchStore).
+-- Existing completions are filled with POST /api/analytics/completion-times/rebuild.
+
+CREATE TABLE IF NOT EXISTS completion_time_sketches (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    category VARCHAR(100) NOT NULL DEFAULT '',
+    priority VARCHAR(50) NOT NULL,
+    bucket_date DATE NOT NULL,
+    sample_count BIGINT NOT NULL,
+    histogram BLOB NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_sketch_bucket UNIQUE (bucket_date, user_id, category, priority)
+);
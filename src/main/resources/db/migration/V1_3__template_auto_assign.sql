@@ -0,0 +1,7 @@
+-- Template auto-assignment (MySQL)
+-- Author: Yanamala Sanjay
+--
+-- Templates with a department rotate their generated tasks to the least-loaded user in it
+-- (see AssignmentService).
+
+ALTER TABLE task_templates ADD COLUMN auto_assign_department VARCHAR(100);
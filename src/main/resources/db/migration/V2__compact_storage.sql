@@ -0,0 +1,85 @@
+-- Compact storage (MySQL)
+-- Author: Yanamala Sanjay
+--
+-- Converts VARCHAR categories and enum names to the categories dictionary and one-byte
+-- enum codes.
+--
+-- Codes (see TaskStatus, TaskPriority, RecurrenceType):
+--   status:          0=TODO 1=IN_PROGRESS 2=COMPLETED 3=OVERDUE
+--   priority:        0=LOW 1=MEDIUM 2=HIGH 3=CRITICAL
+--   recurrence_type: 0=NONE 1=DAILY 2=WEEKLY 3=MONTHLY
+--
+-- task_status_history and completion_time_sketches keep their names: they are keyed by
+-- category name for reporting and are written with plain JDBC.
+--
+-- Only statements MySQL and H2 (MODE=MySQL) both accept, so the migration tests run them:
+-- subqueries instead of UPDATE ... JOIN, and one column change per ALTER TABLE.
+
+-- 1. Category dictionary, filled from both tables
+CREATE TABLE IF NOT EXISTS categories (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+-- UNION compares with the column collation, like the unique key
+INSERT INTO categories (name)
+SELECT category FROM tasks WHERE category IS NOT NULL
+UNION
+SELECT category FROM task_templates WHERE category IS NOT NULL;
+
+-- 2. Tasks: add compact columns, fill them, swap them in
+ALTER TABLE tasks ADD COLUMN (
+    category_id INT NULL,
+    status_code TINYINT NULL,
+    priority_code TINYINT NULL,
+    recurrence_code TINYINT NULL
+);
+
+UPDATE tasks
+SET category_id = (SELECT c.id FROM categories c WHERE c.name = tasks.category),
+    status_code = CASE status
+        WHEN 'TODO' THEN 0 WHEN 'IN_PROGRESS' THEN 1 WHEN 'COMPLETED' THEN 2 WHEN 'OVERDUE' THEN 3 END,
+    priority_code = CASE priority
+        WHEN 'LOW' THEN 0 WHEN 'MEDIUM' THEN 1 WHEN 'HIGH' THEN 2 WHEN 'CRITICAL' THEN 3 END,
+    recurrence_code = CASE recurrence_type
+        WHEN 'NONE' THEN 0 WHEN 'DAILY' THEN 1 WHEN 'WEEKLY' THEN 2 WHEN 'MONTHLY' THEN 3 END;
+
+-- Dropping the old columns also drops the single-column indexes on them
+ALTER TABLE tasks DROP COLUMN status;
+ALTER TABLE tasks DROP COLUMN priority;
+ALTER TABLE tasks DROP COLUMN recurrence_type;
+ALTER TABLE tasks DROP COLUMN category;
+
+ALTER TABLE tasks CHANGE COLUMN status_code status TINYINT NOT NULL;
+ALTER TABLE tasks CHANGE COLUMN priority_code priority TINYINT NOT NULL;
+ALTER TABLE tasks CHANGE COLUMN recurrence_code recurrence_type TINYINT NULL;
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_category FOREIGN KEY (category_id) REFERENCES categories(id);
+
+CREATE INDEX idx_tasks_status ON tasks(status);
+CREATE INDEX idx_tasks_priority ON tasks(priority);
+CREATE INDEX idx_tasks_category ON tasks(category_id);
+
+-- 3. Templates
+ALTER TABLE task_templates ADD COLUMN (
+    category_id INT NULL,
+    priority_code TINYINT NULL,
+    recurrence_code TINYINT NULL
+);
+
+UPDATE task_templates
+SET category_id = (SELECT c.id FROM categories c WHERE c.name = task_templates.category),
+    priority_code = CASE priority
+        WHEN 'LOW' THEN 0 WHEN 'MEDIUM' THEN 1 WHEN 'HIGH' THEN 2 WHEN 'CRITICAL' THEN 3 END,
+    recurrence_code = CASE recurrence_type
+        WHEN 'NONE' THEN 0 WHEN 'DAILY' THEN 1 WHEN 'WEEKLY' THEN 2 WHEN 'MONTHLY' THEN 3 END;
+
+ALTER TABLE task_templates DROP COLUMN priority;
+ALTER TABLE task_templates DROP COLUMN recurrence_type;
+ALTER TABLE task_templates DROP COLUMN category;
+
+ALTER TABLE task_templates CHANGE COLUMN priority_code priority TINYINT NOT NULL;
+ALTER TABLE task_templates CHANGE COLUMN recurrence_code recurrence_type TINYINT NOT NULL;
+ALTER TABLE task_templates ADD CONSTRAINT fk_templates_category FOREIGN KEY (category_id) REFERENCES categories(id);
+
+CREATE INDEX idx_templates_recurrence ON task_templates(recurrence_type);
@@ -0,0 +1,22 @@
+-- Task details (MySQL)
+-- Author: Yanamala Sanjay
+--
+-- Moves tasks.description into task_details so list queries and scheduler scans read
+-- narrow task rows.
+
+CREATE TABLE IF NOT EXISTS task_details (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    description VARCHAR(1000)
+);
+
+-- Reuse the task ID as the details ID; AUTO_INCREMENT continues after the highest one
+INSERT INTO task_details (id, description)
+SELECT id, description FROM tasks WHERE description IS NOT NULL;
+
+ALTER TABLE tasks ADD COLUMN details_id BIGINT NULL;
+
+UPDATE tasks SET details_id = id WHERE description IS NOT NULL;
+
+ALTER TABLE tasks DROP COLUMN description;
+ALTER TABLE tasks ADD CONSTRAINT uk_tasks_details UNIQUE (details_id);
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_details FOREIGN KEY (details_id) REFERENCES task_details(id);
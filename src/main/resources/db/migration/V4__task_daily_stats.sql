@@ -0,0 +1,25 @@
+-- Daily task statistics (MySQL)
+-- Author: Yanamala Sanjay
+--
+-- Adds the task_daily_stats rollup read by the trend and burn-down endpoints, and widens the
+-- status index with completed_at so the rollup reads only open and recently completed tasks.
+-- Existing history is filled with POST /api/analytics/daily-stats/rebuild.
+
+CREATE TABLE IF NOT EXISTS task_daily_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stat_date DATE NOT NULL,
+    user_id BIGINT NOT NULL,
+    category VARCHAR(100) NOT NULL DEFAULT '',
+    created_count INT NOT NULL,
+    completed_count INT NOT NULL,
+    open_count INT NOT NULL,
+    overdue_count INT NOT NULL,
+    CONSTRAINT uk_daily_stats_bucket UNIQUE (stat_date, user_id, category)
+);
+
+-- Department and per-user ranges start from the user's rows
+CREATE INDEX idx_daily_stats_user ON task_daily_stats(user_id, stat_date);
+
+-- Status lookups keep using the leading column
+CREATE INDEX idx_tasks_status_completed ON tasks(status, completed_at);
+DROP INDEX idx_tasks_status ON tasks;
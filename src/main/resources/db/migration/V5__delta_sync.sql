@@ -0,0 +1,34 @@
+-- Delta sync (MySQL)
+-- Author: Yanamala Sanjay
+--
+-- Adds a modification time and change number to tasks and templates, and tombstones for deleted
+-- rows, read by GET /api/sync. Existing rows get their ID as change number, so a client's first
+-- (full) sync covers them; the application continues numbering after the highest one.
+
+ALTER TABLE tasks ADD COLUMN (
+    updated_at TIMESTAMP NULL,
+    change_seq BIGINT NOT NULL DEFAULT 0
+);
+UPDATE tasks SET change_seq = id, updated_at = COALESCE(completed_at, created_at);
+
+ALTER TABLE task_templates ADD COLUMN (
+    updated_at TIMESTAMP NULL,
+    change_seq BIGINT NOT NULL DEFAULT 0
+);
+UPDATE task_templates SET change_seq = id, updated_at = last_generated;
+
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
+);
+
+-- Deltas read a user's rows past a change number; user lookups keep using the leading column
+-- (V5_1 then drops the single-column user indexes where they exist)
+CREATE INDEX idx_tasks_user_change ON tasks(user_id, change_seq);
+CREATE INDEX idx_templates_user_change ON task_templates(user_id, change_seq);
+CREATE INDEX idx_tombstones_user_change ON sync_tombstones(user_id, change_seq);
+CREATE INDEX idx_tombstones_deleted ON sync_tombstones(deleted_at);
@@ -1,5 +1,8 @@
 -- Task Management System Database Schema
 -- Author: Yanamala Sanjay
+--
+-- Reference for the current schema. The application creates and upgrades it with the Flyway
+-- migrations in db/migration; add a new V<n>__*.sql there for every change made here.
 
 -- Create database
 CREATE DATABASE IF NOT EXISTS task_management_db;
@@ -18,23 +21,45 @@ CREATE TABLE IF NOT EXISTS users (
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
 
+-- Category dictionary (tasks and templates store the ID)
+CREATE TABLE IF NOT EXISTS categories (
+    id INT AUTO_INCREMENT PRIMARY KEY,
+    name VARCHAR(100) NOT NULL,
+    CONSTRAINT uk_category_name UNIQUE (name)
+);
+
+-- Enum columns hold one-byte codes (see TaskStatus, TaskPriority, RecurrenceType):
+--   status:          0=TODO 1=IN_PROGRESS 2=COMPLETED 3=OVERDUE
+--   priority:        0=LOW 1=MEDIUM 2=HIGH 3=CRITICAL
+--   recurrence_type: 0=NONE 1=DAILY 2=WEEKLY 3=MONTHLY
+
+-- Task details (large text, loaded only for single-task views and emails)
+CREATE TABLE IF NOT EXISTS task_details (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    description VARCHAR(1000)
+);
+
 -- Tasks table
 CREATE TABLE IF NOT EXISTS tasks (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     user_id BIGINT NOT NULL,
     title VARCHAR(500) NOT NULL,
-    description TEXT,
-    status VARCHAR(50) NOT NULL,
-    priority VARCHAR(50) NOT NULL,
+    details_id BIGINT UNIQUE,
+    status TINYINT NOT NULL,
+    priority TINYINT NOT NULL,
     due_date DATE,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     completed_at TIMESTAMP,
     is_recurring BOOLEAN DEFAULT FALSE,
-    recurrence_type VARCHAR(50),
+    recurrence_type TINYINT,
     template_id BIGINT,
     reminder_sent BOOLEAN DEFAULT FALSE,
-    category VARCHAR(100),
-    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+    category_id INT,
+    updated_at TIMESTAMP NULL,
+    change_seq BIGINT NOT NULL DEFAULT 0,  -- Delta sync position (see ChangeSequence)
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (category_id) REFERENCES categories(id),
+    FOREIGN KEY (details_id) REFERENCES task_details(id)
 );
 
 -- Task templates table (for recurring tasks)
@@ -43,17 +68,69 @@ CREATE TABLE IF NOT EXISTS task_templates (
     user_id BIGINT NOT NULL,
     title VARCHAR(500) NOT NULL,
     description TEXT,
-    priority VARCHAR(50) NOT NULL,
-    recurrence_type VARCHAR(50) NOT NULL,
+    priority TINYINT NOT NULL,
+    recurrence_type TINYINT NOT NULL,
     cron_expression VARCHAR(100),
     schedule_time TIME,
     day_of_week INT,  -- 1=Monday, 7=Sunday
     day_of_month INT,  -- 1-31
     days_to_complete INT DEFAULT 1,
-    category VARCHAR(100),
+    category_id INT,
     is_active BOOLEAN DEFAULT TRUE,
+    auto_assign_department VARCHAR(100),  -- Rotate generated tasks to the least-loaded user
     last_generated TIMESTAMP,
-    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE
+    updated_at TIMESTAMP NULL,
+    change_seq BIGINT NOT NULL DEFAULT 0,
+    FOREIGN KEY (user_id) REFERENCES users(id) ON DELETE CASCADE,
+    FOREIGN KEY (category_id) REFERENCES categories(id)
+);
+
+-- Task status history (append-only, written in batches)
+CREATE TABLE IF NOT EXISTS task_status_history (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    task_id BIGINT NOT NULL,  -- Not a foreign key: history outlives deleted tasks
+    user_id BIGINT NOT NULL,
+    category VARCHAR(100),
+    from_status VARCHAR(50),  -- NULL for the initial transition
+    to_status VARCHAR(50) NOT NULL,
+    source VARCHAR(50) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+-- Completion-time sketches (compressed HdrHistogram per user/category/priority/day)
+CREATE TABLE IF NOT EXISTS completion_time_sketches (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    user_id BIGINT NOT NULL,
+    category VARCHAR(100) NOT NULL DEFAULT '',
+    priority VARCHAR(50) NOT NULL,
+    bucket_date DATE NOT NULL,
+    sample_count BIGINT NOT NULL,
+    histogram BLOB NOT NULL,
+    updated_at TIMESTAMP,
+    CONSTRAINT uk_sketch_bucket UNIQUE (bucket_date, user_id, category, priority)
+);
+
+-- Daily task counters per user/category (rolled up from tasks for trend and burn-down views)
+CREATE TABLE IF NOT EXISTS task_daily_stats (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    stat_date DATE NOT NULL,
+    user_id BIGINT NOT NULL,
+    category VARCHAR(100) NOT NULL DEFAULT '',
+    created_count INT NOT NULL,    -- Created that day
+    completed_count INT NOT NULL,  -- Completed that day
+    open_count INT NOT NULL,       -- Not completed at the end of the day
+    overdue_count INT NOT NULL,    -- Open and past the due date at the end of the day
+    CONSTRAINT uk_daily_stats_bucket UNIQUE (stat_date, user_id, category)
+);
+
+-- Deleted tasks and templates, kept for delta sync clients until the tombstone retention passes
+CREATE TABLE IF NOT EXISTS sync_tombstones (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,  -- TASK or TEMPLATE
+    entity_id BIGINT NOT NULL,
+    user_id BIGINT NOT NULL,           -- Assignee when deleted
+    change_seq BIGINT NOT NULL,
+    deleted_at TIMESTAMP NOT NULL
 );
 
 -- Add foreign key for template_id in tasks table
@@ -62,11 +139,17 @@ ADD CONSTRAINT fk_template
 FOREIGN KEY (template_id) REFERENCES task_templates(id) ON DELETE SET NULL;
 
 -- Indexes for better performance
-CREATE INDEX idx_tasks_user ON tasks(user_id);
-CREATE INDEX idx_tasks_status ON tasks(status);
+CREATE INDEX idx_tasks_user_change ON tasks(user_id, change_seq);
+CREATE INDEX idx_tasks_status_completed ON tasks(status, completed_at);
 CREATE INDEX idx_tasks_due_date ON tasks(due_date);
 CREATE INDEX idx_tasks_priority ON tasks(priority);
-CREATE INDEX idx_tasks_category ON tasks(category);
-CREATE INDEX idx_templates_user ON task_templates(user_id);
+CREATE INDEX idx_tasks_category ON tasks(category_id);
+CREATE INDEX idx_templates_user_change ON task_templates(user_id, change_seq);
 CREATE INDEX idx_templates_recurrence ON task_templates(recurrence_type);
 CREATE INDEX idx_templates_active ON task_templates(is_active);
+CREATE INDEX idx_history_task ON task_status_history(task_id, changed_at);
+CREATE INDEX idx_history_user ON task_status_history(user_id, changed_at);
+CREATE INDEX idx_history_category ON task_status_history(category, changed_at);
+CREATE INDEX idx_daily_stats_user ON task_daily_stats(user_id, stat_date);
+CREATE INDEX idx_tombstones_user_change ON sync_tombstones(user_id, change_seq);
+CREATE INDEX idx_tombstones_deleted ON sync_tombstones(deleted_at);
@@ -0,0 +1,149 @@
+package com.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanagement.dto.TaskField;
+import com.taskmanagement.dto.TaskResponse;
+import com.taskmanagement.model.RecurrenceType;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * In-process benchmark comparing JSON, CBOR and Smile for representative task lists
+ * Uses the same ObjectMappers the HTTP converters use, so results reflect what clients receive.
+ * Lists are generated from a fixed seed to keep runs comparable. Run through
+ * SerializationBenchmarkTest; it is not part of the application.
+ *
+ * @author Yanamala Sanjay
+ */
+@Slf4j
+public class SerializationBenchmark {
+
+    private static final String[] CATEGORIES = {"Material Data Update", "Daily Reporting", "Documentation", "Safety Audit"};
+    private static final String[] NAMES = {"Sanjay Yanamala", "Rahul Kumar", "Priya Sharma", "Anita Desai"};
+
+    private final Map<String, ObjectMapper> mappers = new LinkedHashMap<>();
+
+    public SerializationBenchmark(ObjectMapper jsonMapper,
+                                  MappingJackson2CborHttpMessageConverter cborConverter,
+                                  MappingJackson2SmileHttpMessageConverter smileConverter) {
+        mappers.put(MediaType.APPLICATION_JSON_VALUE, jsonMapper);
+        mappers.put(MediaType.APPLICATION_CBOR_VALUE, cborConverter.getObjectMapper());
+        mappers.put("application/x-jackson-smile", smileConverter.getObjectMapper());
+    }
+
+    /**
+     * Run the benchmark for summary and full views of a list with the given number of rows
+     */
+    public List<SerializationBenchmarkResult> run(int rows, int iterations) throws Exception {
+        List<SerializationBenchmarkResult> results = new ArrayList<>();
+        List<TaskResponse> full = sampleTasks(rows);
+
+        results.addAll(measure("full", full, iterations));
+        results.addAll(measure("summary", toSummaries(full), iterations));
+
+        log.info("Serialization benchmark completed for {} rows x {} iterations", rows, iterations);
+        return results;
+    }
+
+    private List<SerializationBenchmarkResult> measure(String view, List<?> payload, int iterations) throws Exception {
+        List<SerializationBenchmarkResult> results = new ArrayList<>();
+        Integer jsonBytes = null;
+
+        for (Map.Entry<String, ObjectMapper> entry : mappers.entrySet()) {
+            ObjectMapper mapper = entry.getValue();
+            JavaType listType = mapper.getTypeFactory().constructCollectionType(List.class, Map.class);
+
+            byte[] encoded = mapper.writeValueAsBytes(payload);
+            for (int i = 0; i < Math.max(iterations / 5, 1); i++) {  // Warm-up
+                mapper.readValue(mapper.writeValueAsBytes(payload), listType);
+            }
+
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                encoded = mapper.writeValueAsBytes(payload);
+            }
+            double serializeMicros = (System.nanoTime() - start) / 1000.0 / iterations;
+
+            start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                mapper.readValue(encoded, listType);
+            }
+            double deserializeMicros = (System.nanoTime() - start) / 1000.0 / iterations;
+
+            if (jsonBytes == null) {
+                jsonBytes = encoded.length;
+            }
+            results.add(SerializationBenchmarkResult.builder()
+                    .mediaType(entry.getKey())
+                    .view(view)
+                    .rows(payload.size())
+                    .payloadBytes(encoded.length)
+                    .sizeVsJson(Math.round(encoded.length * 1000.0 / jsonBytes) / 1000.0)
+                    .serializeMicros(Math.round(serializeMicros * 10) / 10.0)
+                    .deserializeMicros(Math.round(deserializeMicros * 10) / 10.0)
+                    .build());
+        }
+        return results;
+    }
+
+    private List<TaskResponse> sampleTasks(int rows) {
+        Random random = new Random(42);
+        LocalDate today = LocalDate.of(2024, 6, 3);
+        List<TaskResponse> tasks = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i++) {
+            LocalDate dueDate = today.plusDays(random.nextInt(30) - 10);
+            TaskStatus status = TaskStatus.values()[random.nextInt(TaskStatus.values().length)];
+            boolean recurring = random.nextInt(3) == 0;
+            String name = NAMES[random.nextInt(NAMES.length)];
+
+            tasks.add(TaskResponse.builder()
+                    .taskId(10_000L + i)
+                    .title("Update material master data batch " + i)
+                    .description("Verify plant stock levels and update the material master records in SAP " +
+                            "for the assigned storage locations before the daily cut-off.")
+                    .status(status)
+                    .priority(TaskPriority.values()[random.nextInt(TaskPriority.values().length)])
+                    .dueDate(dueDate)
+                    .daysUntilDeadline(dueDate.toEpochDay() - today.toEpochDay())
+                    .isOverdue(dueDate.isBefore(today) && status != TaskStatus.COMPLETED)
+                    .assignedToName(name)
+                    .assignedToEmail(name.toLowerCase().replace(' ', '.') + "@example.com")
+                    .createdAt(LocalDateTime.of(today.minusDays(random.nextInt(20)), LocalTime.of(6, 0)))
+                    .completedAt(status == TaskStatus.COMPLETED ? LocalDateTime.of(today, LocalTime.of(15, 30)) : null)
+                    .isRecurring(recurring)
+                    .recurrenceType(recurring ? RecurrenceType.DAILY : RecurrenceType.NONE)
+                    .category(CATEGORIES[random.nextInt(CATEGORIES.length)])
+                    .build());
+        }
+        return tasks;
+    }
+
+    private List<Map<String, Object>> toSummaries(List<TaskResponse> tasks) {
+        List<Map<String, Object>> summaries = new ArrayList<>(tasks.size());
+        for (TaskResponse task : tasks) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put(TaskField.TASK_ID.getJsonName(), task.getTaskId());
+            row.put(TaskField.TITLE.getJsonName(), task.getTitle());
+            row.put(TaskField.STATUS.getJsonName(), task.getStatus());
+            row.put(TaskField.PRIORITY.getJsonName(), task.getPriority());
+            row.put(TaskField.DUE_DATE.getJsonName(), task.getDueDate());
+            summaries.add(row);
+        }
+        return summaries;
+    }
+}
@@ -0,0 +1,24 @@
+package com.taskmanagement.benchmark;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One format/view combination of the serialization benchmark
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SerializationBenchmarkResult {
+
+    private String mediaType;
+    private String view;               // "summary" or "full"
+    private int rows;
+    private int payloadBytes;
+    private double sizeVsJson;         // payloadBytes / JSON payloadBytes
+    private double serializeMicros;    // Average time to write the whole list
+    private double deserializeMicros;  // Average time to read the whole list back
+}
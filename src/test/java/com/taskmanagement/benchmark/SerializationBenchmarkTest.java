@@ -0,0 +1,45 @@
+package com.taskmanagement.benchmark;
+
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.taskmanagement.config.BinaryContentConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs the serialization benchmark with the application's mappers and prints the results
+ * Sizes are checked; timings are only reported. Use -Dbenchmark.rows and -Dbenchmark.iterations
+ * for longer runs.
+ */
+class SerializationBenchmarkTest {
+
+    @Test
+    void binaryFormatsAreSmallerThanJson() throws Exception {
+        BinaryContentConfig config = new BinaryContentConfig();
+        SerializationBenchmark benchmark = new SerializationBenchmark(
+                builder().build(),
+                config.cborHttpMessageConverter(builder()),
+                config.smileHttpMessageConverter(builder()));
+
+        List<SerializationBenchmarkResult> results = benchmark.run(
+                Integer.getInteger("benchmark.rows", 1000), Integer.getInteger("benchmark.iterations", 20));
+
+        results.forEach(result -> System.out.printf("%-28s %-8s %8d bytes  %5.3f x JSON  write %9.1f us  read %9.1f us%n",
+                result.getMediaType(), result.getView(), result.getPayloadBytes(), result.getSizeVsJson(),
+                result.getSerializeMicros(), result.getDeserializeMicros()));
+        assertThat(results).hasSize(6);
+        assertThat(results).filteredOn(result -> !result.getMediaType().equals("application/json"))
+                .allSatisfy(result -> assertThat(result.getSizeVsJson()).isLessThan(1.0));
+    }
+
+    // Mirrors the spring.jackson.* settings in application.properties
+    private static Jackson2ObjectMapperBuilder builder() {
+        return Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("UTC"));
+    }
+}
@@ -0,0 +1,81 @@
+package com.taskmanagement.config;
+
+import org.h2.Driver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final SimpleDriverDataSource target =
+            new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:guard;DB_CLOSE_DELAY=-1", "sa", "");
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void closingAConnectionReturnsItsPermitOnce() throws Exception {
+        ConnectionLimitingDataSource guard = new ConnectionLimitingDataSource(target, 2, 100);
+
+        Connection connection = guard.getConnection();
+        assertThat(guard.getAvailablePermits()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+        assertThat(guard.getAvailablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    void callersBeyondTheLimitTimeOut() throws Exception {
+        ConnectionLimitingDataSource guard = new ConnectionLimitingDataSource(target, 1, 50);
+
+        try (Connection held = guard.getConnection()) {
+            assertThatThrownBy(guard::getConnection).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(held.isValid(1)).isTrue();
+        }
+        assertThat(guard.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void waitingCallerGetsTheConnectionWhenOneIsClosed() throws Exception {
+        ConnectionLimitingDataSource guard = new ConnectionLimitingDataSource(target, 1, 5000);
+        Connection first = guard.getConnection();
+
+        Future<Boolean> waiting = executor.submit(() -> {
+            try (Connection connection = guard.getConnection()) {
+                return connection.isValid(1);
+            }
+        });
+        while (guard.getQueueLength() == 0) {
+            Thread.sleep(5);
+        }
+        first.close();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(guard.getQueueLength()).isZero();
+        assertThat(guard.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void failedConnectReleasesThePermit() {
+        SimpleDriverDataSource broken =
+                new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+        ConnectionLimitingDataSource guard = new ConnectionLimitingDataSource(broken, 1, 50);
+
+        assertThatThrownBy(guard::getConnection).isNotInstanceOf(SQLTransientConnectionException.class);
+        assertThat(guard.getAvailablePermits()).isEqualTo(1);
+    }
+}
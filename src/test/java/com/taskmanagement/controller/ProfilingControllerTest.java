@@ -0,0 +1,62 @@
+package com.taskmanagement.controller;
+
+import com.taskmanagement.config.SecurityConfig;
+import com.taskmanagement.service.ProfilingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ProfilingController.class,
+        properties = {"taskmanagement.jfr.enabled=true", "taskmanagement.admin.password=secret"})
+@Import(SecurityConfig.class)
+class ProfilingControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ProfilingService profilingService;
+
+    @Test
+    void anonymousCallersCannotStartRecordings() throws Exception {
+        mockMvc.perform(post("/api/admin/profiling/recordings").param("profile", "profile"))
+                .andExpect(status().isUnauthorized());
+
+        verify(profilingService, never()).start(anyString(), any(), any());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() throws Exception {
+        mockMvc.perform(get("/api/admin/profiling/recordings").header(HttpHeaders.AUTHORIZATION, basic("wrong")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void adminCanListRecordings() throws Exception {
+        when(profilingService.getRecordings()).thenReturn(List.of());
+
+        mockMvc.perform(get("/api/admin/profiling/recordings").header(HttpHeaders.AUTHORIZATION, basic("secret")))
+                .andExpect(status().isOk());
+    }
+
+    private static String basic(String password) {
+        return "Basic " + Base64.getEncoder().encodeToString(("admin:" + password).getBytes(StandardCharsets.UTF_8));
+    }
+}
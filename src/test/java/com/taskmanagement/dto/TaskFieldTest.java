@@ -0,0 +1,40 @@
+package com.taskmanagement.dto;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TaskFieldTest {
+
+    @Test
+    void missingOrBlankFieldsSelectTheSummary() {
+        assertThat(TaskField.parse(null)).isEqualTo(TaskField.SUMMARY);
+        assertThat(TaskField.parse("  ")).isEqualTo(TaskField.SUMMARY);
+        assertThat(TaskField.parse(" , ,")).isEqualTo(TaskField.SUMMARY);
+    }
+
+    @Test
+    void individualFieldsAreTrimmedAndMatchedByJsonName() {
+        assertThat(TaskField.parse("taskId, assignedToName ,updatedAt"))
+                .containsExactly(TaskField.TASK_ID, TaskField.ASSIGNED_TO_NAME, TaskField.UPDATED_AT);
+    }
+
+    @Test
+    void presetsCombineWithIndividualFields() {
+        assertThat(TaskField.parse("summary,category"))
+                .containsAll(TaskField.SUMMARY)
+                .contains(TaskField.CATEGORY)
+                .hasSize(TaskField.SUMMARY.size() + 1);
+        assertThat(TaskField.parse("full,title")).isEqualTo(TaskField.FULL);
+    }
+
+    @Test
+    void unknownOrWronglyCasedNamesAreRejected() {
+        assertThatThrownBy(() -> TaskField.parse("taskId,secret"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown field: secret");
+        assertThatThrownBy(() -> TaskField.parse("TASK_ID"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,199 @@
+package com.taskmanagement.event;
+
+import com.taskmanagement.dto.EventConsumerStats;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DomainEventPipelineTest {
+
+    private static final long OFFER_TIMEOUT_MILLIS = 200;
+
+    private DomainEventPipeline pipeline;
+
+    @AfterEach
+    void stop() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void fullBufferInsideTransactionDropsEventAfterTimeoutWithoutRunningConsumerInline()
+            throws InterruptedException {
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingConsumer consumer = new RecordingConsumer() {
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                super.onEvents(events);
+                workerBusy.countDown();
+                await(release);
+            }
+        };
+        pipeline = start(consumer, 1);
+
+        pipeline.publish(event(1L));  // Taken by the worker, which then blocks
+        assertThat(workerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+
+        TransactionSynchronizationManager.initSynchronization();
+        pipeline.publish(event(2L));  // Fills the one-slot buffer
+        pipeline.publish(event(3L));  // Overflows
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        long started = System.nanoTime();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(waitedMillis).isGreaterThanOrEqualTo(OFFER_TIMEOUT_MILLIS);
+        assertThat(consumer.taskIds()).containsExactly(1L);
+        release.countDown();
+        consumer.awaitEvents(2);
+
+        EventConsumerStats stats = pipeline.getStats().get(0);
+        assertThat(stats.getPublished()).isEqualTo(3);
+        assertThat(stats.getDropped()).isEqualTo(1);
+        assertThat(consumer.taskIds()).containsExactly(1L, 2L);
+        assertThat(consumer.threadOf(2L)).isEqualTo("event-recording");
+    }
+
+    @Test
+    void publisherWaitsForSpaceWhileTheConsumerCatchesUp() throws InterruptedException {
+        CountDownLatch workerBusy = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingConsumer consumer = new RecordingConsumer() {
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                super.onEvents(events);
+                workerBusy.countDown();
+                await(release);
+            }
+        };
+        pipeline = start(consumer, 1);
+
+        pipeline.publish(event(1L));
+        assertThat(workerBusy.await(5, TimeUnit.SECONDS)).isTrue();
+        pipeline.publish(event(2L));
+        Thread releaser = new Thread(() -> {
+            sleep(50);
+            release.countDown();
+        });
+        releaser.start();
+        pipeline.publish(event(3L));  // Blocks until the worker takes event 2
+        releaser.join();
+
+        consumer.awaitEvents(3);
+        assertThat(pipeline.getStats().get(0).getDropped()).isZero();
+        assertThat(consumer.threadOf(3L)).isEqualTo("event-recording");
+    }
+
+    @Test
+    void eventsInsideTransactionWaitForCommit() throws InterruptedException {
+        RecordingConsumer consumer = new RecordingConsumer();
+        pipeline = start(consumer, 16);
+
+        TransactionSynchronizationManager.initSynchronization();
+        pipeline.publish(event(1L));
+        pipeline.publish(event(2L));
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(consumer.taskIds()).isEmpty();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        consumer.awaitEvents(2);
+        assertThat(consumer.taskIds()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void eventsOfRolledBackTransactionAreDiscarded() throws InterruptedException {
+        RecordingConsumer consumer = new RecordingConsumer();
+        pipeline = start(consumer, 16);
+
+        TransactionSynchronizationManager.initSynchronization();
+        pipeline.publish(event(1L));
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        pipeline.publish(event(2L));
+        consumer.awaitEvents(1);
+        assertThat(consumer.taskIds()).containsExactly(2L);
+    }
+
+    private static DomainEventPipeline start(DomainEventConsumer consumer, int bufferSize) {
+        DomainEventPipeline pipeline = new DomainEventPipeline(List.of(consumer), bufferSize, 64, OFFER_TIMEOUT_MILLIS);
+        pipeline.start();
+        return pipeline;
+    }
+
+    private static TaskCreated event(Long taskId) {
+        return TaskCreated.builder().taskId(taskId).userId(1L).occurredAt(LocalDateTime.now()).build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingConsumer implements DomainEventConsumer {
+
+        private final List<Long> taskIds = new CopyOnWriteArrayList<>();
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String getName() {
+            return "recording";
+        }
+
+        @Override
+        public void onEvents(List<DomainEvent> events) {
+            for (DomainEvent event : events) {
+                taskIds.add(((TaskCreated) event).getTaskId());
+                threads.add(Thread.currentThread().getName());
+            }
+        }
+
+        List<Long> taskIds() {
+            return new ArrayList<>(taskIds);
+        }
+
+        String threadOf(Long taskId) {
+            return threads.get(taskIds.indexOf(taskId));
+        }
+
+        void awaitEvents(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (taskIds.size() < count && System.nanoTime() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            assertThat(taskIds).hasSize(count);
+        }
+    }
+}
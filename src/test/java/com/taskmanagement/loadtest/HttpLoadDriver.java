@@ -0,0 +1,160 @@
+package com.taskmanagement.loadtest;
+
+import lombok.Value;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntFunction;
+
+/**
+ * Closed-loop HTTP load driver
+ * Each simulated client sends its next request as soon as the previous one completes,
+ * cycling through the given paths (or asking a request factory for each request, see
+ * LoadTestSuite). Latencies are recorded in an HdrHistogram.
+ *
+ * Run from the test classpath without starting the application (see scripts/compare-thread-modes.sh):
+ * java -cp target/test-classes:$(cat target/test-classpath.txt) com.taskmanagement.loadtest.HttpLoadDriver \
+ *      --base-url=http://localhost:8081 --clients=1000 --duration=60 --path=/api/tasks/user/1/pending
+ *
+ * @author Yanamala Sanjay
+ */
+public class HttpLoadDriver {
+
+    private final IntFunction<HttpRequest> requests;
+    private final int clients;
+    private final Duration duration;
+    private final Duration warmUp;
+
+    public HttpLoadDriver(String baseUrl, List<String> paths, int clients, Duration duration, Duration warmUp) {
+        this(getRequests(baseUrl, paths), clients, duration, warmUp);
+    }
+
+    /**
+     * @param requests request to send, given the client's sequence number (must be thread-safe)
+     */
+    public HttpLoadDriver(IntFunction<HttpRequest> requests, int clients, Duration duration, Duration warmUp) {
+        this.requests = requests;
+        this.clients = clients;
+        this.duration = duration;
+        this.warmUp = warmUp;
+    }
+
+    private static IntFunction<HttpRequest> getRequests(String baseUrl, List<String> paths) {
+        List<HttpRequest> requests = new ArrayList<>();
+        for (String path : paths) {
+            requests.add(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                    .timeout(Duration.ofSeconds(60))
+                    .GET()
+                    .build());
+        }
+        return sequence -> requests.get(sequence % requests.size());
+    }
+
+    /**
+     * Outcome of one load run
+     */
+    @Value
+    public static class Result {
+        int clients;
+        long requests;
+        long errors;
+        double throughput;
+        Histogram latencyMicros;
+
+        public String summary() {
+            return String.format("clients=%d requests=%d errors=%d throughput=%.1f req/s " +
+                            "p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms",
+                    clients, requests, errors, throughput,
+                    latencyMicros.getValueAtPercentile(50) / 1000.0,
+                    latencyMicros.getValueAtPercentile(90) / 1000.0,
+                    latencyMicros.getValueAtPercentile(99) / 1000.0,
+                    latencyMicros.getMaxValue() / 1000.0);
+        }
+    }
+
+    public Result run() throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        Recorder recorder = new Recorder(3);
+        AtomicLong completed = new AtomicLong();
+        AtomicLong errors = new AtomicLong();
+        long warmUpEnd = System.nanoTime() + warmUp.toNanos();
+        long deadline = warmUpEnd + duration.toNanos();
+        CountDownLatch finished = new CountDownLatch(clients);
+
+        for (int i = 0; i < clients; i++) {
+            sendNext(client, i, recorder, completed, errors, warmUpEnd, deadline, finished);
+        }
+
+        finished.await(duration.plus(warmUp).toSeconds() + 120, TimeUnit.SECONDS);
+        Histogram histogram = recorder.getIntervalHistogram();
+        return new Result(clients, completed.get(), errors.get(),
+                completed.get() / (double) duration.toSeconds(), histogram);
+    }
+
+    private void sendNext(HttpClient client, int sequence, Recorder recorder,
+                          AtomicLong completed, AtomicLong errors, long warmUpEnd, long deadline,
+                          CountDownLatch finished) {
+        long start = System.nanoTime();
+        if (start >= deadline) {
+            finished.countDown();
+            return;
+        }
+
+        client.sendAsync(requests.apply(sequence), HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, failure) -> {
+                    long end = System.nanoTime();
+                    if (start >= warmUpEnd && end <= deadline) {
+                        if (failure != null || response.statusCode() >= 400) {
+                            errors.incrementAndGet();
+                        } else {
+                            recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(end - start));
+                            completed.incrementAndGet();
+                        }
+                    }
+                    sendNext(client, sequence + 1, recorder, completed, errors, warmUpEnd, deadline, finished);
+                });
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        String baseUrl = "http://localhost:8081";
+        List<String> paths = new ArrayList<>();
+        int clients = 100;
+        long durationSeconds = 30;
+        long warmUpSeconds = 5;
+
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--base-url=")) {
+                baseUrl = value;
+            } else if (arg.startsWith("--path=")) {
+                paths.add(value);
+            } else if (arg.startsWith("--clients=")) {
+                clients = Integer.parseInt(value);
+            } else if (arg.startsWith("--duration=")) {
+                durationSeconds = Long.parseLong(value);
+            } else if (arg.startsWith("--warm-up=")) {
+                warmUpSeconds = Long.parseLong(value);
+            }
+        }
+        if (paths.isEmpty()) {
+            paths.add("/api/tasks/user/1/pending");
+        }
+
+        Result result = new HttpLoadDriver(baseUrl, paths, clients,
+                Duration.ofSeconds(durationSeconds), Duration.ofSeconds(warmUpSeconds)).run();
+        System.out.println(result.summary());
+    }
+}
@@ -0,0 +1,57 @@
+package com.taskmanagement.loadtest;
+
+import com.taskmanagement.scheduler.DigestSchedulerService;
+import com.taskmanagement.scheduler.ReminderSchedulerService;
+import com.taskmanagement.scheduler.TaskSchedulerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Runs scheduled jobs on request, so LoadTestSuite can overlap them with HTTP traffic
+ * Test sources only, and only with the loadtest profile (taskmanagement.loadtest.enabled=true).
+ *
+ * @author Yanamala Sanjay
+ */
+@RestController
+@RequestMapping("/api/admin/jobs")
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "taskmanagement.loadtest.enabled", havingValue = "true")
+public class LoadTestJobController {
+
+    private final TaskSchedulerService taskSchedulerService;
+    private final ReminderSchedulerService reminderSchedulerService;
+    private final DigestSchedulerService digestSchedulerService;
+
+    /**
+     * Run one of LoadTestSuite's jobs now
+     * POST /api/admin/jobs/{job}/run
+     */
+    @PostMapping("/{job}/run")
+    public ResponseEntity<Map<String, Object>> runJob(@PathVariable String job) {
+        Runnable runnable = jobs().get(job);
+        if (runnable == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        long started = System.nanoTime();
+        runnable.run();
+        return ResponseEntity.ok(Map.of("job", job, "durationMs", (System.nanoTime() - started) / 1_000_000));
+    }
+
+    private Map<String, Runnable> jobs() {
+        return Map.of(
+                "generate-daily-tasks", taskSchedulerService::generateDailyTasks,
+                "generate-weekly-tasks", taskSchedulerService::generateWeeklyTasks,
+                "generate-monthly-tasks", taskSchedulerService::generateMonthlyTasks,
+                "update-overdue-tasks", taskSchedulerService::updateOverdueTasks,
+                "send-task-reminders", reminderSchedulerService::sendTaskReminders,
+                "send-daily-digests", digestSchedulerService::sendDailyDigests);
+    }
+}
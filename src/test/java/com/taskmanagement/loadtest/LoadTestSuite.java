@@ -0,0 +1,394 @@
+package com.taskmanagement.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.Value;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntFunction;
+
+/**
+ * End-to-end load test: scripted HTTP scenarios against a running instance
+ * Demonstrates:
+ * - Scenarios shaped like real traffic: skewed dashboard polling, bulk status updates, creation
+ *   bursts, and all three together while the scheduled jobs run
+ * - Pass/fail gates: absolute thresholds per scenario, and optionally a regression check against
+ *   the report of an earlier run
+ *
+ * Meant for an instance started with the loadtest profile (OrganisationGenerator data, SmtpSink);
+ * --users and --tasks must match what was generated. Each scenario runs HttpLoadDriver for the
+ * given duration after its warm-up. The report lists throughput, p50/p90/p99/max latency and error
+ * rate per scenario, scheduled job durations and the emails received by the SMTP sink. Exits with
+ * status 1 if any threshold or regression check fails.
+ *
+ * Run with scripts/load-test.sh, or from the test classpath:
+ * java -cp target/test-classes:$(cat target/test-classpath.txt) com.taskmanagement.loadtest.LoadTestSuite \
+ *      --base-url=http://localhost:8085 --users=5000 --tasks=1000000 --admin-password=... \
+ *      --report=target/loadtest-report.json
+ * The admin password (taskmanagement.admin.password of the instance) is needed to run the jobs.
+ *
+ * @author Yanamala Sanjay
+ */
+public class LoadTestSuite {
+
+    static final List<String> SCENARIOS = List.of("dashboard-polling", "bulk-status-updates", "creation-burst", "mixed-with-jobs");
+
+    private static final List<String> JOBS = List.of("generate-daily-tasks", "generate-weekly-tasks",
+            "generate-monthly-tasks", "update-overdue-tasks", "send-task-reminders", "send-daily-digests");
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private final String baseUrl;
+    private final int users;
+    private final long tasks;
+    private final int clients;
+    private final Duration duration;
+    private final Duration warmUp;
+    private final String adminAuthorization;
+    // Dashboards are opened most by the busiest users, as in OrganisationGenerator
+    private final WeightedSampler hotUsers;
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(10)).build();
+
+    public LoadTestSuite(String baseUrl, int users, long tasks, int clients, Duration duration, Duration warmUp,
+                         String adminPassword) {
+        this.baseUrl = baseUrl;
+        this.users = users;
+        this.tasks = tasks;
+        this.clients = clients;
+        this.duration = duration;
+        this.warmUp = warmUp;
+        this.adminAuthorization = "Basic " + Base64.getEncoder()
+                .encodeToString(("admin:" + adminPassword).getBytes(StandardCharsets.UTF_8));
+        this.hotUsers = WeightedSampler.zipf(users, 0.7);
+    }
+
+    /**
+     * Outcome of one scenario
+     */
+    @Value
+    public static class ScenarioResult {
+        String scenario;
+        int clients;
+        long requests;
+        long errors;
+        double errorRate;
+        double throughput;
+        double p50Ms;
+        double p90Ms;
+        double p99Ms;
+        double maxMs;
+        List<String> violations;
+    }
+
+    /**
+     * Scheduled job runs during mixed-with-jobs
+     */
+    @Value
+    public static class JobResult {
+        String job;
+        int runs;
+        int failures;
+        long maxMs;
+        long totalMs;
+    }
+
+    /**
+     * Whole run, as written to --report
+     */
+    @Value
+    public static class Report {
+        String baseUrl;
+        int users;
+        long tasks;
+        long durationSeconds;
+        List<ScenarioResult> scenarios;
+        List<JobResult> jobs;
+        Double emails;
+        boolean passed;
+    }
+
+    /**
+     * Run one scenario; for mixed-with-jobs, the scheduled jobs are run back to back meanwhile
+     */
+    public ScenarioResult run(String scenario, Map<String, JobResult> jobs) throws InterruptedException {
+        IntFunction<HttpRequest> requests = switch (scenario) {
+            case "dashboard-polling" -> sequence -> dashboardRequest();
+            case "bulk-status-updates" -> sequence -> statusUpdateRequest();
+            case "creation-burst" -> sequence -> createRequest();
+            case "mixed-with-jobs" -> sequence -> mixedRequest();
+            default -> throw new IllegalArgumentException("Unknown scenario: " + scenario);
+        };
+
+        Thread jobRunner = null;
+        if (scenario.equals("mixed-with-jobs")) {
+            long deadline = System.nanoTime() + warmUp.plus(duration).toNanos();
+            jobRunner = new Thread(() -> runJobs(deadline, jobs), "loadtest-jobs");
+            jobRunner.start();
+        }
+
+        HttpLoadDriver.Result result = new HttpLoadDriver(requests, clients, duration, warmUp).run();
+        if (jobRunner != null) {
+            jobRunner.join();
+        }
+
+        long attempts = result.getRequests() + result.getErrors();
+        return new ScenarioResult(scenario, clients, result.getRequests(), result.getErrors(),
+                attempts == 0 ? 0 : result.getErrors() / (double) attempts, result.getThroughput(),
+                result.getLatencyMicros().getValueAtPercentile(50) / 1000.0,
+                result.getLatencyMicros().getValueAtPercentile(90) / 1000.0,
+                result.getLatencyMicros().getValueAtPercentile(99) / 1000.0,
+                result.getLatencyMicros().getMaxValue() / 1000.0,
+                new ArrayList<>());
+    }
+
+    /**
+     * Own pending list and stats most of the time, the global lists now and then
+     */
+    private HttpRequest dashboardRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long userId = hotUsers.next(random) + 1;
+        int roll = random.nextInt(100);
+        String path = roll < 50 ? "/api/tasks/user/" + userId + "/pending?fields=summary"
+                : roll < 85 ? "/api/tasks/user/" + userId + "/stats"
+                : roll < 95 ? "/api/tasks/due-today?fields=summary"
+                : "/api/tasks/overdue?fields=summary";
+        return request(path).GET().build();
+    }
+
+    private HttpRequest statusUpdateRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long taskId = 1 + random.nextLong(tasks);
+        int roll = random.nextInt(10);
+        String status = roll < 5 ? "COMPLETED" : roll < 9 ? "IN_PROGRESS" : "TODO";
+        return request("/api/tasks/" + taskId + "/status?status=" + status)
+                .PUT(HttpRequest.BodyPublishers.noBody())
+                .build();
+    }
+
+    /**
+     * A new task for a user, or auto-assigned within a department one time in five
+     */
+    private HttpRequest createRequest() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String assignee = random.nextInt(5) == 0
+                ? "\"autoAssign\":true,\"department\":\""
+                  + OrganisationGenerator.DEPARTMENTS.get(random.nextInt(OrganisationGenerator.DEPARTMENTS.size())) + "\""
+                : "\"userId\":" + (1 + random.nextInt(users));
+        String body = "{" + assignee
+                + ",\"title\":\"Load test task\",\"description\":\"Created by LoadTestSuite\""
+                + ",\"priority\":\"" + (random.nextInt(4) == 0 ? "HIGH" : "MEDIUM") + "\""
+                + ",\"dueDate\":\"" + LocalDate.now().plusDays(1 + random.nextInt(14)) + "\""
+                + ",\"category\":\"" + OrganisationGenerator.CATEGORIES.get(random.nextInt(OrganisationGenerator.CATEGORIES.size())) + "\"}";
+        return request("/api/tasks")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpRequest mixedRequest() {
+        int roll = ThreadLocalRandom.current().nextInt(100);
+        return roll < 75 ? dashboardRequest() : roll < 95 ? statusUpdateRequest() : createRequest();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+    }
+
+    private void runJobs(long deadline, Map<String, JobResult> results) {
+        for (int i = 0; System.nanoTime() < deadline; i++) {
+            String job = JOBS.get(i % JOBS.size());
+            long started = System.nanoTime();
+            boolean failed;
+            try {
+                HttpResponse<Void> response = client.send(
+                        request("/api/admin/jobs/" + job + "/run").timeout(Duration.ofMinutes(10))
+                                .header("Authorization", adminAuthorization)
+                                .POST(HttpRequest.BodyPublishers.noBody()).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                failed = response.statusCode() >= 400;
+            } catch (IOException e) {
+                failed = true;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            long elapsedMs = (System.nanoTime() - started) / 1_000_000;
+            results.merge(job, new JobResult(job, 1, failed ? 1 : 0, elapsedMs, elapsedMs),
+                    (a, b) -> new JobResult(job, a.getRuns() + 1, a.getFailures() + b.getFailures(),
+                            Math.max(a.getMaxMs(), b.getMaxMs()), a.getTotalMs() + b.getTotalMs()));
+        }
+    }
+
+    /**
+     * Messages received by the SMTP sink, or null if the instance has none
+     */
+    private Double emailsReceived(ObjectMapper objectMapper) {
+        try {
+            HttpResponse<String> response = client.send(
+                    request("/actuator/metrics/taskmanagement.loadtest.smtp.messages").GET().build(),
+                    HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                return null;
+            }
+            return objectMapper.readTree(response.body()).path("measurements").path(0).path("value").asDouble();
+        } catch (IOException e) {
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    /**
+     * Check a result against its thresholds (scenario.p99-ms, .min-throughput, .max-error-rate)
+     */
+    static void checkThresholds(ScenarioResult result, Properties thresholds) {
+        String prefix = result.getScenario() + ".";
+        String p99 = thresholds.getProperty(prefix + "p99-ms");
+        if (p99 != null && result.getP99Ms() > Double.parseDouble(p99)) {
+            result.getViolations().add(String.format("p99 %.1f ms above %s ms", result.getP99Ms(), p99));
+        }
+        String throughput = thresholds.getProperty(prefix + "min-throughput");
+        if (throughput != null && result.getThroughput() < Double.parseDouble(throughput)) {
+            result.getViolations().add(String.format("throughput %.1f req/s below %s req/s", result.getThroughput(), throughput));
+        }
+        String errorRate = thresholds.getProperty(prefix + "max-error-rate");
+        if (errorRate != null && result.getErrorRate() > Double.parseDouble(errorRate)) {
+            result.getViolations().add(String.format("error rate %.4f above %s", result.getErrorRate(), errorRate));
+        }
+    }
+
+    /**
+     * Compare a result with the same scenario of an earlier report, allowing the given relative tolerance
+     */
+    static void checkRegression(ScenarioResult result, JsonNode baseline, double tolerance) {
+        for (JsonNode previous : baseline.path("scenarios")) {
+            if (!previous.path("scenario").asText().equals(result.getScenario())) {
+                continue;
+            }
+            double p99 = previous.path("p99Ms").asDouble();
+            if (p99 > 0 && result.getP99Ms() > p99 * (1 + tolerance)) {
+                result.getViolations().add(String.format("p99 %.1f ms regressed from %.1f ms", result.getP99Ms(), p99));
+            }
+            double throughput = previous.path("throughput").asDouble();
+            if (result.getThroughput() < throughput * (1 - tolerance)) {
+                result.getViolations().add(String.format("throughput %.1f req/s regressed from %.1f req/s",
+                        result.getThroughput(), throughput));
+            }
+        }
+    }
+
+    private static Properties loadThresholds(String file) throws IOException {
+        Properties thresholds = new Properties();
+        try (InputStream in = file != null ? Files.newInputStream(Path.of(file))
+                : LoadTestSuite.class.getResourceAsStream("/loadtest-thresholds.properties")) {
+            if (in != null) {
+                thresholds.load(in);
+            }
+        }
+        return thresholds;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String baseUrl = "http://localhost:8085";
+        int users = 5000;
+        long tasks = 1_000_000;
+        int clients = 100;
+        long durationSeconds = 60;
+        long warmUpSeconds = 10;
+        List<String> scenarios = new ArrayList<>();
+        String thresholdsFile = null;
+        String baselineFile = null;
+        double tolerance = 0.2;
+        String reportFile = null;
+        String adminPassword = "";
+
+        for (String arg : args) {
+            String value = arg.substring(arg.indexOf('=') + 1);
+            if (arg.startsWith("--base-url=")) {
+                baseUrl = value;
+            } else if (arg.startsWith("--users=")) {
+                users = Integer.parseInt(value);
+            } else if (arg.startsWith("--tasks=")) {
+                tasks = Long.parseLong(value);
+            } else if (arg.startsWith("--clients=")) {
+                clients = Integer.parseInt(value);
+            } else if (arg.startsWith("--duration=")) {
+                durationSeconds = Long.parseLong(value);
+            } else if (arg.startsWith("--warm-up=")) {
+                warmUpSeconds = Long.parseLong(value);
+            } else if (arg.startsWith("--scenario=")) {
+                scenarios.add(value);
+            } else if (arg.startsWith("--thresholds=")) {
+                thresholdsFile = value;
+            } else if (arg.startsWith("--baseline=")) {
+                baselineFile = value;
+            } else if (arg.startsWith("--tolerance=")) {
+                tolerance = Double.parseDouble(value);
+            } else if (arg.startsWith("--report=")) {
+                reportFile = value;
+            } else if (arg.startsWith("--admin-password=")) {
+                adminPassword = value;
+            }
+        }
+        if (scenarios.isEmpty()) {
+            scenarios.addAll(SCENARIOS);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Properties thresholds = loadThresholds(thresholdsFile);
+        JsonNode baseline = baselineFile != null ? objectMapper.readTree(Path.of(baselineFile).toFile()) : null;
+        LoadTestSuite suite = new LoadTestSuite(baseUrl, users, tasks, clients,
+                Duration.ofSeconds(durationSeconds), Duration.ofSeconds(warmUpSeconds), adminPassword);
+
+        List<ScenarioResult> results = new ArrayList<>();
+        Map<String, JobResult> jobs = new LinkedHashMap<>();
+        boolean passed = true;
+        for (String scenario : scenarios) {
+            ScenarioResult result = suite.run(scenario, jobs);
+            checkThresholds(result, thresholds);
+            if (baseline != null) {
+                checkRegression(result, baseline, tolerance);
+            }
+            passed &= result.getViolations().isEmpty();
+            results.add(result);
+            System.out.printf("%-20s clients=%d requests=%d errors=%d throughput=%.1f req/s " +
+                            "p50=%.1fms p90=%.1fms p99=%.1fms max=%.1fms %s%n",
+                    scenario, result.getClients(), result.getRequests(), result.getErrors(), result.getThroughput(),
+                    result.getP50Ms(), result.getP90Ms(), result.getP99Ms(), result.getMaxMs(),
+                    result.getViolations().isEmpty() ? "PASS" : "FAIL " + result.getViolations());
+        }
+        for (JobResult job : jobs.values()) {
+            System.out.printf("job %-22s runs=%d failures=%d mean=%dms max=%dms%n",
+                    job.getJob(), job.getRuns(), job.getFailures(), job.getTotalMs() / job.getRuns(), job.getMaxMs());
+            passed &= job.getFailures() == 0;
+        }
+        Double emails = suite.emailsReceived(objectMapper);
+        System.out.println("emails received by SMTP sink: " + (emails != null ? String.format("%.0f", emails) : "-"));
+
+        if (reportFile != null) {
+            objectMapper.writeValue(Path.of(reportFile).toFile(), new Report(baseUrl, users, tasks, durationSeconds,
+                    results, new ArrayList<>(jobs.values()), emails, passed));
+        }
+        System.out.println(passed ? "PASSED" : "FAILED");
+        System.exit(passed ? 0 : 1);
+    }
+}
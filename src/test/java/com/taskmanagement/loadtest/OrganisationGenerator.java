@@ -0,0 +1,291 @@
+package com.taskmanagement.loadtest;
+
+import com.taskmanagement.model.RecurrenceType;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Synthetic organisation for load tests
+ * Demonstrates:
+ * - Skewed, seeded distributions: department sizes, templates and tasks per user and categories
+ *   follow Zipf-like weights, so a few hot users own far more work than the median user
+ * - JDBC batch inserts with explicit IDs, so the load driver can address any generated row
+ *
+ * Generates users, recurring templates and a year of task history into an empty database before
+ * the application reports ready (warm-up then runs over the generated data). Task status follows
+ * the due date: long-past tasks are almost all completed, recent ones partly overdue, future ones
+ * mostly open. Due dates and completion times are log-normal. The same seed gives the same data.
+ * Intended for the in-memory H2 database of the loadtest profile (identity restarts are H2 syntax).
+ *
+ * @author Yanamala Sanjay
+ */
+@Component
+@ConditionalOnProperty(name = "taskmanagement.loadtest.enabled", havingValue = "true")
+@Slf4j
+public class OrganisationGenerator implements ApplicationRunner {
+
+    // Largest first; sizes follow the Zipf weights
+    static final List<String> DEPARTMENTS = List.of("Engineering", "Operations", "Quality", "Procurement",
+            "Logistics", "Finance", "Sales", "Maintenance", "Human Resources", "IT Support", "Legal", "Facilities");
+
+    static final List<String> CATEGORIES = List.of("Daily Reporting", "Material Data Update", "Documentation",
+            "Inspection", "Customer Follow-up", "Planning", "Compliance", "Training");
+
+    private static final String INSERT_USER_SQL =
+            "INSERT INTO users (id, name, email, password, department, designation, employee_id, " +
+            "email_digest_enabled, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TEMPLATE_SQL =
+            "INSERT INTO task_templates (id, user_id, title, description, priority, recurrence_type, day_of_week, " +
+            "day_of_month, days_to_complete, category_id, is_active, auto_assign_department, last_generated) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_DETAILS_SQL = "INSERT INTO task_details (id, description) VALUES (?, ?)";
+
+    private static final String INSERT_TASK_SQL =
+            "INSERT INTO tasks (id, user_id, title, details_id, status, priority, due_date, created_at, completed_at, " +
+            "is_recurring, recurrence_type, template_id, reminder_sent, category_id) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final RecurrenceType[] RECURRENCES = {RecurrenceType.DAILY, RecurrenceType.WEEKLY, RecurrenceType.MONTHLY};
+    private static final WeightedSampler RECURRENCE_WEIGHTS = new WeightedSampler(50, 35, 15);
+    private static final TaskPriority[] PRIORITIES = TaskPriority.values();
+    private static final WeightedSampler PRIORITY_WEIGHTS = new WeightedSampler(20, 50, 22, 8);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int users;
+    private final int templates;
+    private final int tasks;
+    private final int historyDays;
+    private final long seed;
+    private final int batchSize;
+
+    public OrganisationGenerator(JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 Clock clock,
+                                 @Value("${taskmanagement.loadtest.users:5000}") int users,
+                                 @Value("${taskmanagement.loadtest.templates:40000}") int templates,
+                                 @Value("${taskmanagement.loadtest.tasks:1000000}") int tasks,
+                                 @Value("${taskmanagement.loadtest.history-days:365}") int historyDays,
+                                 @Value("${taskmanagement.loadtest.seed:42}") long seed,
+                                 @Value("${taskmanagement.loadtest.batch-size:5000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.clock = clock;
+        this.users = users;
+        this.templates = templates;
+        this.tasks = tasks;
+        this.historyDays = historyDays;
+        this.seed = seed;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class);
+        if (existing != null && existing > 0) {
+            log.info("Load-test data not generated: {} users already present", existing);
+            return;
+        }
+
+        long started = System.nanoTime();
+        Random random = new Random(seed);
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        int[] categoryIds = insertCategories();
+        int[] departments = insertUsers(random, now);
+        // User activity: user 1 is the busiest; templates and tasks are drawn by the same weights
+        WeightedSampler owners = WeightedSampler.zipf(users, 0.7);
+        Templates generated = insertTemplates(random, now, owners, departments, categoryIds);
+        long details = insertTasks(random, now, owners, generated, categoryIds);
+
+        log.info("Generated {} users, {} templates, {} tasks ({} with descriptions) in {} ms",
+                users, templates, tasks, details, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private int[] insertCategories() {
+        int[] ids = new int[CATEGORIES.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = i + 1;
+            jdbcTemplate.update("INSERT INTO categories (id, name) VALUES (?, ?)", ids[i], CATEGORIES.get(i));
+        }
+        restartIdentity("categories", ids.length);
+        return ids;
+    }
+
+    /**
+     * Users and their departments (index into DEPARTMENTS, by user ID - 1)
+     */
+    private int[] insertUsers(Random random, LocalDateTime now) {
+        WeightedSampler departmentSizes = WeightedSampler.zipf(DEPARTMENTS.size(), 0.9);
+        int[] departments = new int[users];
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        for (int i = 0; i < users; i++) {
+            long id = i + 1;
+            departments[i] = departmentSizes.next(random);
+            batch.add(new Object[]{id, "User " + id, "user" + id + "@loadtest.example.com", "x",
+                    DEPARTMENTS.get(departments[i]), random.nextInt(10) == 0 ? "Manager" : "Engineer",
+                    "LT" + id, random.nextInt(10) < 7, Timestamp.valueOf(now.minusDays(random.nextInt(historyDays + 1)))});
+            flushIfFull(INSERT_USER_SQL, batch, i == users - 1);
+        }
+        restartIdentity("users", users);
+        return departments;
+    }
+
+    /**
+     * Templates, stored contiguously per owner so tasks can pick one of their owner's templates
+     */
+    private Templates insertTemplates(Random random, LocalDateTime now, WeightedSampler owners,
+                                      int[] departments, int[] categoryIds) {
+        WeightedSampler categories = WeightedSampler.zipf(categoryIds.length, 1.0);
+        int[] perUser = new int[users];
+        for (int i = 0; i < templates; i++) {
+            perUser[owners.next(random)]++;
+        }
+
+        Templates generated = new Templates(new int[users], perUser, new RecurrenceType[templates]);
+        Timestamp yesterday = Timestamp.valueOf(now.minusDays(1));
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        int id = 0;
+        for (int user = 0; user < users; user++) {
+            generated.first()[user] = id + 1;
+            for (int n = 0; n < perUser[user]; n++) {
+                id++;
+                RecurrenceType recurrence = RECURRENCES[RECURRENCE_WEIGHTS.next(random)];
+                generated.recurrence()[id - 1] = recurrence;
+                int daysToComplete = switch (recurrence) {
+                    case WEEKLY -> 1 + random.nextInt(5);
+                    case MONTHLY -> 3 + random.nextInt(8);
+                    default -> 1;
+                };
+                boolean autoAssign = random.nextInt(20) == 0;
+                batch.add(new Object[]{id, user + 1, recurrence + " duty " + id, "Generated template " + id,
+                        PRIORITIES[PRIORITY_WEIGHTS.next(random)].getCode(), recurrence.getCode(),
+                        1 + random.nextInt(5), 1 + random.nextInt(28), daysToComplete,
+                        categoryIds[categories.next(random)], random.nextInt(10) != 0,
+                        autoAssign ? DEPARTMENTS.get(departments[user]) : null, yesterday});
+                flushIfFull(INSERT_TEMPLATE_SQL, batch, id == templates);
+            }
+        }
+        restartIdentity("task_templates", templates);
+        return generated;
+    }
+
+    /**
+     * Tasks created over the last history-days; returns the number given a description
+     */
+    private long insertTasks(Random random, LocalDateTime now, WeightedSampler owners,
+                             Templates templates, int[] categoryIds) {
+        WeightedSampler categories = WeightedSampler.zipf(categoryIds.length, 1.0);
+        LocalDate today = now.toLocalDate();
+        List<Object[]> details = new ArrayList<>(batchSize);
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        long detailsId = 0;
+
+        for (long id = 1; id <= tasks; id++) {
+            int user = owners.next(random);
+            LocalDateTime createdAt = now.minusSeconds((long) (random.nextDouble() * historyDays * 86_400));
+
+            Integer templateId = null;
+            RecurrenceType recurrence = RecurrenceType.NONE;
+            if (templates.perUser()[user] > 0 && random.nextInt(100) < 60) {
+                templateId = templates.first()[user] + random.nextInt(templates.perUser()[user]);
+                recurrence = templates.recurrence()[templateId - 1];
+            }
+            LocalDate dueDate = createdAt.toLocalDate().plusDays(recurrence == RecurrenceType.DAILY
+                    ? 1 : Math.min(60, Math.round(logNormal(random, 3, 0.8))));
+
+            TaskStatus status = status(random, dueDate, today);
+            LocalDateTime completedAt = null;
+            if (status == TaskStatus.COMPLETED) {
+                completedAt = createdAt.plusMinutes(Math.round(logNormal(random, 30, 1.0) * 60));
+                if (completedAt.isAfter(now)) {
+                    completedAt = now;
+                }
+            }
+
+            Long taskDetails = null;
+            if (templateId == null && random.nextInt(10) < 4) {
+                taskDetails = ++detailsId;
+                details.add(new Object[]{taskDetails, "Generated task " + id + ": follow up and report back"});
+            }
+
+            batch.add(new Object[]{id, user + 1, templateId != null ? recurrence + " duty " + templateId : "Task " + id,
+                    taskDetails, status.getCode(), PRIORITIES[PRIORITY_WEIGHTS.next(random)].getCode(),
+                    Date.valueOf(dueDate), Timestamp.valueOf(createdAt),
+                    completedAt != null ? Timestamp.valueOf(completedAt) : null,
+                    templateId != null, recurrence.getCode(), templateId,
+                    status == TaskStatus.COMPLETED || status == TaskStatus.OVERDUE,
+                    categoryIds[categories.next(random)]});
+
+            if (batch.size() == batchSize || id == tasks) {
+                // Details first: tasks reference them
+                transactionTemplate.executeWithoutResult(tx -> {
+                    if (!details.isEmpty()) {
+                        jdbcTemplate.batchUpdate(INSERT_DETAILS_SQL, details);
+                    }
+                    jdbcTemplate.batchUpdate(INSERT_TASK_SQL, batch);
+                });
+                details.clear();
+                batch.clear();
+            }
+        }
+        restartIdentity("task_details", detailsId);
+        restartIdentity("tasks", tasks);
+        return detailsId;
+    }
+
+    private static TaskStatus status(Random random, LocalDate dueDate, LocalDate today) {
+        int roll = random.nextInt(100);
+        if (dueDate.isBefore(today.minusDays(7))) {
+            return roll < 98 ? TaskStatus.COMPLETED : TaskStatus.OVERDUE;
+        }
+        if (dueDate.isBefore(today)) {
+            return roll < 60 ? TaskStatus.COMPLETED : TaskStatus.OVERDUE;
+        }
+        return roll < 55 ? TaskStatus.TODO : roll < 90 ? TaskStatus.IN_PROGRESS : TaskStatus.COMPLETED;
+    }
+
+    /**
+     * Log-normal value with the given median
+     */
+    private static double logNormal(Random random, double median, double sigma) {
+        return Math.exp(Math.log(median) + sigma * random.nextGaussian());
+    }
+
+    private void flushIfFull(String sql, List<Object[]> batch, boolean last) {
+        if (batch.size() == batchSize || (last && !batch.isEmpty())) {
+            transactionTemplate.executeWithoutResult(tx -> jdbcTemplate.batchUpdate(sql, batch));
+            batch.clear();
+        }
+    }
+
+    private void restartIdentity(String table, long lastId) {
+        jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+    }
+
+    /**
+     * Template IDs of each user (first[u] .. first[u] + perUser[u] - 1) and each template's recurrence
+     */
+    private record Templates(int[] first, int[] perUser, RecurrenceType[] recurrence) {
+    }
+}
@@ -0,0 +1,114 @@
+package com.taskmanagement.loadtest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Local SMTP stand-in for load tests
+ * Accepts every message on the loopback interface at spring.mail.port and discards it, so the
+ * mail path (MIME rendering, SMTP round trips) costs what it would against a real relay while
+ * nothing leaves the machine. Received messages are counted in taskmanagement.loadtest.smtp.messages.
+ * Speaks just enough SMTP for JavaMail without authentication or STARTTLS.
+ *
+ * @author Yanamala Sanjay
+ */
+@Component
+@ConditionalOnProperty(name = "taskmanagement.loadtest.enabled", havingValue = "true")
+@Slf4j
+public class SmtpSink {
+
+    private final int port;
+    private final Counter messages;
+    private final ExecutorService sessions = Executors.newCachedThreadPool(new CustomizableThreadFactory("smtp-sink-"));
+    private ServerSocket serverSocket;
+
+    public SmtpSink(MeterRegistry meterRegistry, @Value("${spring.mail.port:2525}") int port) {
+        this.port = port;
+        this.messages = Counter.builder("taskmanagement.loadtest.smtp.messages")
+                .description("Messages received by the load-test SMTP sink")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() throws IOException {
+        serverSocket = new ServerSocket(port, 100, InetAddress.getLoopbackAddress());
+        sessions.execute(this::accept);
+        log.info("SMTP sink listening on port {}", port);
+    }
+
+    @PreDestroy
+    public void stop() throws IOException {
+        serverSocket.close();
+        sessions.shutdownNow();
+    }
+
+    private void accept() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                sessions.execute(() -> session(socket));
+            } catch (SocketException e) {
+                return;  // Closed by stop()
+            } catch (IOException e) {
+                log.warn("SMTP sink accept failed", e);
+            }
+        }
+    }
+
+    private void session(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(socket.getOutputStream(), false, StandardCharsets.US_ASCII)) {
+            reply(out, "220 localhost SMTP sink");
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.length() < 4 ? line : line.substring(0, 4).toUpperCase(Locale.ROOT);
+                switch (command) {
+                    case "EHLO", "HELO" -> reply(out, "250 localhost");
+                    case "MAIL", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        while ((line = in.readLine()) != null && !line.equals(".")) {
+                            // Discard the message
+                        }
+                        messages.increment();
+                        reply(out, "250 OK");
+                    }
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException e) {
+            log.debug("SMTP sink session ended: {}", e.getMessage());
+        }
+    }
+
+    private static void reply(PrintWriter out, String line) {
+        out.print(line);
+        out.print("\r\n");
+        out.flush();
+    }
+}
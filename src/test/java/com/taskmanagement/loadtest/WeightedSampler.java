@@ -0,0 +1,43 @@
+package com.taskmanagement.loadtest;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Draws indexes 0..n-1 with fixed relative weights
+ * Used for the skewed distributions of the synthetic organisation: a few departments, users and
+ * categories account for most of the activity.
+ */
+final class WeightedSampler {
+
+    private final double[] cumulative;
+
+    WeightedSampler(double... weights) {
+        cumulative = new double[weights.length];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            total += weights[i];
+            cumulative[i] = total;
+        }
+        for (int i = 0; i < cumulative.length; i++) {
+            cumulative[i] /= total;
+        }
+    }
+
+    /**
+     * Zipf-like weights: index i has weight 1 / (i + 1)^exponent
+     */
+    static WeightedSampler zipf(int n, double exponent) {
+        double[] weights = new double[n];
+        for (int i = 0; i < n; i++) {
+            weights[i] = 1 / Math.pow(i + 1, exponent);
+        }
+        return new WeightedSampler(weights);
+    }
+
+    int next(Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        index = index >= 0 ? index + 1 : -index - 1;
+        return Math.min(index, cumulative.length - 1);
+    }
+}
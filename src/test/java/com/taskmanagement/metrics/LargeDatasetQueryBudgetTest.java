@@ -0,0 +1,11 @@
+package com.taskmanagement.metrics;
+
+import org.springframework.test.context.TestPropertySource;
+
+// 100 tasks and 10 templates per user: 20 times the lists of SmallDatasetQueryBudgetTest
+@TestPropertySource(properties = {
+        "spring.flyway.placeholders.users=60",
+        "spring.flyway.placeholders.tasks=6000",
+        "spring.flyway.placeholders.templates=600"})
+class LargeDatasetQueryBudgetTest extends QueryBudgetTest {
+}
@@ -0,0 +1,188 @@
+package com.taskmanagement.metrics;
+
+import com.jayway.jsonpath.JsonPath;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.UserRepository;
+import com.taskmanagement.scheduler.DigestSchedulerService;
+import com.taskmanagement.scheduler.ReminderSchedulerService;
+import com.taskmanagement.scheduler.TaskSchedulerService;
+import com.taskmanagement.service.DailyStatsRollup;
+import com.taskmanagement.service.EmailService;
+import com.taskmanagement.service.SyncService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Every task, template, department, analytics and sync route and every scheduled job against its
+ * statement budget (see QueryBudgets)
+ * Routes go through MockMvc; jobs are called on their beans, as the scheduler would.
+ * Subclasses run it at different dataset sizes, so a budget that holds at one size but grows
+ * with list length fails at the other.
+ *
+ * @author Yanamala Sanjay
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("query-budget")
+abstract class QueryBudgetTest {
+
+    private static final String TASK = "{\"title\":\"Budget check\",\"description\":\"d\",\"userId\":1," +
+            "\"priority\":\"HIGH\",\"dueDate\":\"2030-01-01\",\"category\":\"Documentation\"}";
+    private static final String TEMPLATE = "{\"title\":\"Budget template\",\"userId\":1,\"priority\":\"LOW\"," +
+            "\"recurrenceType\":\"DAILY\",\"daysToComplete\":1}";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EmailService emailService;
+
+    @Autowired
+    private TaskSchedulerService taskSchedulerService;
+
+    @Autowired
+    private ReminderSchedulerService reminderSchedulerService;
+
+    @Autowired
+    private DigestSchedulerService digestSchedulerService;
+
+    @Autowired
+    private DailyStatsRollup dailyStatsRollup;
+
+    @Autowired
+    private SyncService syncService;
+
+    @MockBean
+    private JavaMailSender mailSender;
+
+    @Test
+    void taskRoutes() throws Exception {
+        assertWithinBudget(post("/api/tasks").contentType(MediaType.APPLICATION_JSON).content(TASK));
+        assertWithinBudget(get("/api/tasks/1"));
+        assertWithinBudget(get("/api/tasks").param("ids", "1,2,5,999999,2"));
+        assertWithinBudget(get("/api/tasks/user/1"));
+        assertWithinBudget(get("/api/tasks/user/1/pending"));
+        assertWithinBudget(get("/api/tasks/overdue"));
+        assertWithinBudget(get("/api/tasks/due-today"));
+        assertWithinBudget(get("/api/tasks/user/1/category/Documentation"));
+        assertWithinBudget(put("/api/tasks/1/status").param("status", "COMPLETED"));
+        assertWithinBudget(put("/api/tasks/2").contentType(MediaType.APPLICATION_JSON).content(TASK));
+        assertWithinBudget(delete("/api/tasks/3"));
+        assertWithinBudget(get("/api/tasks/user/1/stats"));
+    }
+
+    @Test
+    void templateRoutes() throws Exception {
+        assertWithinBudget(post("/api/templates").contentType(MediaType.APPLICATION_JSON).content(TEMPLATE));
+        assertWithinBudget(get("/api/templates/1"));
+        assertWithinBudget(get("/api/templates/user/1"));
+        assertWithinBudget(get("/api/templates/active"));
+        assertWithinBudget(put("/api/templates/2").contentType(MediaType.APPLICATION_JSON).content(TEMPLATE));
+        assertWithinBudget(post("/api/templates/2/toggle"));
+        assertWithinBudget(delete("/api/templates/3"));
+    }
+
+    @Test
+    void departmentSummaryIsOneQueryThenCached() throws Exception {
+        assertWithinBudget(get("/api/departments/Engineering/summary"));
+        assertWithinBudget(get("/api/departments/Engineering/summary"));
+    }
+
+    @Test
+    void analyticsRoutes() throws Exception {
+        LocalDate to = LocalDate.now();
+        String from = to.minusDays(30).toString();
+        assertWithinBudget(get("/api/analytics/trend").param("from", from).param("to", to.toString())
+                .param("department", "Engineering").param("period", "week"));
+        assertWithinBudget(get("/api/analytics/burn-down").param("from", from).param("to", to.toString())
+                .param("department", "Engineering"));
+    }
+
+    @Test
+    void fullAndDeltaSync() throws Exception {
+        MvcResult full = assertWithinBudget(get("/api/sync").param("userId", "4"));
+        String token = JsonPath.read(full.getResponse().getContentAsString(), "$.token");
+        mockMvc.perform(delete("/api/tasks/4")).andExpect(status().is2xxSuccessful());
+
+        assertWithinBudget(get("/api/sync").param("userId", "4").param("since", token));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"generate-daily-tasks", "generate-weekly-tasks", "generate-monthly-tasks",
+            "update-overdue-tasks", "send-task-reminders", "send-daily-digests", "send-manager-digests",
+            "roll-up-daily-stats", "purge-sync-tombstones"})
+    void scheduledJobs(String job) {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            jobs().get(job).run();
+            int rows = (int) meterRegistry.get("taskmanagement.job.last.rows").tag("job", job).gauge().value();
+            QueryBudgets.assertWithinBudget("job:" + job, scope.getCount(), rows);
+        }
+    }
+
+    private Map<String, Runnable> jobs() {
+        return Map.of(
+                "generate-daily-tasks", taskSchedulerService::generateDailyTasks,
+                "generate-weekly-tasks", taskSchedulerService::generateWeeklyTasks,
+                "generate-monthly-tasks", taskSchedulerService::generateMonthlyTasks,
+                "update-overdue-tasks", taskSchedulerService::updateOverdueTasks,
+                "send-task-reminders", reminderSchedulerService::sendTaskReminders,
+                "send-daily-digests", digestSchedulerService::sendDailyDigests,
+                "send-manager-digests", digestSchedulerService::sendManagerDigests,
+                "roll-up-daily-stats", dailyStatsRollup::rollUp,
+                "purge-sync-tombstones", syncService::purgeTombstones);
+    }
+
+    @Test
+    void dailyDigestEmail() {
+        User user = userRepository.findById(1L).orElseThrow();
+        // The target, not the @Async proxy, so the digest is built on this thread
+        EmailService target = AopTestUtils.getUltimateTargetObject(emailService);
+
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            target.sendDailyTaskDigest(user);
+            QueryBudgets.assertWithinBudget("email:daily-digest", scope.getCount(), 1);
+        }
+        verify(mailSender).send(any(SimpleMailMessage.class));
+    }
+
+    private MvcResult assertWithinBudget(MockHttpServletRequestBuilder request) throws Exception {
+        try (StatementCounter.Scope scope = StatementCounter.open()) {
+            MvcResult result = mockMvc.perform(request).andExpect(status().is2xxSuccessful()).andReturn();
+            String pattern = (String) result.getRequest().getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            QueryBudgets.assertWithinBudget(result.getRequest().getMethod() + " " + pattern, scope.getCount(), 1);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.taskmanagement.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL statement budgets per route and per scheduled job
+ * Demonstrates:
+ * - Catching N+1 regressions by statement count instead of timing
+ * - Budgets that are constant per request, or linear in rows processed for batch jobs
+ *
+ * Routes are keyed by HTTP method and mapping pattern, jobs by "job:" plus the job name.
+ * QueryBudgetTest checks every route and job against these at more than one dataset size.
+ *
+ * @author Yanamala Sanjay
+ */
+final class QueryBudgets {
+
+    private static final Map<String, Budget> BUDGETS = new LinkedHashMap<>();
+
+    static {
+        // TaskController - list endpoints are a single projection query at any list size
+        BUDGETS.put("POST /api/tasks", Budget.of(3));
+        BUDGETS.put("GET /api/tasks/{id}", Budget.of(1));
+        // Multi-get: tasks, assignees and templates, one query each per chunk of 100 IDs
+        BUDGETS.put("GET /api/tasks", Budget.of(3));
+        BUDGETS.put("GET /api/tasks/user/{userId}", Budget.of(1));
+        BUDGETS.put("GET /api/tasks/user/{userId}/pending", Budget.of(1));
+        BUDGETS.put("GET /api/tasks/overdue", Budget.of(1));
+        BUDGETS.put("GET /api/tasks/due-today", Budget.of(1));
+        BUDGETS.put("GET /api/tasks/user/{userId}/category/{category}", Budget.of(1));
+        BUDGETS.put("PUT /api/tasks/{id}/status", Budget.of(2));
+        // Full update and delete also write the task_details row; delete also leaves a sync tombstone
+        BUDGETS.put("PUT /api/tasks/{id}", Budget.of(3));
+        // Delete loads the task without its details; the cascade then reads the details row by key
+        BUDGETS.put("DELETE /api/tasks/{id}", Budget.of(5));
+        BUDGETS.put("GET /api/tasks/user/{userId}/stats", Budget.of(1));
+
+        // TaskTemplateController
+        BUDGETS.put("POST /api/templates", Budget.of(3));
+        BUDGETS.put("GET /api/templates/{id}", Budget.of(1));
+        BUDGETS.put("GET /api/templates/user/{userId}", Budget.of(1));
+        BUDGETS.put("GET /api/templates/active", Budget.of(1));
+        BUDGETS.put("PUT /api/templates/{id}", Budget.of(3));
+        BUDGETS.put("POST /api/templates/{id}/toggle", Budget.of(2));
+        BUDGETS.put("DELETE /api/templates/{id}", Budget.of(4));
+
+        // DepartmentController - one grouped query, or none when cached
+        BUDGETS.put("GET /api/departments/{department}/summary", Budget.of(1));
+
+        // AnalyticsController - one grouped query over the daily buckets, whatever the range
+        BUDGETS.put("GET /api/analytics/trend", Budget.of(1));
+        BUDGETS.put("GET /api/analytics/burn-down", Budget.of(1));
+
+        // SyncController - tasks and templates past the token, plus tombstones on a delta
+        BUDGETS.put("GET /api/sync", Budget.of(3));
+
+        // Scheduled jobs - per row: task insert, template update, and a load query on auto-assign
+        BUDGETS.put("job:generate-daily-tasks", Budget.of(1, 3));
+        BUDGETS.put("job:generate-weekly-tasks", Budget.of(1, 3));
+        BUDGETS.put("job:generate-monthly-tasks", Budget.of(1, 3));
+        BUDGETS.put("job:update-overdue-tasks", Budget.of(2, 1));
+        BUDGETS.put("job:send-task-reminders", Budget.of(2, 1));
+        BUDGETS.put("job:send-daily-digests", Budget.of(1, 1));
+        // Managers query, then at most one summary query per department
+        BUDGETS.put("job:send-manager-digests", Budget.of(1, 1));
+        // Resume point on the first run; the rollup itself reads and writes with JdbcTemplate
+        BUDGETS.put("job:roll-up-daily-stats", Budget.of(1));
+        BUDGETS.put("job:purge-sync-tombstones", Budget.of(1));
+
+        // Per-user digest, built on an async thread (or inline when the executor is saturated)
+        BUDGETS.put("email:daily-digest", Budget.of(1));
+    }
+
+    private QueryBudgets() {
+    }
+
+    /**
+     * Assert a scope's statement count is within its budget
+     *
+     * @param units rows processed, used by budgets that grow with the batch size
+     */
+    static void assertWithinBudget(String scope, int statements, int units) {
+        Budget budget = BUDGETS.get(scope);
+        assertThat(budget).as("budget for %s", scope).isNotNull();
+        assertThat(statements)
+                .as("SQL statements for %s (%d units)", scope, units)
+                .isLessThanOrEqualTo(budget.limit(units));
+    }
+
+    /**
+     * Allowed statements: base + perUnit * units
+     */
+    private record Budget(int base, int perUnit) {
+
+        static Budget of(int base) {
+            return new Budget(base, 0);
+        }
+
+        static Budget of(int base, int perUnit) {
+            return new Budget(base, perUnit);
+        }
+
+        int limit(int units) {
+            return base + perUnit * units;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.taskmanagement.metrics;
+
+import org.springframework.test.context.TestPropertySource;
+
+// 5 tasks and 1 template per user
+@TestPropertySource(properties = {
+        "spring.flyway.placeholders.users=60",
+        "spring.flyway.placeholders.tasks=300",
+        "spring.flyway.placeholders.templates=60"})
+class SmallDatasetQueryBudgetTest extends QueryBudgetTest {
+}
@@ -0,0 +1,51 @@
+package com.taskmanagement.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate statement inspector counting SQL statements per scope
+ * A scope is opened around a request or a job run on the current thread. Installed by the
+ * query-budget tests through hibernate.session_factory.statement_inspector.
+ *
+ * Statements issued through JdbcTemplate (write-behind buffers) bypass Hibernate and are not counted.
+ *
+ * @author Yanamala Sanjay
+ */
+public class StatementCounter implements StatementInspector {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final ThreadLocal<Scope> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Scope scope = CURRENT.get();
+        if (scope != null) {
+            scope.count++;
+        }
+        return sql;
+    }
+
+    /**
+     * Start counting statements on the current thread
+     */
+    public static Scope open() {
+        Scope scope = new Scope();
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    public static final class Scope implements AutoCloseable {
+
+        private int count;
+
+        public int getCount() {
+            return count;
+        }
+
+        @Override
+        public void close() {
+            CURRENT.remove();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CodedEnumConverterTest {
+
+    private final TaskStatusConverter converter = new TaskStatusConverter();
+
+    @Test
+    void everyConstantRoundTripsThroughItsCode() {
+        for (TaskStatus status : TaskStatus.values()) {
+            Byte code = converter.convertToDatabaseColumn(status);
+            assertThat(code).isEqualTo((byte) status.getCode());
+            assertThat(converter.convertToEntityAttribute(code)).isEqualTo(status);
+        }
+        assertThat(converter.convertToDatabaseColumn(null)).isNull();
+        assertThat(converter.convertToEntityAttribute(null)).isNull();
+    }
+
+    @Test
+    void unknownCodeIsRejected() {
+        assertThatThrownBy(() -> converter.convertToEntityAttribute((byte) 99))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown TaskStatus code: 99");
+    }
+
+    @Test
+    void duplicateCodesAreRejectedWhenTheConverterIsCreated() {
+        assertThatThrownBy(DuplicateCodeConverter::new)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Duplicate code 1 in Shade");
+    }
+
+    @Test
+    void codesAreTruncatedToOneByteConsistently() {
+        // 257 and 1 share a byte, which the duplicate check must catch
+        assertThatThrownBy(WrappingCodeConverter::new).isInstanceOf(IllegalStateException.class);
+    }
+
+    private enum Shade {
+        LIGHT, DARK
+    }
+
+    private static class DuplicateCodeConverter extends CodedEnumConverter<Shade> {
+        DuplicateCodeConverter() {
+            super(Shade.class, shade -> 1);
+        }
+    }
+
+    private static class WrappingCodeConverter extends CodedEnumConverter<Shade> {
+        WrappingCodeConverter() {
+            super(Shade.class, shade -> shade == Shade.LIGHT ? 1 : 257);
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.taskmanagement.repository;
+
+import com.taskmanagement.config.ConnectionLimitingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryDictionaryTest {
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+    private CategoryDictionary dictionary;
+
+    @BeforeEach
+    void createTable() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE categories (id INT AUTO_INCREMENT PRIMARY KEY, name VARCHAR(100) NOT NULL UNIQUE)");
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Daily Reporting')");
+        transactionManager = new DataSourceTransactionManager(database);
+        dictionary = new CategoryDictionary(database);
+        dictionary.load();
+    }
+
+    @AfterEach
+    void shutdown() {
+        database.shutdown();
+    }
+
+    @Test
+    void knownNamesResolveBothWays() {
+        Integer id = dictionary.idOf("Daily Reporting");
+
+        assertThat(dictionary.nameOf(id)).isEqualTo("Daily Reporting");
+        assertThat(dictionary.find("Daily Reporting")).contains(id);
+    }
+
+    @Test
+    void newCategoryRollsBackWithTheCaller() {
+        TransactionTemplate caller = new TransactionTemplate(transactionManager);
+        Integer rolledBack = caller.execute(status -> {
+            status.setRollbackOnly();
+            return dictionary.idOf("Safety Audit");
+        });
+
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM categories WHERE id = ?", Integer.class, rolledBack)).isZero();
+
+        Integer id = dictionary.idOf("Safety Audit");
+
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM categories WHERE id = ?", String.class, id))
+                .isEqualTo("Safety Audit");
+    }
+
+    @Test
+    void missesInsideATransactionUseTheCallersConnection() {
+        ConnectionLimitingDataSource oneConnection = new ConnectionLimitingDataSource(database, 1, 100);
+        CategoryDictionary guarded = new CategoryDictionary(oneConnection);
+        TransactionTemplate caller = new TransactionTemplate(new DataSourceTransactionManager(oneConnection));
+
+        Integer id = caller.execute(status -> guarded.idOf("Safety Audit"));
+
+        assertThat(guarded.nameOf(id)).isEqualTo("Safety Audit");
+        assertThat(oneConnection.getAvailablePermits()).isEqualTo(1);
+    }
+
+    @Test
+    void unknownNamesAreRememberedUntilTheyAreAdded() {
+        assertThat(dictionary.find("Documentation")).isEmpty();
+        jdbcTemplate.update("INSERT INTO categories (name) VALUES ('Documentation')");
+        assertThat(dictionary.find("Documentation")).isEmpty();
+
+        Integer id = dictionary.idOf("Documentation");
+
+        assertThat(dictionary.find("Documentation")).contains(id);
+    }
+
+    @Test
+    void concurrentFirstUsesOfANameShareOneId() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Callable<Integer>> calls = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                calls.add(() -> dictionary.idOf("Material Data Update"));
+            }
+            HashSet<Integer> ids = new HashSet<>();
+            for (Future<Integer> result : executor.invokeAll(calls)) {
+                ids.add(result.get());
+            }
+
+            assertThat(ids).hasSize(1);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM categories WHERE name = 'Material Data Update'", Integer.class)).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.DomainEvent;
+import com.taskmanagement.event.DomainEventConsumer;
+import com.taskmanagement.event.DomainEventPipeline;
+import com.taskmanagement.event.TaskCreated;
+import com.taskmanagement.event.TaskUpdated;
+import com.taskmanagement.model.TaskPriority;
+import com.taskmanagement.model.TaskStatus;
+import com.taskmanagement.model.User;
+import com.taskmanagement.repository.TaskRepository;
+import com.taskmanagement.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AssignmentServiceTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TaskRepository taskRepository = mock(TaskRepository.class);
+    private final AssignmentService service = new AssignmentService(userRepository, taskRepository);
+    private DomainEventPipeline pipeline;
+
+    @AfterEach
+    void stop() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        if (pipeline != null) {
+            pipeline.stop();
+        }
+    }
+
+    @Test
+    void priorityChangeOfAnOpenTaskMovesTheLoad() {
+        givenDepartment(List.of(1L, 2L), List.<Object[]>of(
+                new Object[]{1L, TaskPriority.LOW, 1L},
+                new Object[]{2L, TaskPriority.MEDIUM, 1L}));
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+
+        service.onEvents(List.of(updated(1L, TaskStatus.TODO, TaskPriority.LOW, TaskPriority.CRITICAL)));
+
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(2L);
+    }
+
+    @Test
+    void priorityChangeOfACompletedTaskIsIgnored() {
+        givenDepartment(List.of(1L, 2L), List.<Object[]>of(new Object[]{2L, TaskPriority.LOW, 1L}));
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+
+        service.onEvents(List.of(updated(1L, TaskStatus.COMPLETED, TaskPriority.LOW, TaskPriority.CRITICAL)));
+
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+    }
+
+    @Test
+    void changesArrivingWhileTheHeapLoadsAreReplayedOnlyIfDispatchedAfterTheQueryStarted() throws Exception {
+        CountDownLatch counting = new CountDownLatch(1);
+        CountDownLatch releaseCount = new CountDownLatch(1);
+        CountDownLatch delivery = new CountDownLatch(1);
+        when(userRepository.findByDepartment("Engineering")).thenReturn(users(List.of(1L, 2L, 3L)));
+        when(taskRepository.countOpenTasksByUserAndPriority("Engineering")).thenAnswer(invocation -> {
+            counting.countDown();
+            releaseCount.await(5, TimeUnit.SECONDS);
+            return new ArrayList<Object[]>();
+        });
+        pipeline = startPipeline(delivery);
+
+        pipeline.publish(created(1L, false));  // Committed before the count query, so part of it
+        CompletableFuture<Long> first = CompletableFuture.supplyAsync(() -> service.findLeastLoaded("Engineering"));
+        assertThat(counting.await(5, TimeUnit.SECONDS)).isTrue();
+        pipeline.publish(created(2L, false));  // Committed after it started
+        delivery.countDown();
+        awaitProcessed(2);
+        releaseCount.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo(1L);
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+        // Loads are now 1 -> 2, 2 -> 2, 3 -> 4; the tie goes to the lower user ID
+        service.onEvents(List.of(created(3L, false), created(3L, false), created(1L, false)));
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+    }
+
+    @Test
+    void eventDispatchedBeforeTheCountButDeliveredAfterItIsNotAppliedTwice() throws Exception {
+        givenDepartment(List.of(1L, 2L), List.<Object[]>of(new Object[]{1L, TaskPriority.MEDIUM, 1L}));
+        CountDownLatch delivery = new CountDownLatch(1);
+        pipeline = startPipeline(delivery);
+
+        pipeline.publish(created(1L, false));
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(2L);
+        delivery.countDown();
+        awaitProcessed(1);
+
+        service.onEvents(List.of(created(2L, false)));
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+    }
+
+    @Test
+    void rolledBackAssignmentReleasesItsReservation() {
+        givenDepartment(List.of(1L, 2L), List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.assignLeastLoaded("Engineering", TaskPriority.MEDIUM)).isEqualTo(1L);
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(2L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+    }
+
+    @Test
+    void committedAssignmentIsSettledByItsEventAndChargedOnce() {
+        givenDepartment(List.of(1L, 2L), List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.assignLeastLoaded("Engineering", TaskPriority.MEDIUM)).isEqualTo(1L);
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        service.onEvents(List.of(created(1L, true)));
+
+        // Loads are now 1 -> 2, 2 -> 2
+        service.onEvents(List.of(created(2L, false)));
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);
+    }
+
+    @Test
+    void reservationLostToARebuildIsChargedByTheCommittedEvent() {
+        givenDepartment(List.of(1L, 2L), List.of());
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.assignLeastLoaded("Engineering", TaskPriority.MEDIUM)).isEqualTo(1L);
+        service.resetLoads();
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(1L);  // Rebuilt before the commit
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        service.onEvents(List.of(created(1L, true)));
+
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(2L);
+    }
+
+    @Test
+    void rollbackAfterARebuildLeavesTheRebuiltHeapAlone() {
+        when(userRepository.findByDepartment("Engineering")).thenReturn(users(List.of(1L, 2L)));
+        when(taskRepository.countOpenTasksByUserAndPriority("Engineering"))
+                .thenReturn(List.of())
+                .thenReturn(List.<Object[]>of(new Object[]{1L, TaskPriority.MEDIUM, 1L}));
+
+        TransactionSynchronizationManager.initSynchronization();
+        assertThat(service.assignLeastLoaded("Engineering", TaskPriority.MEDIUM)).isEqualTo(1L);
+        service.resetLoads();
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(2L);
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(service.findLeastLoaded("Engineering")).isEqualTo(2L);
+    }
+
+    private DomainEventPipeline startPipeline(CountDownLatch delivery) {
+        // Holds events back until delivery opens, like a consumer that has fallen behind
+        DomainEventConsumer delayed = new DomainEventConsumer() {
+            @Override
+            public String getName() {
+                return service.getName();
+            }
+
+            @Override
+            public boolean supports(DomainEvent event) {
+                return service.supports(event);
+            }
+
+            @Override
+            public void onEvents(List<DomainEvent> events) {
+                try {
+                    delivery.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                service.onEvents(events);
+            }
+        };
+        DomainEventPipeline started = new DomainEventPipeline(List.of(delayed), 16, 64, 500);
+        started.start();
+        return started;
+    }
+
+    private void awaitProcessed(long count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (pipeline.getStats().get(0).getProcessed() < count && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(10);
+        }
+        assertThat(pipeline.getStats().get(0).getProcessed()).isEqualTo(count);
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+
+    private void givenDepartment(List<Long> userIds, List<Object[]> openTasks) {
+        when(userRepository.findByDepartment("Engineering")).thenReturn(users(userIds));
+        when(taskRepository.countOpenTasksByUserAndPriority("Engineering")).thenReturn(openTasks);
+    }
+
+    private static List<User> users(List<Long> userIds) {
+        List<User> users = new ArrayList<>();
+        for (Long userId : userIds) {
+            User user = new User();
+            user.setId(userId);
+            user.setDepartment("Engineering");
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static TaskUpdated updated(Long userId, TaskStatus status, TaskPriority oldPriority, TaskPriority priority) {
+        return TaskUpdated.builder()
+                .taskId(10L).userId(userId).status(status)
+                .oldPriority(oldPriority).priority(priority)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private static TaskCreated created(Long userId, boolean autoAssigned) {
+        return TaskCreated.builder()
+                .taskId(11L).userId(userId).priority(TaskPriority.MEDIUM)
+                .autoAssigned(autoAssigned)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
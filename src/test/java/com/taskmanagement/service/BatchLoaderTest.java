@@ -0,0 +1,79 @@
+package com.taskmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BatchLoaderTest {
+
+    private final List<List<Long>> queried = new ArrayList<>();
+
+    /**
+     * Rows exist for even keys only; the row is the key as a string
+     */
+    private BatchLoader<Long, String> loader(int chunkSize) {
+        return new BatchLoader<>(this::evenRows, Long::valueOf, chunkSize);
+    }
+
+    private List<String> evenRows(Collection<Long> keys) {
+        queried.add(List.copyOf(keys));
+        return keys.stream().filter(key -> key % 2 == 0).map(String::valueOf).toList();
+    }
+
+    @Test
+    void loadsPendingKeysInChunks() {
+        BatchLoader<Long, String> loader = loader(2);
+        loader.addAll(List.of(2L, 4L, 6L, 8L, 10L));
+
+        loader.resolve();
+
+        assertThat(queried).containsExactly(List.of(2L, 4L), List.of(6L, 8L), List.of(10L));
+        assertThat(loader.getQueries()).isEqualTo(3);
+        assertThat(loader.get(6L)).contains("6");
+        assertThat(loader.getQueries()).isEqualTo(3);
+    }
+
+    @Test
+    void duplicateAndNullKeysAreLoadedOnceOrNotAtAll() {
+        BatchLoader<Long, String> loader = loader(10);
+        loader.add(2L);
+        loader.add(null);
+        loader.addAll(List.of(2L, 4L, 2L));
+
+        loader.resolve();
+
+        assertThat(queried).containsExactly(List.of(2L, 4L));
+    }
+
+    @Test
+    void missingRowsAreEmptyAndNotQueriedAgain() {
+        BatchLoader<Long, String> loader = loader(10);
+        loader.addAll(List.of(1L, 2L));
+
+        assertThat(loader.get(1L)).isEmpty();
+        assertThat(loader.get(1L)).isEmpty();
+        loader.add(1L);
+        loader.resolve();
+
+        assertThat(queried).containsExactly(List.of(1L, 2L));
+    }
+
+    @Test
+    void keysAddedAfterAResolveAreBatchedOnTheNextGet() {
+        BatchLoader<Long, String> loader = loader(10);
+        loader.add(2L);
+        loader.resolve();
+
+        // Keys discovered from loaded rows, requested together
+        loader.addAll(List.of(2L, 4L, 6L));
+        assertThat(loader.get(4L)).contains("4");
+        assertThat(loader.get(6L)).contains("6");
+
+        assertThat(queried).containsExactly(List.of(2L), List.of(4L, 6L));
+        assertThat(loader.getQueries()).isEqualTo(2);
+    }
+}
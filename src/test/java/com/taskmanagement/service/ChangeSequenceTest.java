@@ -0,0 +1,100 @@
+package com.taskmanagement.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChangeSequenceTest {
+
+    private EmbeddedDatabase database;
+    private TransactionTemplate transactionTemplate;
+    private ChangeSequence sequence;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+
+    @BeforeEach
+    void createTables() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        for (String table : new String[]{"tasks", "task_templates", "sync_tombstones"}) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT PRIMARY KEY, change_seq BIGINT)");
+        }
+        jdbcTemplate.update("INSERT INTO tasks (id, change_seq) VALUES (1, 40)");
+        jdbcTemplate.update("INSERT INTO sync_tombstones (id, change_seq) VALUES (1, 41)");
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        sequence = new ChangeSequence(database);
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdownNow();
+        database.shutdown();
+    }
+
+    @Test
+    void continuesAfterTheHighestStoredNumber() {
+        assertThat(sequence.safePoint()).isEqualTo(41);
+        assertThat(sequence.next()).isEqualTo(42);
+    }
+
+    @Test
+    void numbersOutsideATransactionCommitImmediately() {
+        long seq = sequence.next();
+
+        assertThat(sequence.safePoint()).isEqualTo(seq);
+    }
+
+    @Test
+    void openTransactionHoldsBackTheSafePointUntilItCommits() throws Exception {
+        CountDownLatch issued = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Future<Long> open = executor.submit(() -> transactionTemplate.execute(status -> {
+            long seq = sequence.next();
+            issued.countDown();
+            await(release);
+            return seq;
+        }));
+        issued.await(5, TimeUnit.SECONDS);
+
+        // A later write commits first; a sync must still not read past the open one
+        long later = transactionTemplate.execute(status -> sequence.next());
+        assertThat(sequence.safePoint()).isEqualTo(41);
+
+        release.countDown();
+        assertThat(open.get(5, TimeUnit.SECONDS)).isEqualTo(42);
+        assertThat(sequence.safePoint()).isEqualTo(later);
+    }
+
+    @Test
+    void rolledBackNumbersAreReleasedWithoutCountingAsCommitted() {
+        long committed = transactionTemplate.execute(status -> sequence.next());
+        transactionTemplate.executeWithoutResult(status -> {
+            sequence.next();
+            sequence.next();
+            status.setRollbackOnly();
+        });
+
+        assertThat(sequence.safePoint()).isEqualTo(committed);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.taskmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void splitsPlainRecordsAndKeepsEmptyFields() throws IOException {
+        assertThat(readAll("title,priority,category\nReport,HIGH,\n,,\n"))
+                .containsExactly(
+                        List.of("title", "priority", "category"),
+                        List.of("Report", "HIGH", ""),
+                        List.of("", "", ""));
+    }
+
+    @Test
+    void quotedFieldsMayHoldCommasLineBreaksAndQuotes() throws IOException {
+        assertThat(readAll("\"Audit, plant 2\",\"line one\nline two\",\"say \"\"hi\"\"\"\n"))
+                .containsExactly(List.of("Audit, plant 2", "line one\nline two", "say \"hi\""));
+    }
+
+    @Test
+    void handlesCrLfBlankLinesAndAMissingFinalNewline() throws IOException {
+        assertThat(readAll("a,b\r\n\r\n\nc,\"\"\r\nd,e"))
+                .containsExactly(List.of("a", "b"), List.of("c", ""), List.of("d", "e"));
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(readAll("")).isEmpty();
+        assertThat(readAll("\n\r\n")).isEmpty();
+    }
+
+    @Test
+    void unterminatedQuoteIsRejected() {
+        assertThatThrownBy(() -> readAll("ok\n\"never closed,x\n"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unterminated quoted field");
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
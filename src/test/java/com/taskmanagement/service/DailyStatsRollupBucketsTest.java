@@ -0,0 +1,80 @@
+package com.taskmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DailyStatsRollupBucketsTest {
+
+    private static final LocalDate FROM = LocalDate.of(2024, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2024, 1, 5);
+
+    private final DailyStatsRollup.Buckets buckets = new DailyStatsRollup.Buckets(FROM, TO);
+
+    @Test
+    void taskIsOpenFromCreationUntilCompletionAndOverdueAfterItsDueDate() {
+        buckets.add(1L, "Inspection", day(2), day(4), day(2));
+
+        // day, user, category, created, completed, open, overdue
+        assertThat(drain()).containsExactly(
+                row(2, 1L, "Inspection", 1, 0, 1, 0),
+                row(3, 1L, "Inspection", 0, 0, 1, 1),
+                row(4, 1L, "Inspection", 0, 1, 0, 0));
+    }
+
+    @Test
+    void tasksOverlappingTheWindowAreClampedToIt() {
+        // Created before the window and still open; due inside it
+        buckets.add(1L, "", FROM.minusDays(10), null, day(3));
+        // Completed after the window
+        buckets.add(1L, "", day(5), TO.plusDays(3), null);
+
+        assertThat(drain()).containsExactly(
+                row(1, 1L, "", 0, 0, 1, 0),
+                row(2, 1L, "", 0, 0, 1, 0),
+                row(3, 1L, "", 0, 0, 1, 0),
+                row(4, 1L, "", 0, 0, 1, 1),
+                row(5, 1L, "", 1, 0, 2, 1));
+    }
+
+    @Test
+    void completedOnCreationCountsWithoutBeingOpen() {
+        buckets.add(1L, "Planning", day(1), day(1), day(1));
+
+        assertThat(drain()).containsExactly(row(1, 1L, "Planning", 1, 1, 0, 0));
+    }
+
+    @Test
+    void countsAreKeptPerUserAndCategoryAndClearedOnDrain() {
+        buckets.add(1L, "Planning", day(5), null, null);
+        buckets.add(1L, "Planning", day(5), null, null);
+        buckets.add(1L, "Training", day(5), null, null);
+        buckets.add(2L, "Planning", day(5), null, null);
+
+        assertThat(drain()).containsExactlyInAnyOrder(
+                row(5, 1L, "Planning", 2, 0, 2, 0),
+                row(5, 1L, "Training", 1, 0, 1, 0),
+                row(5, 2L, "Planning", 1, 0, 1, 0));
+        assertThat(drain()).isEmpty();
+    }
+
+    private List<List<Object>> drain() {
+        List<List<Object>> rows = new ArrayList<>();
+        buckets.drainTo(row -> rows.add(List.of(row)));
+        return rows;
+    }
+
+    private static LocalDate day(int dayOfMonth) {
+        return FROM.withDayOfMonth(dayOfMonth);
+    }
+
+    private static List<Object> row(int dayOfMonth, long userId, String category,
+                                    int created, int completed, int open, int overdue) {
+        return List.of(Date.valueOf(day(dayOfMonth)), userId, category, created, completed, open, overdue);
+    }
+}
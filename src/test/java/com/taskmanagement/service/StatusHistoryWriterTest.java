@@ -0,0 +1,139 @@
+package com.taskmanagement.service;
+
+import com.taskmanagement.event.ChangeSource;
+import com.taskmanagement.event.DomainEvent;
+import com.taskmanagement.event.TaskStatusChanged;
+import com.taskmanagement.model.TaskStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StatusHistoryWriterTest {
+
+    private static final String CREATE_TABLE =
+            "CREATE TABLE task_status_history (id BIGINT AUTO_INCREMENT PRIMARY KEY, task_id BIGINT NOT NULL, " +
+            "user_id BIGINT NOT NULL, category VARCHAR(100), from_status VARCHAR(50), to_status VARCHAR(50) NOT NULL, " +
+            "source VARCHAR(50) NOT NULL, changed_at TIMESTAMP NOT NULL)";
+
+    private EmbeddedDatabase database;
+    private JdbcTemplate jdbcTemplate;
+    private MeterRegistry meterRegistry;
+
+    @BeforeEach
+    void createTable() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute(CREATE_TABLE);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void shutdown() {
+        database.shutdown();
+    }
+
+    @Test
+    void rowRejectedByTheDatabaseIsDroppedAndTheRestWritten() {
+        StatusHistoryWriter writer = writer(10, 3);
+        writer.onEvents(List.of(changed(1L, "Reporting"), changed(2L, "x".repeat(101)), changed(3L, "Reporting")));
+
+        writer.flush();
+
+        assertThat(taskIds()).containsExactly(1L, 3L);
+        assertThat(dropped()).isEqualTo(1);
+        assertThat(writer.getBuffered()).isZero();
+    }
+
+    @Test
+    void failedBatchLeavesNoPartialRows() {
+        StatusHistoryWriter writer = writer(10, 3);
+        jdbcTemplate.execute("ALTER TABLE task_status_history ADD CONSTRAINT ck_task CHECK (task_id <> 2)");
+        writer.onEvents(List.of(changed(1L, null), changed(2L, null), changed(3L, null)));
+
+        writer.flush();
+
+        // Rows 1 and 3 written once: the batch rolled back before they were written one by one
+        assertThat(taskIds()).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void rowsAreKeptWhileTheDatabaseFailsAndDroppedAfterMaxAttempts() {
+        StatusHistoryWriter writer = writer(10, 2);
+        writer.onEvents(List.of(changed(1L, null), changed(2L, null)));
+        jdbcTemplate.execute("ALTER TABLE task_status_history RENAME TO history_away");
+
+        writer.flush();
+        assertThat(writer.getBuffered()).isEqualTo(2);
+        assertThat(dropped()).isZero();
+
+        jdbcTemplate.execute("ALTER TABLE history_away RENAME TO task_status_history");
+        writer.onEvents(List.of(changed(3L, null)));
+        writer.flush();
+        assertThat(taskIds()).containsExactly(1L, 2L, 3L);
+
+        writer.onEvents(List.of(changed(4L, null)));
+        jdbcTemplate.execute("ALTER TABLE task_status_history RENAME TO history_away");
+        writer.flush();
+        writer.flush();
+        assertThat(writer.getBuffered()).isZero();
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void bufferBeyondMaxBufferedDropsNewTransitions() {
+        StatusHistoryWriter writer = writer(2, 3);
+        writer.onEvents(List.of(changed(1L, null), changed(2L, null), changed(3L, null)));
+
+        assertThat(writer.getBuffered()).isEqualTo(2);
+        assertThat(dropped()).isEqualTo(1);
+    }
+
+    @Test
+    void transitionToTheSameStatusIsNotRecorded() {
+        StatusHistoryWriter writer = writer(10, 3);
+        DomainEvent unchanged = TaskStatusChanged.builder()
+                .taskId(1L).userId(1L).oldStatus(TaskStatus.IN_PROGRESS).newStatus(TaskStatus.IN_PROGRESS)
+                .source(ChangeSource.API).occurredAt(LocalDateTime.now()).build();
+
+        assertThat(writer.supports(unchanged)).isFalse();
+        assertThat(writer.supports(changed(1L, null))).isTrue();
+    }
+
+    private StatusHistoryWriter writer(int maxBuffered, int maxAttempts) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(database));
+        return new StatusHistoryWriter(jdbcTemplate, transactionTemplate, meterRegistry, 500, maxBuffered, maxAttempts);
+    }
+
+    private List<Long> taskIds() {
+        return jdbcTemplate.queryForList("SELECT task_id FROM task_status_history ORDER BY task_id", Long.class);
+    }
+
+    private double dropped() {
+        return meterRegistry.get("taskmanagement.history.dropped").counter().count();
+    }
+
+    private static TaskStatusChanged changed(Long taskId, String category) {
+        return TaskStatusChanged.builder()
+                .taskId(taskId)
+                .userId(1L)
+                .oldStatus(TaskStatus.TODO)
+                .newStatus(TaskStatus.IN_PROGRESS)
+                .category(category)
+                .source(ChangeSource.API)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
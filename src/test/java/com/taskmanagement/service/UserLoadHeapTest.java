@@ -0,0 +1,95 @@
+package com.taskmanagement.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserLoadHeapTest {
+
+    @Test
+    void peeksTheLeastLoadedUserAndBreaksTiesByUserId() {
+        UserLoadHeap heap = new UserLoadHeap();
+        heap.add(3L, 5);
+        heap.add(2L, 1);
+        heap.add(1L, 1);
+
+        assertThat(heap.peekUserId()).isEqualTo(1L);
+
+        heap.adjust(1L, 10);
+        assertThat(heap.peekUserId()).isEqualTo(2L);
+
+        heap.adjust(3L, -5);
+        assertThat(heap.peekUserId()).isEqualTo(3L);
+    }
+
+    @Test
+    void loadNeverDropsBelowZero() {
+        UserLoadHeap heap = new UserLoadHeap();
+        heap.add(1L, 2);
+
+        heap.adjust(1L, -5);
+
+        assertThat(heap.loadOf(1L)).isZero();
+    }
+
+    @Test
+    void reservationsAreEitherReleasedOrSettledOnce() {
+        UserLoadHeap heap = new UserLoadHeap();
+        heap.add(1L, 0);
+
+        heap.reserve(1L, 2);
+        heap.reserve(1L, 3);
+        heap.release(1L, 3);
+        assertThat(heap.loadOf(1L)).isEqualTo(2);
+
+        assertThat(heap.settle(1L, 2)).isTrue();
+        assertThat(heap.settle(1L, 2)).isFalse();
+        heap.release(1L, 2);
+        assertThat(heap.loadOf(1L)).isEqualTo(2);
+        assertThat(heap.reservedFor(1L)).isZero();
+    }
+
+    @Test
+    void unknownUsersAreIgnoredAndReAddingReplacesTheLoad() {
+        UserLoadHeap heap = new UserLoadHeap();
+        heap.add(1L, 4);
+
+        heap.adjust(99L, 7);
+        heap.add(1L, 2);
+
+        assertThat(heap.contains(99L)).isFalse();
+        assertThat(heap.size()).isEqualTo(1);
+        assertThat(heap.loadOf(1L)).isEqualTo(2);
+    }
+
+    @Test
+    void matchesALinearScanUnderRandomAdjustments() {
+        Random random = new Random(42);
+        UserLoadHeap heap = new UserLoadHeap();
+        Map<Long, Long> loads = new HashMap<>();
+        for (long userId = 1; userId <= 50; userId++) {
+            long load = random.nextInt(20);
+            heap.add(userId, load);
+            loads.put(userId, load);
+        }
+
+        for (int i = 0; i < 5_000; i++) {
+            long userId = 1 + random.nextInt(50);
+            long delta = random.nextInt(11) - 5;
+            heap.adjust(userId, delta);
+            loads.merge(userId, delta, (load, d) -> Math.max(0, load + d));
+
+            long expected = loads.entrySet().stream()
+                    .min(Map.Entry.<Long, Long>comparingByValue().thenComparing(Map.Entry.comparingByKey(Comparator.naturalOrder())))
+                    .orElseThrow()
+                    .getKey();
+            assertThat(heap.peekUserId()).isEqualTo(expected);
+            assertThat(heap.loadOf(userId)).isEqualTo(loads.get(userId));
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package db.migration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.flywaydb.core.api.MigrationState;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs db/migration on H2 in MySQL mode, configured like application.properties
+ */
+class MigrationsTest {
+
+    private static final List<String> HEAD_TABLES = List.of("users", "tasks", "task_templates", "categories",
+            "task_details", "task_status_history", "completion_time_sketches", "task_daily_stats", "sync_tombstones");
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private Flyway flyway;
+
+    @BeforeEach
+    void createDatabase() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:migrations;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        flyway = Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .load();
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void emptyDatabaseMigratesToHead() {
+        flyway.migrate();
+
+        assertThat(appliedVersions()).containsExactly("1", "1.1", "1.2", "1.3", "2", "3", "4", "5", "5.1");
+        assertThat(tables()).containsAll(HEAD_TABLES);
+        assertThat(indexes("tasks")).contains("idx_tasks_user_change", "idx_tasks_status_completed")
+                .doesNotContain("idx_tasks_status");
+    }
+
+    @Test
+    void preSeriesDatabaseIsBaselinedAndMigratedToHead() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/pre-series-schema.sql")).execute(dataSource);
+
+        flyway.migrate();
+
+        MigrationInfo baseline = flyway.info().applied()[0];
+        assertThat(baseline.getState()).isEqualTo(MigrationState.BASELINE);
+        assertThat(appliedVersions()).containsExactly("1", "1.1", "1.2", "1.3", "2", "3", "4", "5", "5.1");
+        assertThat(tables()).containsAll(HEAD_TABLES);
+        assertThat(columns("task_templates")).contains("auto_assign_department", "category_id", "change_seq")
+                .doesNotContain("category");
+
+        // Categories become dictionary IDs, enum names one-byte codes, descriptions move to task_details
+        Map<String, Integer> categoryIds = categoryIds();
+        assertThat(categoryIds).containsOnlyKeys("Daily Reporting", "Material Data Update");
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT status, priority, recurrence_type, category_id, details_id, change_seq FROM tasks ORDER BY id"))
+                .extracting(row -> Arrays.asList(row.values().toArray()))
+                .containsExactly(
+                        Arrays.asList(2, 2, 1, categoryIds.get("Daily Reporting"), 1L, 1L),
+                        Arrays.asList(0, 3, 0, categoryIds.get("Material Data Update"), null, 2L),
+                        Arrays.asList(3, 0, null, null, null, 3L));
+        assertThat(jdbcTemplate.queryForObject("SELECT description FROM task_details WHERE id = 1", String.class))
+                .isEqualTo("Numbers for Monday");
+        assertThat(jdbcTemplate.queryForMap("SELECT priority, recurrence_type, category_id FROM task_templates"))
+                .containsValues(2, 1, categoryIds.get("Daily Reporting"));
+    }
+
+    private List<String> appliedVersions() {
+        return Arrays.stream(flyway.info().applied()).map(info -> info.getVersion().getVersion()).toList();
+    }
+
+    private List<String> tables() {
+        return jdbcTemplate.queryForList(
+                "SELECT table_name FROM information_schema.tables WHERE table_schema = 'public'", String.class);
+    }
+
+    private List<String> columns(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT column_name FROM information_schema.columns WHERE table_name = ?", String.class, table);
+    }
+
+    private List<String> indexes(String table) {
+        return jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = ?", String.class, table);
+    }
+
+    private Map<String, Integer> categoryIds() {
+        return jdbcTemplate.query("SELECT id, name FROM categories", rs -> {
+            Map<String, Integer> ids = new HashMap<>();
+            while (rs.next()) {
+                ids.put(rs.getString("name"), rs.getInt("id"));
+            }
+            return ids;
+        });
+    }
+}
@@ -0,0 +1,68 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class V5_1__Drop_superseded_user_indexesTest {
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createTables() {
+        dataSource = new SingleConnectionDataSource("jdbc:h2:mem:v5_1;MODE=MySQL;DATABASE_TO_LOWER=TRUE", true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE tasks (id BIGINT PRIMARY KEY, user_id BIGINT, change_seq BIGINT)");
+        jdbcTemplate.execute("CREATE TABLE task_templates (id BIGINT PRIMARY KEY, user_id BIGINT, change_seq BIGINT)");
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_user_change ON tasks(user_id, change_seq)");
+        jdbcTemplate.execute("CREATE INDEX idx_templates_user_change ON task_templates(user_id, change_seq)");
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+        dataSource.destroy();
+    }
+
+    @Test
+    void dropsTheSupersededIndexesWhereTheyExist() throws Exception {
+        jdbcTemplate.execute("CREATE INDEX idx_tasks_user ON tasks(user_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_templates_user ON task_templates(user_id)");
+
+        migrate();
+
+        assertThat(indexNames()).contains("idx_tasks_user_change", "idx_templates_user_change")
+                .doesNotContain("idx_tasks_user", "idx_templates_user");
+    }
+
+    @Test
+    void succeedsOnBaselinedSchemasWithoutThem() throws Exception {
+        migrate();
+
+        assertThat(indexNames()).contains("idx_tasks_user_change", "idx_templates_user_change");
+    }
+
+    private void migrate() throws Exception {
+        Context context = mock(Context.class);
+        Connection connection = dataSource.getConnection();
+        when(context.getConnection()).thenReturn(connection);
+        new V5_1__Drop_superseded_user_indexes().migrate(context);
+    }
+
+    private List<String> indexNames() {
+        return jdbcTemplate.queryForList(
+                "SELECT LOWER(index_name) FROM information_schema.indexes WHERE LOWER(table_name) IN ('tasks', 'task_templates')",
+                String.class);
+    }
+}
@@ -0,0 +1,42 @@
+-- Dataset for the query-budget tests (H2 only), sized by the Flyway placeholders
+-- ${users} users (every 50th a manager), ${tasks} tasks and ${templates} templates spread across them
+
+INSERT INTO users (name, email, password, department, designation, employee_id, email_digest_enabled, created_at)
+SELECT 'User ' || X, 'user' || X || '@example.com', 'x',
+       CASE MOD(X, 3) WHEN 0 THEN 'Engineering' WHEN 1 THEN 'Operations' ELSE 'Quality' END,
+       CASE MOD(X, 50) WHEN 0 THEN 'Manager' ELSE 'Engineer' END, 'EMP' || X, MOD(X, 2) = 0, CURRENT_TIMESTAMP
+FROM SYSTEM_RANGE(1, ${users});
+
+INSERT INTO categories (name) VALUES ('Material Data Update'), ('Daily Reporting'), ('Documentation');
+
+-- Codes: status TODO=0 IN_PROGRESS=1 COMPLETED=2; priority LOW=0 MEDIUM=1 HIGH=2 CRITICAL=3;
+-- recurrence NONE=0 DAILY=1 WEEKLY=2 MONTHLY=3
+
+-- Descriptions live in task_details; the empty table numbers them 1..${tasks}, so task X gets row X
+INSERT INTO task_details (description)
+SELECT 'Seeded task ' || X
+FROM SYSTEM_RANGE(1, ${tasks})
+ORDER BY X;
+
+INSERT INTO tasks (user_id, title, details_id, status, priority, due_date, created_at, completed_at,
+                   is_recurring, recurrence_type, reminder_sent, category_id)
+SELECT MOD(X, ${users}) + 1, 'Task ' || X, X,
+       CASE MOD(X, 4) WHEN 0 THEN 0 WHEN 1 THEN 1 WHEN 2 THEN 2 ELSE 0 END,
+       CASE MOD(X, 5) WHEN 0 THEN 0 WHEN 1 THEN 1 WHEN 2 THEN 2 WHEN 3 THEN 3 ELSE 1 END,
+       DATEADD('DAY', MOD(X, 21) - 10, CURRENT_DATE),
+       DATEADD('DAY', -30, CURRENT_TIMESTAMP),
+       CASE MOD(X, 4) WHEN 2 THEN DATEADD('DAY', -1, CURRENT_TIMESTAMP) ELSE NULL END,
+       FALSE, 0, MOD(X, 7) <> 0,
+       (SELECT c.id FROM categories c WHERE c.name =
+           CASE MOD(X, 3) WHEN 0 THEN 'Material Data Update' WHEN 1 THEN 'Daily Reporting' ELSE 'Documentation' END)
+FROM SYSTEM_RANGE(1, ${tasks})
+ORDER BY X;
+
+INSERT INTO task_templates (user_id, title, description, priority, recurrence_type, day_of_week, day_of_month,
+                            days_to_complete, category_id, is_active, last_generated)
+SELECT MOD(X, ${users}) + 1, 'Template ' || X, 'Seeded template ' || X, 1,
+       MOD(X, 3) + 1,
+       ISO_DAY_OF_WEEK(CURRENT_DATE), DAY_OF_MONTH(CURRENT_DATE),
+       2, (SELECT c.id FROM categories c WHERE c.name = 'Daily Reporting'), TRUE, DATEADD('DAY', -2, CURRENT_TIMESTAMP)
+FROM SYSTEM_RANGE(1, ${templates})
+ORDER BY X;
@@ -0,0 +1,72 @@
+-- Schema and a few rows as Hibernate's ddl-auto=update created them from the baseline entities
+-- (MySQLDialect): generated constraint names, native enum columns and none of the named indexes
+-- in V1. Databases like this are baselined at V1 and migrated from there.
+
+CREATE TABLE users (
+    created_at DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    department VARCHAR(255),
+    designation VARCHAR(255),
+    email VARCHAR(255) NOT NULL,
+    employee_id VARCHAR(255),
+    name VARCHAR(255) NOT NULL,
+    password VARCHAR(255) NOT NULL,
+    email_digest_enabled BIT,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE task_templates (
+    day_of_month INTEGER,
+    day_of_week INTEGER,
+    days_to_complete INTEGER,
+    is_active BIT,
+    schedule_time TIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    last_generated DATETIME(6),
+    user_id BIGINT NOT NULL,
+    description VARCHAR(1000),
+    category VARCHAR(255),
+    cron_expression VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    priority ENUM('LOW','MEDIUM','HIGH','CRITICAL') NOT NULL,
+    recurrence_type ENUM('NONE','DAILY','WEEKLY','MONTHLY') NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE tasks (
+    due_date DATE,
+    is_recurring BIT,
+    reminder_sent BIT,
+    completed_at DATETIME(6),
+    created_at DATETIME(6),
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    template_id BIGINT,
+    user_id BIGINT NOT NULL,
+    description VARCHAR(1000),
+    category VARCHAR(255),
+    title VARCHAR(255) NOT NULL,
+    priority ENUM('LOW','MEDIUM','HIGH','CRITICAL') NOT NULL,
+    recurrence_type ENUM('NONE','DAILY','WEEKLY','MONTHLY'),
+    status ENUM('TODO','IN_PROGRESS','COMPLETED','OVERDUE') NOT NULL,
+    PRIMARY KEY (id)
+);
+
+ALTER TABLE users ADD CONSTRAINT UK_6dotkott2kjsp8vw4d0m25fb7 UNIQUE (email);
+ALTER TABLE task_templates ADD CONSTRAINT FKhu5hlcuyfq6c0kq4pxu5v0o0u FOREIGN KEY (user_id) REFERENCES users (id);
+ALTER TABLE tasks ADD CONSTRAINT FKmksgtf3ej0k1x0wjtbhkk4c4t FOREIGN KEY (template_id) REFERENCES task_templates (id);
+ALTER TABLE tasks ADD CONSTRAINT FK6s1ob9k4ihi75xbxe2w0ylsdh FOREIGN KEY (user_id) REFERENCES users (id);
+
+INSERT INTO users (id, name, email, password, department, created_at, email_digest_enabled)
+VALUES (1, 'Asha', 'asha@example.com', 'x', 'Operations', '2024-01-02 09:00:00', TRUE);
+
+INSERT INTO task_templates (id, user_id, title, priority, recurrence_type, category, is_active, days_to_complete)
+VALUES (1, 1, 'Daily report', 'HIGH', 'DAILY', 'Daily Reporting', TRUE, 1);
+
+INSERT INTO tasks (id, user_id, title, description, status, priority, recurrence_type, category, template_id,
+                   created_at, completed_at, is_recurring, reminder_sent)
+VALUES (1, 1, 'Report 1', 'Numbers for Monday', 'COMPLETED', 'HIGH', 'DAILY', 'Daily Reporting', 1,
+        '2024-01-08 09:00:00', '2024-01-08 17:00:00', TRUE, FALSE),
+       (2, 1, 'Update materials', NULL, 'TODO', 'CRITICAL', 'NONE', 'Material Data Update', NULL,
+        '2024-01-09 09:00:00', NULL, FALSE, FALSE),
+       (3, 1, 'Loose end', NULL, 'OVERDUE', 'LOW', NULL, NULL, NULL,
+        '2024-01-03 09:00:00', NULL, FALSE, TRUE);